@@ -0,0 +1,164 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 탈퇴 회원 데이터 삭제 — 트랜잭션 1개 + 전체 IN 목록(이전) vs id keyset 청크 + 청크별 커밋(MemberHardDeleteTx)
+ * - H2 메모리 DB에 회원 1명의 스티커 100k행(일기 20k행 × 5)을 매 회 새로 적재 (다른 회원 행도 함께 둠)
+ * - SQL은 StickerRepository/DiaryRepository 쿼리와 같은 모양 (JPA 오버헤드 제외)
+ * - 전체 소요 시간은 JMH 결과, 가장 긴 트랜잭션(락 유지 시간)은 회마다 출력
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MemberPurgeBenchmark {
+
+    private static final long MEMBER_ID = 1L;
+    private static final long OTHER_MEMBER_ID = 2L;
+    private static final int STICKERS_PER_DIARY = 5;
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    private Connection conn;
+    private long longestTxNanos;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:purge;DB_CLOSE_DELAY=-1");
+        try (Statement st = conn.createStatement()) {
+            st.execute("create table diary (id bigint auto_increment primary key, member_id bigint not null, title varchar(50))");
+            st.execute("create index idx_diary_member on diary (member_id, id)");
+            st.execute("create table sticker (id bigint auto_increment primary key, "
+                    + "diary_id bigint not null references diary (id), image_url varchar(200))");
+            st.execute("create index idx_sticker_diary on sticker (diary_id)");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void seed() throws SQLException {
+        conn.setAutoCommit(true);
+        try (Statement st = conn.createStatement()) {
+            st.execute("delete from sticker");
+            st.execute("delete from diary");
+        }
+        insert(MEMBER_ID, rows / STICKERS_PER_DIARY);
+        insert(OTHER_MEMBER_ID, rows / STICKERS_PER_DIARY / 10);
+        longestTxNanos = 0;
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("select count(*) from sticker s join diary d on s.diary_id = d.id where d.member_id = " + MEMBER_ID)) {
+            rs.next();
+            if (rs.getLong(1) != 0) throw new IllegalStateException("rows left: " + rs.getLong(1));
+        }
+        System.out.printf("%n[member-purge] longest transaction=%dms%n", TimeUnit.NANOSECONDS.toMillis(longestTxNanos));
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        conn.close();
+    }
+
+    /** 이전: 회원 일기 id 전부 조회 → 스티커 IN(전체) 삭제 → 일기 삭제, 한 트랜잭션 */
+    @Benchmark
+    public void singleTransaction() throws SQLException {
+        long start = System.nanoTime();
+        conn.setAutoCommit(false);
+        List<Long> diaryIds = select("select id from diary where member_id = ?", MEMBER_ID);
+        deleteIn("delete from sticker where diary_id in ", diaryIds);
+        try (PreparedStatement ps = conn.prepareStatement("delete from diary where member_id = ?")) {
+            ps.setLong(1, MEMBER_ID);
+            ps.executeUpdate();
+        }
+        conn.commit();
+        longestTxNanos = System.nanoTime() - start;
+    }
+
+    /** 현재: 스티커 → 일기 순서로 id keyset 청크 삭제, 청크마다 커밋 */
+    @Benchmark
+    public void chunked() throws SQLException {
+        conn.setAutoCommit(false);
+        purge("select s.id from sticker s join diary d on s.diary_id = d.id "
+                + "where d.member_id = ? and s.id > ? order by s.id limit ?", "delete from sticker where id in ");
+        purge("select id from diary where member_id = ? and id > ? order by id limit ?", "delete from diary where id in ");
+    }
+
+    private void purge(String selectSql, String deleteSql) throws SQLException {
+        long afterId = 0L;
+        while (true) {
+            long start = System.nanoTime();
+            List<Long> ids = select(selectSql, MEMBER_ID, afterId, chunkSize);
+            if (!ids.isEmpty()) deleteIn(deleteSql, ids);
+            conn.commit();
+            longestTxNanos = Math.max(longestTxNanos, System.nanoTime() - start);
+            if (ids.size() < chunkSize) return;
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void insert(long memberId, int diaries) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "insert into diary (member_id, title) select ?, 'diary' from system_range(1, ?)")) {
+            ps.setLong(1, memberId);
+            ps.setInt(2, diaries);
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = conn.prepareStatement(
+                "insert into sticker (diary_id, image_url) select d.id, 'stickers/a.png' "
+                        + "from diary d, system_range(1, ?) where d.member_id = ?")) {
+            ps.setInt(1, STICKERS_PER_DIARY);
+            ps.setLong(2, memberId);
+            ps.executeUpdate();
+        }
+    }
+
+    private List<Long> select(String sql, long... params) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) ps.setLong(i + 1, params[i]);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) ids.add(rs.getLong(1));
+                return ids;
+            }
+        }
+    }
+
+    private void deleteIn(String sqlPrefix, List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) return;
+        String placeholders = "?" + ",?".repeat(ids.size() - 1);
+        try (PreparedStatement ps = conn.prepareStatement(sqlPrefix + "(" + placeholders + ")")) {
+            for (int i = 0; i < ids.size(); i++) ps.setLong(i + 1, ids.get(i));
+            ps.executeUpdate();
+        }
+    }
+}
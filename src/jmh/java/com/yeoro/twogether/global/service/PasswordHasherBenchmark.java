@@ -0,0 +1,63 @@
+package com.yeoro.twogether.global.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 비밀번호 확인 처리량 — 요청 스레드에서 직접 BCrypt vs PasswordHasher 실행기
+ * - 서블릿 스레드 32개가 동시에 로그인하는 상황 (@Threads)
+ * - 실행기 대기 한도는 넉넉하게 — 거절 없이 처리량/지연만 비교 (거절 동작은 PasswordHasherTest)
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PasswordHasherBenchmark {
+
+    private static final String RAW = "correct-horse-battery-staple";
+
+    private PasswordEncoder encoder;
+    private PasswordHasher hasher;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // SecurityConfig와 같은 기본 강도(10)
+        encoder = new BCryptPasswordEncoder();
+        encoded = encoder.encode(RAW);
+        hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 0, 1024, 60_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean loginDirect() {
+        return encoder.matches(RAW, encoded);
+    }
+
+    @Benchmark
+    public boolean loginViaExecutor() {
+        return hasher.matches(RAW, encoded);
+    }
+}
@@ -0,0 +1,192 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 업로드 힙 사용량 — byte[] 전체 적재(이전) vs 임시 파일 스풀(S3Uploader)
+ * - 요청 스레드 8개가 각각 sizeMb 크기 이미지를 해시 후 업로드
+ * - S3 전송은 본문 스트림을 끝까지 읽고 버리는 클라이언트로 대체 (네트워크 제외)
+ * - 업로드 본문은 메모리에 올리지 않는 스트림 — 디스크의 multipart 임시 파일을 읽는 실제 요청과 같은 조건
+ * - 실행: ./gradlew jmh (gc 프로파일러 — gc.alloc.rate.norm이 업로드 1건당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class S3UploaderBenchmark {
+
+    private static final String BUCKET = "twogether-private";
+    private static final String KEY = MediaStore.keyOf("a".repeat(64));
+
+    @Param({"10"})
+    public int sizeMb;
+
+    private S3Client s3;
+    private S3Uploader uploader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        s3 = new DrainingS3Client();
+        AwsProperties aws = new AwsProperties(null, "ap-northeast-2",
+                new AwsProperties.S3("public", BUCKET, "highlights/", null, null, null));
+        uploader = new S3Uploader(s3, aws, new SimpleMeterRegistry(), "", 16L * 1024 * 1024, 8L * 1024 * 1024);
+    }
+
+    @Benchmark
+    public String byteArray() throws IOException {
+        // 이전 경로: getBytes → 해시 → RequestBody.fromBytes(복사본 1개 더)
+        byte[] bytes = upload().getBytes();
+        String sha256 = HexFormat.of().formatHex(sha256().digest(bytes));
+        s3.putObject(PutObjectRequest.builder()
+                .bucket(BUCKET)
+                .key(KEY)
+                .contentType("image/jpeg")
+                .contentLength((long) bytes.length)
+                .build(), RequestBody.fromBytes(bytes));
+        return sha256;
+    }
+
+    @Benchmark
+    public String spooled() throws IOException {
+        try (S3Uploader.Spooled file = uploader.spool(upload())) {
+            uploader.put(KEY, "image/jpeg", file);
+            return file.sha256();
+        }
+    }
+
+    private MultipartFile upload() {
+        return new GeneratedMultipartFile((long) sizeMb * 1024 * 1024);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 고정 버퍼를 반복해 size 바이트를 내보내는 업로드 (본문 전체를 메모리에 두지 않음) */
+    private static final class GeneratedMultipartFile implements MultipartFile {
+
+        private static final byte[] PATTERN = new byte[8192];
+
+        static {
+            for (int i = 0; i < PATTERN.length; i++) PATTERN[i] = (byte) (i * 31);
+        }
+
+        private final long size;
+
+        private GeneratedMultipartFile(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    if (remaining <= 0) return -1;
+                    return PATTERN[(int) (--remaining % PATTERN.length)] & 0xff;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining <= 0) return -1;
+                    int n = (int) Math.min(Math.min(len, remaining), PATTERN.length);
+                    System.arraycopy(PATTERN, 0, b, off, n);
+                    remaining -= n;
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            try (InputStream in = getInputStream()) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "image";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.jpg";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /** putObject 본문을 끝까지 읽고 버림 */
+    private static final class DrainingS3Client implements S3Client {
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 응답 1회분(keys개) presign — SDK S3Presigner vs SigV4Presigner 일괄 서명
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SigV4PresignerBenchmark {
+
+    private static final String BUCKET = "twogether-private";
+    private static final Duration TTL = Duration.ofHours(3);
+
+    @Param({"1", "20", "100"})
+    public int keys;
+
+    private S3Presigner sdk;
+    private SigV4Presigner sigv4;
+    private List<String> objectKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sdk = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY")))
+                .build();
+        AwsProperties aws = new AwsProperties(
+                new AwsProperties.Credentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"),
+                "ap-northeast-2",
+                new AwsProperties.S3("public", BUCKET, "highlights/", null, null, null));
+        sigv4 = new SigV4Presigner(sdk, aws, new SimpleMeterRegistry());
+        if (!sigv4.isEnabled()) {
+            throw new IllegalStateException("sigv4 self-check failed");
+        }
+        objectKeys = IntStream.range(0, keys)
+                .mapToObj(i -> MediaStore.keyOf(String.format("%064x", i)))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sdk.close();
+    }
+
+    @Benchmark
+    public void sdkPresigner(Blackhole bh) {
+        for (String key : objectKeys) {
+            bh.consume(sdk.presignGetObject(b -> b
+                            .signatureDuration(TTL)
+                            .getObjectRequest(g -> g.bucket(BUCKET).key(key)))
+                    .url()
+                    .toString());
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> sigv4Batch() {
+        return sigv4.presignGetAll(objectKeys, TTL);
+    }
+}
@@ -0,0 +1,90 @@
+package com.yeoro.twogether.global.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 — 호출마다 키/파서 생성(이전) vs 기동 시 1회 생성(JwtService)
+ * - 요청 스레드 여러 개가 동시에 호출하는 상황 (@Threads)
+ * - Redis 에포크 조회/폐기 캐시는 제외하고 서명/파싱 비용만 비교
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_HEX = "9f2c4b7e1a3d5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8";
+    private static final long EXPIRATION_MS = 30 * 60 * 1000L;
+    private static final Long MEMBER_ID = 42L;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        signingKey = Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET_HEX));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        token = issue(signingKey);
+    }
+
+    @Benchmark
+    public String issuePerCallKey() {
+        return issue(Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET_HEX)));
+    }
+
+    @Benchmark
+    public String issuePrebuiltKey() {
+        return issue(signingKey);
+    }
+
+    @Benchmark
+    public Claims verifyPerCallParser() {
+        SecretKey key = Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET_HEX));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims verifyPrebuiltParser() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /** JwtService.createAccessToken과 같은 클레임 구성 */
+    private static String issue(SecretKey key) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", MEMBER_ID);
+        claims.put("typ", "access");
+        long nowMillis = System.currentTimeMillis();
+        return Jwts.builder()
+                .setClaims(claims)
+                .claim("ep", 0L)
+                .setSubject(String.valueOf(MEMBER_ID))
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(nowMillis))
+                .setExpiration(new Date(nowMillis + EXPIRATION_MS))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
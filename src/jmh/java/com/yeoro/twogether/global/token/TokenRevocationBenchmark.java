@@ -0,0 +1,168 @@
+package com.yeoro.twogether.global.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 폐기 방식 비교 — 회원별 에포크(현재) vs 토큰별 블랙리스트(이전)
+ * - 필터 지연: JwtService.parseAndValidateToken(에포크 + 로컬 폐기 캐시) vs 파싱 + Redis blacklist:<jti> 조회
+ * - Redis 메모리: members명이 각각 tokensPerMember개 기기에서 로그아웃했을 때 INFO used_memory 증가분 (@Setup에서 출력)
+ * - 임베디드 Redis 사용 — 실제 네트워크 왕복보다 짧으므로 블랙리스트 쪽 지연은 하한값
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class TokenRevocationBenchmark {
+
+    private static final String SECRET_HEX = "9f2c4b7e1a3d5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8";
+    private static final long ACCESS_TTL_MS = 30 * 60 * 1000L;
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+
+    @Param({"10000"})
+    public int members;
+
+    @Param({"1", "5"})
+    public int tokensPerMember;
+
+    private RedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer container;
+    private StringRedisTemplate redis;
+
+    private JwtService jwtService;
+    private JwtParser parser;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+
+        TokenEpochStore epochStore = new TokenEpochStore(redis, container, 3000L, 100_000L);
+        AccessTokenRevocationCache revocationCache = new AccessTokenRevocationCache(redis, container, 100_000L);
+        jwtService = new JwtService(redis, revocationCache, epochStore);
+        ReflectionTestUtils.setField(jwtService, "secretKeyHex", SECRET_HEX);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", ACCESS_TTL_MS);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", ACCESS_TTL_MS);
+        jwtService.initSigningKey();
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET_HEX))).build();
+
+        // 메모리: 같은 로그아웃 규모를 두 방식으로 각각 기록
+        long base = usedMemory();
+        writeBlacklist();
+        long blacklistBytes = usedMemory() - base;
+        flushAll();
+        base = usedMemory();
+        writeEpochs();
+        long epochBytes = usedMemory() - base;
+        System.out.printf("%n[redis-memory] members=%d tokensPerMember=%d blacklist=%d bytes, epoch=%d bytes%n",
+                members, tokensPerMember, blacklistBytes, epochBytes);
+
+        // 지연: 두 방식의 키를 모두 둔 상태에서, 폐기되지 않은 현재 토큰을 검증
+        writeBlacklist();
+        revocationCache.warmUp();
+        tokens = new String[members];
+        for (int i = 0; i < members; i++) {
+            tokens[i] = jwtService.createAccessToken((long) i + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        container.stop();
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @Benchmark
+    public Claims epochFilter() {
+        return jwtService.parseAndValidateToken(nextToken());
+    }
+
+    @Benchmark
+    public boolean blacklistFilter() {
+        Claims claims = parser.parseClaimsJws(nextToken()).getBody();
+        return Boolean.TRUE.equals(redis.hasKey(BLACKLIST_PREFIX + claims.getId()));
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    /** 이전 방식: 로그아웃한 토큰마다 blacklist:<jti> (남은 만료 시간만큼 TTL) */
+    private void writeBlacklist() {
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int i = 0; i < members * tokensPerMember; i++) {
+                conn.pSetEx(BLACKLIST_PREFIX + UUID.randomUUID(), ACCESS_TTL_MS, "1");
+            }
+            return null;
+        });
+    }
+
+    /** 현재 방식: 회원당 epoch:<memberId> 1개 (기기 수와 무관) */
+    private void writeEpochs() {
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int i = 0; i < members; i++) {
+                conn.incr(TokenEpochStore.KEY_PREFIX + (i + 1));
+            }
+            return null;
+        });
+    }
+
+    private long usedMemory() {
+        Properties info = redis.execute((RedisCallback<Properties>) c -> c.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory").trim());
+    }
+
+    private void flushAll() {
+        redis.execute((RedisCallback<Object>) c -> {
+            c.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
@@ -8,6 +8,7 @@ import com.yeoro.twogether.domain.diary.dto.response.DiaryMonthOverviewListRespo
 import com.yeoro.twogether.domain.diary.dto.response.DiaryUpdateResponse;
 import com.yeoro.twogether.domain.diary.service.DiaryService;
 import com.yeoro.twogether.global.argumentResolver.Login;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -47,18 +48,18 @@ public class DiaryController {
     /**
      * 특정 기간의 Diary 목록을 조회합니다.
      *
-     * @param memberId  로그인된 회원 ID (커스텀 리졸버 @Login 이용)
+     * @param loginMember 로그인된 회원/파트너 ID (커스텀 리졸버 @Login 이용)
      * @param startDate 조회 시작 날짜 (yyyy-MM-dd 형식)
      * @param endDate   조회 종료 날짜 (yyyy-MM-dd 형식)
      * @return 지정된 기간의 Diary 요약 정보 리스트
      */
     @GetMapping
     public DiaryMonthOverviewListResponse getMonthOverviewDiary(
-        @Login Long memberId,
+        @Login LoginMember loginMember,
         @RequestParam LocalDate startDate,
         @RequestParam LocalDate endDate
     ) {
-        return diaryService.getMonthOverviewDiary(memberId, startDate, endDate);
+        return diaryService.getMonthOverviewDiary(loginMember, startDate, endDate);
     }
 
     /**
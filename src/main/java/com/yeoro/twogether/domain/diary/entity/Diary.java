@@ -4,6 +4,7 @@ import static com.yeoro.twogether.global.exception.ErrorCode.DIARY_OWNERSHIP_MIS
 
 import com.yeoro.twogether.domain.diary.dto.request.DiaryUpdateRequest;
 import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.exception.ServiceException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -58,16 +59,13 @@ public class Diary {
         this.member = member;
     }
 
-    public void validateOwnership(Member member, Member partner) {
-        if (!isOwnedBy(member) && !isOwnedBy(partner)) {
+    /** 본인 또는 파트너 소유 확인 — ID 비교만 하므로 회원 엔티티 로딩 없음 */
+    public void validateOwnership(LoginMember me) {
+        if (!me.isCouple(this.member.getId())) {
             throw new ServiceException(DIARY_OWNERSHIP_MISMATCH);
         }
     }
 
-    public boolean isOwnedBy(Member member) {
-        return this.member.equals(member);
-    }
-
     public void updateDiary(DiaryUpdateRequest request) {
         this.title = request.title();
         this.startDate = request.startDate();
@@ -4,6 +4,7 @@ import com.yeoro.twogether.domain.diary.entity.Diary;
 import com.yeoro.twogether.domain.member.entity.Member;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,10 +22,21 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate);
 
-    @Query("select d.id from Diary d where d.member.id = :memberId")
-    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+    @Query("SELECT d FROM Diary d " +
+        "WHERE d.member.id IN :memberIds " +
+        "AND (d.startDate BETWEEN :startDate AND :endDate " +
+        "OR d.endDate BETWEEN :startDate AND :endDate)")
+    List<Diary> findByMemberIdsAndDateRange(@Param("memberIds") List<Long> memberIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
+
+    /** 회원 일기 ID — id 기준 keyset 페이지 (탈퇴 청크 삭제용) */
+    @Query("select d.id from Diary d where d.member.id = :memberId and d.id > :afterId order by d.id")
+    List<Long> findIdsByMemberIdAfter(@Param("memberId") Long memberId,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from Diary d where d.member.id = :memberId")
-    int deleteByMemberId(@Param("memberId") Long memberId);
+    @Query("delete from Diary d where d.id in (:ids)")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
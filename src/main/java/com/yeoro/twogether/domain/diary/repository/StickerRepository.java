@@ -2,6 +2,7 @@ package com.yeoro.twogether.domain.diary.repository;
 
 import com.yeoro.twogether.domain.diary.entity.Diary;
 import com.yeoro.twogether.domain.diary.entity.Sticker;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,7 +18,13 @@ public interface StickerRepository extends JpaRepository<Sticker, Long> {
 
     List<Sticker> findByDiaryInAndMainTrue(List<Diary> diaries);
 
+    /** 회원 일기의 스티커 ID — id 기준 keyset 페이지 (탈퇴 청크 삭제용) */
+    @Query("select s.id from Sticker s where s.diary.member.id = :memberId and s.id > :afterId order by s.id")
+    List<Long> findIdsByMemberIdAfter(@Param("memberId") Long memberId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from Sticker s where s.diary.id in (:diaryIds)")
-    int deleteByDiaryIds(@Param("diaryIds") List<Long> diaryIds);
+    @Query("delete from Sticker s where s.id in (:ids)")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -6,13 +6,14 @@ import com.yeoro.twogether.domain.diary.dto.response.DiaryCreateResponse;
 import com.yeoro.twogether.domain.diary.dto.response.DiaryDetailResponse;
 import com.yeoro.twogether.domain.diary.dto.response.DiaryMonthOverviewListResponse;
 import com.yeoro.twogether.domain.diary.dto.response.DiaryUpdateResponse;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import java.time.LocalDate;
 
 public interface DiaryService {
 
     DiaryCreateResponse createDiary(Long memberId, DiaryCreateRequest diaryCreateRequest);
 
-    DiaryMonthOverviewListResponse getMonthOverviewDiary(Long memberId, LocalDate startDate,
+    DiaryMonthOverviewListResponse getMonthOverviewDiary(LoginMember loginMember, LocalDate startDate,
         LocalDate endDate);
 
     DiaryDetailResponse getDetailDiary(Long memberId, Long diaryId);
@@ -23,6 +23,7 @@ import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.member.service.MemberService;
 import com.yeoro.twogether.domain.waypoint.entity.WaypointItem;
 import com.yeoro.twogether.domain.waypoint.repository.WaypointItemRepository;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.exception.ServiceException;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -86,21 +87,15 @@ public class DiaryServiceImpl implements DiaryService {
      * 특정 월에 해당하는 회원의 Diary 목록을 조회합니다.
      * <p>
      * - 시작일 또는 종료일이 요청 기간에 속하는 Diary를 조회 - 각 Diary에 대해 대표(main) Sticker를 매핑
+     * - 본인/파트너 ID는 토큰 클레임 기반이므로 Member 조회 없이 처리
      */
     @Override
     public DiaryMonthOverviewListResponse getMonthOverviewDiary(
-        Long memberId, LocalDate startDate, LocalDate endDate
+        LoginMember loginMember, LocalDate startDate, LocalDate endDate
     ) {
-        Member member = memberService.getCurrentMember(memberId);
-        Member partner = member.getPartner();
-
-        List<Member> meAndPartner = partner != null
-            ? List.of(member, partner)
-            : List.of(member);
-
         // 해당 월의 다이어리 조회
-        List<Diary> diaries = diaryRepository.findByMembersAndDateRange(
-            meAndPartner,
+        List<Diary> diaries = diaryRepository.findByMemberIdsAndDateRange(
+            loginMember.memberIds(),
             startDate,
             endDate
         );
@@ -214,13 +209,12 @@ public class DiaryServiceImpl implements DiaryService {
     }
 
     private Diary validateAndGetDiary(Long memberId, Long diaryId) {
-        Member member = memberService.getCurrentMember(memberId);
-        Member partner = member.getPartner();
+        LoginMember member = memberService.getCouple(memberId);
 
         Diary diary = diaryRepository.findById(diaryId)
             .orElseThrow(() -> new ServiceException(DIARY_NOT_FOUND));
 
-        diary.validateOwnership(member, partner);
+        diary.validateOwnership(member);
 
         return diary;
     }
@@ -1,14 +1,15 @@
 package com.yeoro.twogether.domain.member.controller;
 
+import com.yeoro.twogether.domain.member.dto.MemberSnapshot;
 import com.yeoro.twogether.domain.member.dto.request.*;
+import com.yeoro.twogether.domain.member.dto.response.DeletionJobResponse;
 import com.yeoro.twogether.domain.member.dto.response.LoginResponse;
 import com.yeoro.twogether.domain.member.dto.response.MemberInfoResponse;
-import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.member.service.EmailVerificationService;
 import com.yeoro.twogether.domain.member.service.MemberService;
 import com.yeoro.twogether.global.argumentResolver.Login;
+import com.yeoro.twogether.global.service.s3.DirectUploadService;
 import com.yeoro.twogether.global.token.JwtService;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.net.URL;
 
 @Slf4j
@@ -32,10 +34,11 @@ public class MemberController {
     private final EmailVerificationService emailVerificationService;
     private final MemberService memberService;
     private final JwtService jwtService;
+    private final DirectUploadService directUploadService;
 
     /**이메일 인증 번호 전송*/
     @PostMapping("/email/send")
-    public ResponseEntity<?> sendEmail(@RequestBody EmailSendRequest request) throws MessagingException {
+    public ResponseEntity<?> sendEmail(@RequestBody EmailSendRequest request) {
         emailVerificationService.sendVerificationCode(request.email());
         return ResponseEntity.ok("인증 코드가 전송되었습니다.");
     }
@@ -124,7 +127,7 @@ public class MemberController {
     /**사용자 정보 조회 */
     @GetMapping("/me")
     public MemberInfoResponse getMyInfo(@Login Long memberId) {
-        Member member = memberService.getCurrentMember(memberId);
+        MemberSnapshot member = memberService.getMemberSnapshot(memberId);
         URL presigned = memberService.getProfileImagePresignedUrl(memberId);
         return MemberInfoResponse.ofResolved(member, presigned != null ? presigned.toString() : null);
     }
@@ -137,6 +140,21 @@ public class MemberController {
         return ResponseEntity.ok("프로필 이미지가 성공적으로 변경되었습니다.");
     }
 
+    /** 프로필 이미지 직접 업로드용 presigned PUT 발급 */
+    @PostMapping("/me/profile-image/uploads")
+    public DirectUploadService.PresignedUpload presignProfileImageUpload(@Login Long memberId,
+                                                                        @RequestBody @Valid DirectUploadService.PresignRequest request) {
+        return directUploadService.presign(memberId, request);
+    }
+
+    /** 직접 업로드한 이미지 키로 프로필 이미지 변경 */
+    @PutMapping(value = "/me/profile-image", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> updateProfileImageWithUploadedImage(@Login Long memberId,
+                                                                      @RequestBody @Valid UploadedProfileImageRequest req) {
+        memberService.updateProfileImage(memberId, req.imageKey());
+        return ResponseEntity.ok("프로필 이미지가 성공적으로 변경되었습니다.");
+    }
+
     /**이름 변경 */
     @PutMapping("/me/name")
     public ResponseEntity<String> updateName(@Login Long memberId,
@@ -171,11 +189,19 @@ public class MemberController {
         return ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다. 다시 로그인해 주세요.");
     }
 
-    /** 내 계정 삭제 */
+    /** 내 계정 삭제 (S3 정리는 비동기, Location 헤더로 진행 상황 조회) */
     @DeleteMapping("/me")
     public ResponseEntity<String> deleteMe(@Login Long memberId) {
-        memberService.deleteMember(memberId);
-        return ResponseEntity.ok("회원탈퇴가 완료되었습니다.");
+        String jobId = memberService.deleteMember(memberId);
+        return ResponseEntity.ok()
+                .location(URI.create("/api/member/deletion-jobs/" + jobId))
+                .body("회원탈퇴가 완료되었습니다.");
+    }
+
+    /** 탈퇴 후 S3 정리 진행 상황 */
+    @GetMapping("/deletion-jobs/{jobId}")
+    public DeletionJobResponse getDeletionJob(@PathVariable String jobId) {
+        return memberService.getDeletionJob(jobId);
     }
 
     /** JWT 재발급 */
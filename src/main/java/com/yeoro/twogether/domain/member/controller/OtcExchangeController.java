@@ -44,13 +44,14 @@ public class OtcExchangeController {
         }
 
         try {
-            // 2) 멤버 조회(응답 바디 구성용)
+            // 2) 멤버 조회(응답 바디 구성용) — 파트너 연결 버전을 먼저 읽음
+            long partnerLinkVersion = tokenService.partnerLinkVersion(memberId);
             Member me = memberService.getCurrentMember(memberId);
             Member partner = me.getPartner();
             Long partnerId = (partner != null ? partner.getId() : null);
 
             // 3) 토큰 생성 및 전송(헤더/쿠키) + Redis 저장
-            TokenPair tokenPair = tokenService.createTokenPair(memberId, me.getEmail(), partnerId);
+            TokenPair tokenPair = tokenService.createTokenPair(memberId, me.getEmail(), partnerId, partnerLinkVersion);
             tokenService.sendTokensToClient(httpRequest, httpResponse, tokenPair);
             tokenService.storeRefreshTokenInRedis(memberId, tokenPair.getRefreshToken());
 
@@ -0,0 +1,48 @@
+package com.yeoro.twogether.domain.member.dto;
+
+import com.yeoro.twogether.domain.member.entity.Gender;
+import com.yeoro.twogether.domain.member.entity.LoginPlatform;
+import com.yeoro.twogether.domain.member.entity.Member;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 + 파트너 정보 불변 스냅샷 (MemberSnapshotCache에 저장)
+ * - 화면 표시 전용 (캐시라 파트너 변경이 늦게 반영될 수 있음 → 권한 판단은 LoginMember로)
+ * - 변경은 반드시 Member 엔티티로
+ */
+public record MemberSnapshot(
+        Long memberId,
+        String email,
+        String name,
+        String nickname,        // 파트너가 '나'에게 준 애칭
+        String profileImageUrl, // S3 key
+        Gender gender,
+        String ageRange,
+        String phoneNumber,
+        LoginPlatform loginPlatform,
+        Long partnerId,
+        String partnerName,
+        String partnerNickname, // 내가 파트너에게 준 애칭
+        LocalDate relationshipStartDate
+) {
+
+    public static MemberSnapshot from(Member me) {
+        Member partner = me.getPartner();
+        return new MemberSnapshot(
+                me.getId(),
+                me.getEmail(),
+                me.getName(),
+                me.getNickname(),
+                me.getProfileImageUrl(),
+                me.getGender(),
+                me.getAgeRange(),
+                me.getPhoneNumber(),
+                me.getLoginPlatform(),
+                partner != null ? partner.getId() : null,
+                partner != null ? partner.getName() : null,
+                partner != null ? partner.getNickname() : null,
+                me.getRelationshipStartDate()
+        );
+    }
+}
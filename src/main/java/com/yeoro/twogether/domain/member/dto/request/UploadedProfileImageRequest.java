@@ -0,0 +1,8 @@
+package com.yeoro.twogether.domain.member.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/** presigned PUT으로 직접 올린 프로필 이미지 확정 (imageKey: presign 응답의 key) */
+public record UploadedProfileImageRequest(
+        @NotBlank String imageKey
+) {}
@@ -0,0 +1,32 @@
+package com.yeoro.twogether.domain.member.dto.response;
+
+import com.yeoro.twogether.global.entity.S3DeletionJob;
+import com.yeoro.twogether.global.entity.S3DeletionJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 후 S3 정리 진행 상황 응답 DTO
+ */
+public record DeletionJobResponse(
+        String jobId,
+        S3DeletionJobStatus status,
+        int totalObjects,
+        int deletedObjects,
+        int failedObjects,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+
+    public static DeletionJobResponse from(S3DeletionJob job) {
+        return new DeletionJobResponse(
+                job.getPublicId(),
+                job.getStatus(),
+                job.getTotalObjects(),
+                job.getDeletedObjects(),
+                job.getFailedObjects(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
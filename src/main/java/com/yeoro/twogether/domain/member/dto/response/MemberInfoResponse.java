@@ -1,5 +1,6 @@
 package com.yeoro.twogether.domain.member.dto.response;
 
+import com.yeoro.twogether.domain.member.dto.MemberSnapshot;
 import com.yeoro.twogether.domain.member.entity.Gender;
 import com.yeoro.twogether.domain.member.entity.LoginPlatform;
 import com.yeoro.twogether.domain.member.entity.Member;
@@ -82,4 +83,25 @@ public record MemberInfoResponse(
                 me.getRelationshipStartDate()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시된 스냅샷 + presigned URL로 응답 (DB 조회 없음)
+     */
+    public static MemberInfoResponse ofResolved(MemberSnapshot me, String resolvedProfileUrl) {
+        return new MemberInfoResponse(
+                me.memberId(),
+                me.email(),
+                me.name(),
+                me.nickname(),          // myNickname
+                resolvedProfileUrl,
+                me.gender(),
+                me.ageRange(),
+                me.phoneNumber(),
+                me.loginPlatform(),
+                me.partnerId(),
+                me.partnerName(),
+                me.partnerNickname(),
+                me.relationshipStartDate()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.yeoro.twogether.domain.member.entity;
+
+import com.yeoro.twogether.global.entity.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 아웃박스
+ * - 요청 스레드는 행만 저장하고 즉시 반환, 워커가 비동기로 발송
+ * - 워커 점유는 조건부 UPDATE(PENDING → SENDING)로 처리해 노드 간 중복 발송 방지
+ * - 평문 인증 코드는 발송이 끝나면(SENT/FAILED) 지우고, 끝난 행은 하루 뒤 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at"))
+public class MailOutbox extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    // 인증 코드 (템플릿 치환값) — SENT/FAILED가 되면 빈 값으로 지움
+    @Column(nullable = false, length = 32)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커 점유 시각 (장시간 SENDING 상태 복구용)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public MailOutbox(String recipient, String code) {
+        this.recipient = recipient;
+        this.code = code;
+        this.status = MailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.yeoro.twogether.domain.member.entity;
+
+/**
+ * 메일 아웃박스 상태
+ */
+public enum MailStatus {
+    PENDING,  // 발송 대기 (재시도 포함)
+    SENDING,  // 워커가 점유하여 발송 중
+    SENT,     // 발송 완료
+    FAILED    // 최대 재시도 초과
+}
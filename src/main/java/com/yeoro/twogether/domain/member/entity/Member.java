@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
@@ -36,6 +37,16 @@ public class Member extends BaseTime {
     @Column
     private String profileImageUrl;
 
+    // 프로필 이미지 내용 해시/크기/타입 (동일 이미지 판별을 S3 HEAD 없이 처리)
+    @Column(name = "profile_image_sha256", length = 64)
+    private String profileImageSha256;
+
+    @Column(name = "profile_image_size")
+    private Long profileImageSize;
+
+    @Column(name = "profile_image_content_type", length = 100)
+    private String profileImageContentType;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private LoginPlatform loginPlatform;
@@ -61,6 +72,23 @@ public class Member extends BaseTime {
     @Column(name = "relationship_start_date", nullable = true)
     private LocalDate relationshipStartDate;
 
+    // 탈퇴 처리 중(툼스톤) 표시 — 값이 있으면 조회/로그인 대상에서 제외, 자식 데이터 삭제 후 행 삭제
+    @Column(name = "deleting_at")
+    private LocalDateTime deletingAt;
+
+    // 삭제 워커 하트비트 (멈춘 삭제 재개 판단용)
+    @Column(name = "purge_heartbeat_at")
+    private LocalDateTime purgeHeartbeatAt;
+
+    public boolean isDeleting() {
+        return deletingAt != null;
+    }
+
+    /** 탈퇴 처리 시작 (툼스톤) */
+    public void markDeleting() {
+        if (this.deletingAt == null) this.deletingAt = LocalDateTime.now();
+    }
+
     public Long getPartnerId() {
         return partner != null ? partner.getId() : null;
     }
@@ -80,7 +108,17 @@ public class Member extends BaseTime {
     /**
      * 프로필이미지 변경 메서드
      */
-    public void setProfileImageUrl(String profileImageUrl) {this.profileImageUrl = profileImageUrl;}
+    public void changeProfileImage(String key, String sha256, Long size, String contentType) {
+        this.profileImageUrl = key;
+        this.profileImageSha256 = sha256;
+        this.profileImageSize = size;
+        this.profileImageContentType = contentType;
+    }
+
+    /** 현재 프로필 이미지와 내용이 같은지 (해시 미기록 행은 false) */
+    public boolean hasSameProfileImage(String sha256) {
+        return profileImageSha256 != null && profileImageSha256.equalsIgnoreCase(sha256);
+    }
 
     /**
      * 이름 변경 메서드
@@ -0,0 +1,165 @@
+package com.yeoro.twogether.domain.member.mail;
+
+import com.yeoro.twogether.domain.member.entity.MailOutbox;
+import com.yeoro.twogether.domain.member.entity.MailStatus;
+import com.yeoro.twogether.domain.member.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 아웃박스 워커
+ * - 주기적으로 발송 가능한 건을 점유(PENDING → SENDING)하여 제한된 스레드 풀에서 발송
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 FAILED
+ * - 메트릭: mail.outbox.pending(대기 건수), mail.outbox.executor.queue, mail.send(발송 시간), mail.send.failures
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter failureCounter;
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository,
+                            MailService mailService,
+                            MeterRegistry meterRegistry,
+                            @Value("${mail.outbox.threads:4}") int threads,
+                            @Value("${mail.outbox.queue-capacity:100}") int queueCapacity,
+                            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${mail.outbox.base-backoff-ms:2000}") long baseBackoffMs,
+                            @Value("${mail.outbox.max-backoff-ms:300000}") long maxBackoffMs) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailService = mailService;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "mail-outbox-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.executor.queue", executor, e -> e.getQueue().size())
+                .description("발송 스레드 풀 대기열 크기")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.send")
+                .description("SMTP 발송 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.send.failures")
+                .register(meterRegistry);
+    }
+
+    /** 발송 가능한 건 점유 후 스레드 풀에 제출 (풀 여유만큼만 가져옴) */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:500}")
+    public void drain() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity <= 0) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = mailOutboxRepository.findReadyIds(now, PageRequest.of(0, capacity));
+        for (Long id : ids) {
+            // 다른 노드가 먼저 점유했으면 건너뜀
+            if (mailOutboxRepository.claim(id, now) != 1) continue;
+            try {
+                executor.execute(() -> send(id));
+            } catch (RejectedExecutionException e) {
+                // 풀이 가득 찬 경우 다음 주기에 다시 시도
+                mailOutboxRepository.release(id);
+                break;
+            }
+        }
+    }
+
+    /** 대기 건수 메트릭 갱신 + 오래 점유된 건 복구 + 끝난 건(SENT/FAILED) 정리 */
+    @Scheduled(fixedDelayString = "${mail.outbox.maintenance-interval-ms:30000}")
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = mailOutboxRepository.releaseStale(now.minusMinutes(5));
+        if (released > 0) {
+            log.warn("[mail-outbox] released {} stale SENDING rows", released);
+        }
+        mailOutboxRepository.deleteFinishedBefore(now.minusDays(1));
+        pendingCount.set(mailOutboxRepository.countByStatus(MailStatus.PENDING));
+    }
+
+    private void send(Long id) {
+        MailOutbox mail = mailOutboxRepository.findById(id).orElse(null);
+        if (mail == null) return;
+
+        long start = System.nanoTime();
+        try {
+            mailService.sendVerificationCode(mail.getRecipient(), mail.getCode());
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            mailOutboxRepository.markSent(id);
+        } catch (Exception e) {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            failureCounter.increment();
+
+            int attempts = mail.getAttempts() + 1;
+            boolean giveUp = attempts >= maxAttempts;
+            LocalDateTime next = LocalDateTime.now().plus(backoff(attempts));
+            mailOutboxRepository.markFailed(id,
+                    giveUp ? MailStatus.FAILED : MailStatus.PENDING,
+                    next,
+                    truncate(e.getMessage()));
+            log.warn("[mail-outbox] send failed id={} attempts={} giveUp={}", id, attempts, giveUp, e);
+        }
+    }
+
+    /** 지수 백오프: base * 2^(attempts-1), 최대 maxBackoff */
+    private Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration d = baseBackoff.multipliedBy(factor);
+        return d.compareTo(maxBackoff) > 0 ? maxBackoff : d;
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= 500 ? s : s.substring(0, 500);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,50 +1,82 @@
 package com.yeoro.twogether.domain.member.mail;
 
+import com.yeoro.twogether.domain.member.entity.MailOutbox;
+import com.yeoro.twogether.domain.member.repository.MailOutboxRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
+    private static final String SUBJECT = "인증을 위한 이메일 인증번호";
+    private static final String TEMPLATE_PATH = "templates/mail/verification-code.html";
+    private static final String CODE_PLACEHOLDER = "{{code}}";
+
     private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     @Value("${spring.mail.username}")
     private String senderEmail;
 
-    public void sendSimpleMessage(String to, String code) throws MessagingException {
+    // 기동 시 1회 로드한 템플릿을 앞/뒤로 나눠 두고 발송 시 코드만 끼워 넣음
+    private String templateHead;
+    private String templateTail;
+
+    @PostConstruct
+    void loadTemplate() throws IOException {
+        try (InputStream in = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            String template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            int idx = template.indexOf(CODE_PLACEHOLDER);
+            if (idx < 0) {
+                throw new IllegalStateException("mail template has no " + CODE_PLACEHOLDER + ": " + TEMPLATE_PATH);
+            }
+            this.templateHead = template.substring(0, idx);
+            this.templateTail = template.substring(idx + CODE_PLACEHOLDER.length());
+        }
+    }
+
+    /**
+     * 인증 코드 메일 발송 예약 (아웃박스 저장만, 실제 발송은 MailOutboxWorker)
+     */
+    public void enqueueVerificationCode(String to, String code) {
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(to)
+                .code(code)
+                .build());
+    }
+
+    /**
+     * 인증 코드 메일 실제 발송 (워커 스레드에서 호출)
+     */
+    public void sendVerificationCode(String to, String code) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
 
         helper.setTo(to);
         helper.setFrom(senderEmail);
-        helper.setSubject("인증을 위한 이메일 인증번호");
-
-        String body = "<html>" +
-                "<body style='font-family: Arial, sans-serif; background-color: #f1f1f1; padding: 20px;'>" +
-                "<div style='max-width: 600px; margin: 0 auto; padding: 30px; background-color: #ffffff; border-radius: 8px; box-shadow: 0 2px 10px rgba(0, 0, 0, 0.1);'>" +
-                "<h2 style='color: #4CAF50; font-size: 24px; text-align: center;'>인증을 위한 이메일 인증번호</h2>" +
-                "<p style='font-size: 16px; color: #333;'>안녕하세요, <strong>회원님</strong>.</p>" +
-                "<p style='font-size: 16px; color: #555;'>요청하신 인증 번호는 아래와 같습니다:</p>" +
-                "<div style='text-align: center; padding: 20px; background-color: #f9f9f9; border-radius: 8px; margin: 20px 0;'>" +
-                "<h1 style='font-size: 36px; color: #4CAF50; font-weight: bold;'>" + code + "</h1>" +
-                "<p style='font-size: 16px; color: #555;'>이 코드를 입력하여 이메일 인증을 완료하세요.</p>" +
-                "</div>" +
-                "<p style='font-size: 14px; color: #777;'>감사합니다!</p>" +
-                "<footer style='font-size: 12px; color: #aaa; text-align: center;'>" +
-                "<p>&copy; 2025 Your Company</p>" +
-                "</footer>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
-
-        helper.setText(body, true); // HTML true 설정
+        helper.setSubject(SUBJECT);
+        helper.setText(render(code), true); // HTML true 설정
 
         mailSender.send(message);
     }
+
+    private String render(String code) {
+        return new StringBuilder(templateHead.length() + code.length() + templateTail.length())
+                .append(templateHead)
+                .append(code)
+                .append(templateTail)
+                .toString();
+    }
 }
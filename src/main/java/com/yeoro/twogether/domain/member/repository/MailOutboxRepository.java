@@ -0,0 +1,74 @@
+package com.yeoro.twogether.domain.member.repository;
+
+import com.yeoro.twogether.domain.member.entity.MailOutbox;
+import com.yeoro.twogether.domain.member.entity.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /** 발송 가능한 대기 건 ID (오래된 순) */
+    @Query("select o.id from MailOutbox o " +
+            "where o.status = com.yeoro.twogether.domain.member.entity.MailStatus.PENDING " +
+            "and o.nextAttemptAt <= :now order by o.id")
+    List<Long> findReadyIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** 워커 점유 (PENDING → SENDING) — 1이면 점유 성공 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox o set o.status = com.yeoro.twogether.domain.member.entity.MailStatus.SENDING, " +
+            "o.claimedAt = :now " +
+            "where o.id = :id and o.status = com.yeoro.twogether.domain.member.entity.MailStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 점유 해제 (SENDING → PENDING, 시도 횟수 유지) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox o set o.status = com.yeoro.twogether.domain.member.entity.MailStatus.PENDING " +
+            "where o.id = :id and o.status = com.yeoro.twogether.domain.member.entity.MailStatus.SENDING")
+    int release(@Param("id") Long id);
+
+    /** 발송 완료 — 인증 코드는 더 이상 필요 없으므로 지움 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox o set o.status = com.yeoro.twogether.domain.member.entity.MailStatus.SENT, " +
+            "o.attempts = o.attempts + 1, o.lastError = null, o.code = '' where o.id = :id")
+    int markSent(@Param("id") Long id);
+
+    /** 발송 실패 — 재시도 예약 또는 최종 실패(FAILED면 인증 코드 지움) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox o set o.status = :status, o.attempts = o.attempts + 1, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error, " +
+            "o.code = case when :status = com.yeoro.twogether.domain.member.entity.MailStatus.FAILED " +
+            "then '' else o.code end " +
+            "where o.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /** 워커 비정상 종료 등으로 오래 SENDING에 머문 건 재대기 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox o set o.status = com.yeoro.twogether.domain.member.entity.MailStatus.PENDING " +
+            "where o.status = com.yeoro.twogether.domain.member.entity.MailStatus.SENDING and o.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+
+    /** 끝난 건(SENT/FAILED) 정리 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from MailOutbox o " +
+            "where o.status in (com.yeoro.twogether.domain.member.entity.MailStatus.SENT, " +
+            "com.yeoro.twogether.domain.member.entity.MailStatus.FAILED) and o.createdAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+    long countByStatus(MailStatus status);
+}
@@ -1,9 +1,17 @@
 package com.yeoro.twogether.domain.member.repository;
 
 import com.yeoro.twogether.domain.member.entity.Member;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -15,7 +23,61 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("select m from Member m left join fetch m.partner where m.id = :id")
     Optional<Member> findByIdWithPartner(@Param("id") Long id);
 
+    /** 회원 행 잠금 (SELECT ... FOR UPDATE) — 파트너 연결/탈퇴 표시 직렬화 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Member m where m.id = :id")
+    Optional<Member> findByIdForUpdate(@Param("id") Long id);
+
+    /** 파트너 ID만 조회 (엔티티 로딩 없이, 파트너 없으면 null) */
+    @Query("select m.partner.id from Member m where m.id = :id")
+    Optional<Long> findPartnerIdById(@Param("id") Long id);
+
     /** 상대가 나를 partner로 들고 있는 경우(역참조) 찾기 */
     Optional<Member> findByPartner_Id(Long partnerId);
 
+    // ===== 프로필 이미지 메타 백필 =====
+
+    /** 프로필 이미지 메타가 없는 행 (id, profileImageUrl) — 외부 URL(소셜 프로필) 제외, id 기준 keyset 페이지 */
+    @Query("select m.id, m.profileImageUrl from Member m " +
+            "where m.profileImageSha256 is null and m.profileImageUrl is not null " +
+            "and m.profileImageUrl not like 'http%' and m.id > :afterId order by m.id")
+    List<Object[]> findProfileImageMetaMissingAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 프로필 이미지 메타 기록 (그 사이 이미지가 바뀌었으면 무시) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.profileImageSha256 = :sha256, m.profileImageSize = :size, " +
+            "m.profileImageContentType = :contentType " +
+            "where m.id = :id and m.profileImageUrl = :key and m.profileImageSha256 is null")
+    int fillProfileImageMeta(@Param("id") Long id,
+                             @Param("key") String key,
+                             @Param("sha256") String sha256,
+                             @Param("size") Long size,
+                             @Param("contentType") String contentType);
+
+    // ===== 탈퇴 처리(툼스톤) =====
+
+    /** 삭제가 시작되지 않았거나 하트비트가 끊긴 탈퇴 회원 */
+    @Query("select m.id from Member m where m.deletingAt is not null " +
+            "and (m.purgeHeartbeatAt is null or m.purgeHeartbeatAt < :staleBefore) order by m.id")
+    List<Long> findPurgeCandidateIds(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /** 삭제 점유 — 1이면 점유 성공 (다른 워커가 진행 중이면 0) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.purgeHeartbeatAt = :now where m.id = :id and m.deletingAt is not null " +
+            "and (m.purgeHeartbeatAt is null or m.purgeHeartbeatAt < :staleBefore)")
+    int claimPurge(@Param("id") Long id,
+                   @Param("now") LocalDateTime now,
+                   @Param("staleBefore") LocalDateTime staleBefore);
+
+    /** 삭제 진행 중 하트비트 갱신 */
+    @Modifying(flushAutomatically = true)
+    @Query("update Member m set m.purgeHeartbeatAt = :now where m.id = :id")
+    int touchPurge(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 자식 데이터 삭제가 끝난 툼스톤 행 삭제 */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Member m where m.id = :id and m.deletingAt is not null")
+    int deleteTombstone(@Param("id") Long id);
 }
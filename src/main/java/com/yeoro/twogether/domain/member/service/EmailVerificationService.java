@@ -1,65 +1,154 @@
 package com.yeoro.twogether.domain.member.service;
 
 import com.yeoro.twogether.domain.member.mail.MailService;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.properties.RateLimitProperties;
+import com.yeoro.twogether.global.store.RateLimiter;
 import com.yeoro.twogether.global.util.CodeGenerator;
-import jakarta.mail.MessagingException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-
+import java.util.List;
+
+/**
+ * 이메일 인증 상태 (Redis Hash: email:verify:<email>)
+ * - c: 인증 코드, v: 인증 완료 여부("0"/"1"), a: 실패 횟수
+ * - 각 작업은 Lua 스크립트 1회(왕복 1회)로 처리, 값은 JSON 메타데이터 없는 순수 문자열
+ * - 실패 횟수가 한도에 도달하면 TTL 동안 잠금 (재발송으로도 초기화되지 않음)
+ */
 @Service
-@RequiredArgsConstructor
 public class EmailVerificationService {
 
     private final MailService mailService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate redis;
+    private final RateLimiter rateLimiter;
+    private final int maxAttempts;
 
-    private static final String PREFIX = "email_verification:";
+    private static final String PREFIX = "email:verify:";
     private static final Duration TTL = Duration.ofMinutes(10);
 
-    public void sendVerificationCode(String email) throws MessagingException {
+    private static final long LOCKED = -2L;
+    private static final long NOT_FOUND = -1L;
+    private static final long MISMATCH = 0L;
+
+    /**
+     * KEYS[1]=상태 키 / ARGV[1]=코드, ARGV[2]=최대 시도, ARGV[3]=TTL(ms)
+     * 반환: 1 저장, -2 잠금 상태
+     */
+    private static final RedisScript<Long> SEND_SCRIPT = new DefaultRedisScript<>("""
+            local a = tonumber(redis.call('HGET', KEYS[1], 'a') or '0')
+            if a >= tonumber(ARGV[2]) then
+              return -2
+            end
+            redis.call('HSET', KEYS[1], 'c', ARGV[1], 'v', '0', 'a', a)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=상태 키 / ARGV[1]=입력 코드, ARGV[2]=최대 시도, ARGV[3]=TTL(ms)
+     * 반환: 1 인증 성공, 0 불일치, -1 코드 없음, -2 잠금
+     */
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local c = redis.call('HGET', KEYS[1], 'c')
+            if not c then
+              return -1
+            end
+            local max = tonumber(ARGV[2])
+            local a = tonumber(redis.call('HGET', KEYS[1], 'a') or '0')
+            if a >= max then
+              return -2
+            end
+            if c == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'v', '1')
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              return 1
+            end
+            a = redis.call('HINCRBY', KEYS[1], 'a', 1)
+            if a >= max then
+              return -2
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]=상태 키 / ARGV[1]=TTL(ms) — 테스트 데이터용 강제 인증 완료
+     */
+    private static final RedisScript<Long> MARK_VERIFIED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSETNX', KEYS[1], 'c', 'INIT')
+            redis.call('HSET', KEYS[1], 'v', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    public EmailVerificationService(MailService mailService,
+                                    StringRedisTemplate redis,
+                                    RateLimiter rateLimiter,
+                                    @Value("${email.verify.max-attempts:5}") int maxAttempts) {
+        this.mailService = mailService;
+        this.redis = redis;
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 인증 코드 저장 후 메일 발송 예약
+     * - SMTP 발송은 아웃박스 워커가 비동기로 처리 → 요청 스레드는 즉시 반환
+     * - 시도 횟수 초과로 잠긴 이메일은 재발송 불가
+     * - 같은 이메일로의 발송은 요청 제한 정책(email-send-email) 적용
+     */
+    public void sendVerificationCode(String email) {
+        rateLimiter.check(RateLimitProperties.EMAIL_SEND_EMAIL, email);
         String code = CodeGenerator.generateEmailCode();
-        mailService.sendSimpleMessage(email, code);
 
-        redisTemplate.opsForHash().put(PREFIX + email, "code", code);
-        redisTemplate.opsForHash().put(PREFIX + email, "isVerified", false);
-        redisTemplate.expire(PREFIX + email, TTL);
+        Long result = redis.execute(SEND_SCRIPT, List.of(key(email)),
+                code, String.valueOf(maxAttempts), ttlMillis());
+        if (result != null && result == LOCKED) {
+            throw new ServiceException(ErrorCode.EMAIL_VERIFY_ATTEMPTS_EXCEEDED);
+        }
+
+        mailService.enqueueVerificationCode(email, code);
     }
 
+    /**
+     * 인증 코드 확인 — 비교/실패 횟수 증가/잠금 판단을 한 번에 원자 처리
+     */
     public void verifyCode(String email, String inputCode) {
-        String key = PREFIX + email;
-        String savedCode = (String) redisTemplate.opsForHash().get(key, "code");
+        Long result = redis.execute(VERIFY_SCRIPT, List.of(key(email)),
+                String.valueOf(inputCode), String.valueOf(maxAttempts), ttlMillis());
 
-        if (savedCode == null || !savedCode.equals(inputCode)) {
+        if (result == null || result == NOT_FOUND || result == MISMATCH) {
             throw new IllegalArgumentException("인증 코드가 유효하지 않거나 일치하지 않습니다.");
         }
-
-        redisTemplate.opsForHash().put(key, "isVerified", true);
-        redisTemplate.expire(key, TTL);
+        if (result == LOCKED) {
+            throw new ServiceException(ErrorCode.EMAIL_VERIFY_ATTEMPTS_EXCEEDED);
+        }
     }
 
     public boolean isVerified(String email) {
-        Object result = redisTemplate.opsForHash().get(PREFIX + email, "isVerified");
-        return result instanceof Boolean && (Boolean) result;
+        Object result = redis.opsForHash().get(key(email), "v");
+        return "1".equals(result);
     }
 
     public void clearVerificationInfo(String email) {
-        redisTemplate.delete(PREFIX + email);
+        redis.delete(key(email));
     }
 
     // 테스트용 데이터 추가를 위한 메서드: 이메일 인증을 건너뛰고 강제로 "인증 완료" 상태
     public void markVerifiedForInit(String email) {
-        String key = PREFIX + email;
-        redisTemplate.opsForHash().put(key, "isVerified", true);
-
-        // code 필드가 비어 있으면 dummy 값 넣어줌
-        if (redisTemplate.opsForHash().get(key, "code") == null) {
-            redisTemplate.opsForHash().put(key, "code", "INIT");
-        }
+        redis.execute(MARK_VERIFIED_SCRIPT, List.of(key(email)), ttlMillis());
+    }
 
-        redisTemplate.expire(key, TTL);
+    private static String key(String email) {
+        return PREFIX + email;
     }
 
+    private static String ttlMillis() {
+        return String.valueOf(TTL.toMillis());
+    }
 }
@@ -0,0 +1,145 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.domain.member.dto.OauthProfile;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카카오 OIDC id_token 로컬 검증
+ * - JWKS(공개키 목록)는 메모리에 캐시, 주기적으로 백그라운드 갱신
+ * - 모르는 kid가 오면(키 교체 직후) 최소 간격을 두고 1회 즉시 갱신
+ * - 서명(RS256)/iss/aud/exp/nonce 검증 후 OauthProfile로 변환 → 프로필 API 호출 불필요
+ */
+@Slf4j
+@Component
+public class KakaoIdTokenVerifier {
+
+    private static final long MIN_REFRESH_INTERVAL_MS = 60_000L;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String jwksUrl;
+    private final JwtParser parser;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshAt;
+
+    public KakaoIdTokenVerifier(RestTemplate restTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${kakao.oidc.enabled:false}") boolean enabled,
+                                @Value("${kakao.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+                                @Value("${kakao.oidc.issuer:https://kauth.kakao.com}") String issuer,
+                                @Value("${kakao.client-id}") String clientId) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.jwksUrl = authBaseUrl + "/.well-known/jwks.json";
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(issuer)
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(30)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * id_token 검증 후 프로필 생성
+     * - 카카오 id_token에는 닉네임/사진/이메일만 포함 (성별/연령대/전화번호는 null)
+     */
+    public OauthProfile verify(String idToken, String expectedNonce) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(idToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ServiceException(ErrorCode.KAKAO_INVALID_TOKEN, e);
+        }
+        if (expectedNonce == null || !expectedNonce.equals(claims.get("nonce", String.class))) {
+            throw new ServiceException(ErrorCode.KAKAO_INVALID_TOKEN);
+        }
+
+        OauthProfile profile = new OauthProfile();
+        profile.setPlatformId(claims.getSubject());
+        profile.setName(claims.get("nickname", String.class));
+        profile.setProfileImageUrl(claims.get("picture", String.class));
+        profile.setEmail(claims.get("email", String.class));
+        return profile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${kakao.oidc.jwks-refresh-ms:3600000}",
+               initialDelayString = "${kakao.oidc.jwks-refresh-ms:3600000}")
+    public void scheduledRefresh() {
+        if (enabled) refresh();
+    }
+
+    private Key findKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastRefreshAt >= MIN_REFRESH_INTERVAL_MS) {
+            refresh();
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new ServiceException(ErrorCode.KAKAO_INVALID_TOKEN);
+        }
+        return key;
+    }
+
+    private synchronized void refresh() {
+        lastRefreshAt = System.currentTimeMillis();
+        try {
+            JsonNode root = objectMapper.readTree(restTemplate.getForObject(jwksUrl, String.class));
+            Map<String, PublicKey> loaded = new HashMap<>();
+            KeyFactory kf = KeyFactory.getInstance("RSA");
+            for (JsonNode jwk : root.path("keys")) {
+                if (!"RSA".equals(jwk.path("kty").asText())) continue;
+                BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                loaded.put(jwk.path("kid").asText(), kf.generatePublic(new RSAPublicKeySpec(n, e)));
+            }
+            if (!loaded.isEmpty()) {
+                keys = Map.copyOf(loaded);
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 키 유지
+            log.warn("[kakao-oidc] jwks refresh failed url={}", jwksUrl, e);
+        }
+    }
+}
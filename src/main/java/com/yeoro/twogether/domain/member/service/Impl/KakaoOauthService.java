@@ -12,7 +12,6 @@ import com.yeoro.twogether.global.store.StateStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -25,41 +24,73 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class KakaoOauthService implements OauthService {
 
-    private final PasswordEncoder passwordEncoder;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
     private final StateStore stateStore; // state 저장/검증 (CSRF)
+    private final KakaoIdTokenVerifier idTokenVerifier;
 
     @Value("${kakao.client-id}")      private String clientId;
     @Value("${kakao.client-secret:}") private String clientSecret;
     @Value("${kakao.redirect-uri}")   private String redirectUri;
+    // 로컬 스텁 서버로 테스트할 수 있도록 호스트를 설정으로 분리
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}") private String authBaseUrl;
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")   private String apiBaseUrl;
 
     @Override
     public LoginPlatform platform() { return LoginPlatform.KAKAO; }
 
-    /** 프론트에 전달할 인가 URL 생성 (state 발급/저장 포함) */
+    /** 프론트에 전달할 인가 URL 생성 (state 발급/저장 포함, state 값으로 OIDC nonce 보관) */
     @Override
     public String buildAuthorizeUrl() {
         String state = UUID.randomUUID().toString();
-        stateStore.save(state, "1"); // TTL은 StateStore 구현에서 관리
-        return buildAuthorizeUrl(redirectUri, state);
+        String nonce = UUID.randomUUID().toString();
+        stateStore.save(state, nonce); // TTL은 StateStore 구현에서 관리
+        return authorizeUrl(redirectUri, state, idTokenVerifier.isEnabled() ? nonce : null);
     }
 
     /** 인가 URL (직접 state/redirectUri 주입 가능) */
     @Override
     public String buildAuthorizeUrl(String redirectUri, String state) {
-        return UriComponentsBuilder.fromHttpUrl("https://kauth.kakao.com/oauth/authorize")
+        return authorizeUrl(redirectUri, state, null);
+    }
+
+    private String authorizeUrl(String redirectUri, String state, String nonce) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(authBaseUrl + "/oauth/authorize")
                 .queryParam("response_type", "code")
                 .queryParam("client_id", clientId)
                 .queryParam("redirect_uri", redirectUri)
-                .queryParam("state", state)
-                .build(true).toUriString();
+                .queryParam("state", state);
+        if (nonce != null) {
+            builder.queryParam("scope", "openid").queryParam("nonce", nonce);
+        }
+        return builder.build(true).toUriString();
+    }
+
+    /**
+     * code → 프로필
+     * - OIDC 모드: 토큰 응답의 id_token을 로컬 검증 (외부 호출 1회)
+     * - 그 외(또는 id_token 누락): access_token으로 프로필 API 조회 (외부 호출 2회)
+     */
+    @Override
+    public OauthProfile fetchProfile(String code, String redirectUri, String nonce) {
+        KakaoToken token = requestToken(code, redirectUri);
+        if (idTokenVerifier.isEnabled() && token.idToken() != null) {
+            return idTokenVerifier.verify(token.idToken(), nonce);
+        }
+        return getUserProfile(token.accessToken());
     }
 
     /** code→access_token */
     @Override
     public String exchangeCodeForAccessToken(String code, String redirectUri) {
-        String url = "https://kauth.kakao.com/oauth/token";
+        return requestToken(code, redirectUri).accessToken();
+    }
+
+    private record KakaoToken(@JsonProperty("access_token") String accessToken,
+                              @JsonProperty("id_token") String idToken) {}
+
+    private KakaoToken requestToken(String code, String redirectUri) {
+        String url = authBaseUrl + "/oauth/token";
         MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
         form.add("grant_type", "authorization_code");
         form.add("client_id", clientId);
@@ -69,13 +100,18 @@ public class KakaoOauthService implements OauthService {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        ResponseEntity<String> res = restTemplate.postForEntity(url, new HttpEntity<>(form, headers), String.class);
+        ResponseEntity<String> res;
+        try {
+            res = restTemplate.postForEntity(url, new HttpEntity<>(form, headers), String.class);
+        } catch (Exception e) {
+            // 타임아웃/서킷 open/4xx·5xx 모두 카카오 API 오류로 응답
+            throw new ServiceException(ErrorCode.KAKAO_API_ERROR, e);
+        }
         if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) {
             throw new ServiceException(ErrorCode.KAKAO_API_ERROR);
         }
         try {
-            record KakaoToken(@JsonProperty("access_token") String accessToken) {}
-            return objectMapper.readValue(res.getBody(), KakaoToken.class).accessToken();
+            return objectMapper.readValue(res.getBody(), KakaoToken.class);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.KAKAO_PROFILE_PARSE_FAILED, e);
         }
@@ -91,7 +127,7 @@ public class KakaoOauthService implements OauthService {
         ResponseEntity<String> response;
         try {
             response = restTemplate.exchange(
-                    "https://kapi.kakao.com/v2/user/me",
+                    apiBaseUrl + "/v2/user/me",
                     HttpMethod.GET,
                     request,
                     String.class
@@ -122,9 +158,4 @@ public class KakaoOauthService implements OauthService {
             throw new ServiceException(ErrorCode.KAKAO_PROFILE_PARSE_FAILED, e);
         }
     }
-
-    @Override
-    public String encodePassword(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
-    }
 }
\ No newline at end of file
@@ -4,19 +4,43 @@ import com.yeoro.twogether.domain.diary.repository.DiaryRepository;
 import com.yeoro.twogether.domain.diary.repository.StickerRepository;
 import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import com.yeoro.twogether.domain.member.service.MemberSnapshotCache;
 import com.yeoro.twogether.domain.place.repository.PlaceRepository;
 import com.yeoro.twogether.domain.waypoint.repository.WaypointItemRepository;
 import com.yeoro.twogether.domain.waypoint.repository.WaypointRepository;
-import lombok.RequiredArgsConstructor;
+import com.yeoro.twogether.global.entity.S3DeletionJob;
+import com.yeoro.twogether.global.repository.S3DeletionJobRepository;
+import com.yeoro.twogether.global.service.s3.MediaStore;
+import com.yeoro.twogether.global.service.s3.S3DeletionQueue;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 회원 하드 삭제
+ * - tombstone: 탈퇴 요청 트랜잭션에서 파트너 연결 해제 + 툼스톤 표시 + S3 잡 생성 (짧게 끝남)
+ * - purge: 자식 테이블을 id 기준 keyset 청크(기본 1000행)로 지우고 청크마다 별도 트랜잭션 커밋
+ *   → 큰 IN 목록/긴 락/언두 로그 누적 없음, 중간에 멈춰도 남은 행부터 재개 (MemberPurgeWorker)
+ * - 이미지가 있는 행은 같은 청크 트랜잭션에서 정리
+ *   (내용 주소 키는 참조 반납만 — 다른 회원이 같은 사진을 참조할 수 있음, 그 외 키는 S3 삭제 작업으로 등록)
+ * - 메트릭: member.purge.batch{step}(청크 소요 시간), member.purge.rows{step}
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MemberHardDeleteTx {
 
     private final MemberRepository memberRepository;
@@ -25,48 +49,240 @@ public class MemberHardDeleteTx {
     private final StickerRepository stickerRepository;
     private final WaypointRepository waypointRepository;
     private final WaypointItemRepository waypointItemRepository;
+    private final PartnerLinkStore partnerLinkStore;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final MediaStore mediaStore;
+    private final S3DeletionJobRepository s3DeletionJobRepository;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+
+    private final int chunkSize;
+    private final Duration staleAfter;
+
+    // FK 역순: Sticker → Diary, WaypointItem → Waypoint, place_tags → Place
+    private final List<PurgeStep> steps = List.of(
+            new PurgeStep("sticker", this::purgeStickers),
+            new PurgeStep("diary", this::purgeDiaries),
+            new PurgeStep("waypoint_item", this::purgeWaypointItems),
+            new PurgeStep("waypoint", this::purgeWaypoints),
+            new PurgeStep("place", this::purgePlaces)
+    );
+
+    public MemberHardDeleteTx(MemberRepository memberRepository,
+                              PlaceRepository placeRepository,
+                              DiaryRepository diaryRepository,
+                              StickerRepository stickerRepository,
+                              WaypointRepository waypointRepository,
+                              WaypointItemRepository waypointItemRepository,
+                              PartnerLinkStore partnerLinkStore,
+                              MemberSnapshotCache memberSnapshotCache,
+                              S3DeletionQueue s3DeletionQueue,
+                              MediaStore mediaStore,
+                              S3DeletionJobRepository s3DeletionJobRepository,
+                              TransactionTemplate tx,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.purge.chunk-size:1000}") int chunkSize,
+                              @Value("${member.purge.stale-ms:300000}") long staleMs) {
+        this.memberRepository = memberRepository;
+        this.placeRepository = placeRepository;
+        this.diaryRepository = diaryRepository;
+        this.stickerRepository = stickerRepository;
+        this.waypointRepository = waypointRepository;
+        this.waypointItemRepository = waypointItemRepository;
+        this.partnerLinkStore = partnerLinkStore;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.mediaStore = mediaStore;
+        this.s3DeletionJobRepository = s3DeletionJobRepository;
+        this.tx = tx;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.staleAfter = Duration.ofMillis(staleMs);
+    }
 
     /**
-     * 모든 DB 삭제를 하나의 트랜잭션으로 수행
+     * 탈퇴 표시 (호출 트랜잭션 안에서 수행)
+     * - 파트너 역참조 해제, 툼스톤 표시, S3 잡 생성 + 프로필 이미지 등록
      */
     @Transactional
-    public void run(Member me,
-                    List<Long> placeIds,
-                    List<Long> diaryIds,
-                    List<Long> waypointIds) {
-
+    public S3DeletionJob tombstone(Member me) {
         Long myId = me.getId();
 
-        // 1) 파트너 역참조 해제 (상대/나 모두)
-        memberRepository.findByPartner_Id(myId).ifPresent(other -> {
-            other.connectPartner(null);
-            other.clearRelationshipStartDate();
-        });
+        // 파트너 역참조 해제 (상대/나 모두)
+        unlinkReferrer(myId);
         if (me.getPartner() != null) {
             me.connectPartner(null);
             me.clearRelationshipStartDate();
         }
+        me.markDeleting();
+
+        S3DeletionJob job = s3DeletionQueue.openJob(myId);
+        String profileKey = me.getProfileImageUrl();
+        if (profileKey != null && !isExternalUrl(profileKey)) {
+            s3DeletionQueue.enqueue(job.getId(), mediaStore.releaseAll(List.of(profileKey)));
+        }
+        return job;
+    }
+
+    /**
+     * 툼스톤 회원의 데이터 청크 삭제 (트랜잭션 밖에서 호출)
+     * - 다른 워커가 진행 중이면 바로 반환
+     * @return 회원 행까지 삭제 완료했으면 true
+     */
+    public boolean purge(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (memberRepository.claimPurge(memberId, now, now.minus(staleAfter)) != 1) {
+            return false;
+        }
+
+        Long jobId = s3DeletionJobRepository.findFirstByMemberIdOrderByIdDesc(memberId)
+                .map(S3DeletionJob::getId)
+                .orElse(null);
+
+        long start = System.nanoTime();
+        long total = 0;
+        for (PurgeStep step : steps) {
+            total += runStep(step, memberId, jobId);
+        }
+
+        tx.executeWithoutResult(status -> {
+            // 삭제 도중 새로 생긴 역참조 정리 후 회원 행 삭제
+            unlinkReferrer(memberId);
+            memberRepository.deleteTombstone(memberId);
+        });
+        s3DeletionQueue.seal(jobId);
+
+        log.info("[member-purge] memberId={} rows={} took={}ms",
+                memberId, total, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return true;
+    }
+
+    private long runStep(PurgeStep step, Long memberId, Long jobId) {
+        Timer timer = Timer.builder("member.purge.batch")
+                .description("탈퇴 청크 삭제 트랜잭션 소요 시간")
+                .tag("step", step.name())
+                .register(meterRegistry);
+        Counter rows = Counter.builder("member.purge.rows")
+                .tag("step", step.name())
+                .register(meterRegistry);
+
+        long afterId = 0L;
+        long deleted = 0;
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = timer.record(() -> tx.execute(status -> {
+                List<Long> chunk = step.chunk().purge(memberId, jobId, cursor, PageRequest.of(0, chunkSize));
+                if (!chunk.isEmpty()) {
+                    memberRepository.touchPurge(memberId, LocalDateTime.now());
+                }
+                return chunk;
+            }));
+            if (ids == null || ids.isEmpty()) return deleted;
+
+            deleted += ids.size();
+            rows.increment(ids.size());
+            if (ids.size() < chunkSize) return deleted;
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    // ===== 청크 단위 삭제 (각각 하나의 트랜잭션 안에서 호출) =====
+
+    private List<Long> purgeStickers(Long memberId, Long jobId, long afterId, Pageable page) {
+        List<Long> ids = stickerRepository.findIdsByMemberIdAfter(memberId, afterId, page);
+        if (!ids.isEmpty()) stickerRepository.deleteByIds(ids);
+        return ids;
+    }
 
-        // 2) 자식 테이블 삭제 (FK 역순)
-        // a) Sticker → Diary
-        if (!diaryIds.isEmpty()) {
-            stickerRepository.deleteByDiaryIds(diaryIds);
-            diaryRepository.deleteByMemberId(myId);
+    private List<Long> purgeDiaries(Long memberId, Long jobId, long afterId, Pageable page) {
+        List<Long> ids = diaryRepository.findIdsByMemberIdAfter(memberId, afterId, page);
+        if (!ids.isEmpty()) diaryRepository.deleteByIds(ids);
+        return ids;
+    }
+
+    private List<Long> purgeWaypointItems(Long memberId, Long jobId, long afterId, Pageable page) {
+        List<Long> ids = enqueueImages(jobId,
+                waypointItemRepository.findIdAndImageUrlByMemberIdAfter(memberId, afterId, page), false);
+        if (!ids.isEmpty()) waypointItemRepository.deleteByIds(ids);
+        return ids;
+    }
+
+    private List<Long> purgeWaypoints(Long memberId, Long jobId, long afterId, Pageable page) {
+        List<Long> ids = waypointRepository.findIdsByMemberIdAfter(memberId, afterId, page);
+        if (!ids.isEmpty()) waypointRepository.deleteByIds(ids);
+        return ids;
+    }
+
+    private List<Long> purgePlaces(Long memberId, Long jobId, long afterId, Pageable page) {
+        List<Long> ids = enqueueImages(jobId,
+                placeRepository.findIdAndImageUrlByMemberIdAfter(memberId, afterId, page), true);
+        if (!ids.isEmpty()) {
+            placeRepository.deleteTagsByPlaceIds(ids);
+            placeRepository.deleteByIds(ids);
         }
+        return ids;
+    }
 
-        // b) WaypointItem → Waypoint
-        if (!waypointIds.isEmpty()) {
-            waypointItemRepository.deleteByWaypointIds(waypointIds);
-            waypointRepository.deleteByMemberId(myId);
+    /**
+     * (id, imageUrl) 행의 이미지 정리 후 id 목록 반환
+     * - ownsMedia: 행이 내용 주소 키의 참조를 들고 있으면 반납, 아니면(복사된 키) 건드리지 않음
+     * - 그 외 키는 S3 삭제 작업으로 등록
+     */
+    private List<Long> enqueueImages(Long jobId, List<Object[]> rows, boolean ownsMedia) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<String> keys = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+            String url = (String) row[1];
+            if (url != null && !url.isBlank()) keys.add(extractKey(url));
         }
+        List<String> unmanaged = ownsMedia
+                ? mediaStore.releaseAll(keys)
+                : keys.stream().filter(k -> !MediaStore.isManaged(k)).toList();
+        s3DeletionQueue.enqueue(jobId, unmanaged);
+        return ids;
+    }
 
-        // c) place_tags → place
-        if (!placeIds.isEmpty()) {
-            placeRepository.deleteTagsByPlaceIds(placeIds);
-            placeRepository.deleteByMemberId(myId);
+    /** 상대가 나를 partner로 들고 있으면 해제 */
+    private void unlinkReferrer(Long memberId) {
+        memberRepository.findByPartner_Id(memberId).ifPresent(other -> {
+            other.connectPartner(null);
+            other.clearRelationshipStartDate();
+            // 상대 토큰의 partnerId 클레임 무효화 (커밋 후)
+            partnerLinkStore.bumpAfterCommit(other.getId());
+            memberSnapshotCache.evictAfterCommit(other.getId());
+        });
+    }
+
+    private static boolean isExternalUrl(String value) {
+        return value.startsWith("http://") || value.startsWith("https://");
+    }
+
+    /**
+     * imageUrl 컬럼에 "Key"만 저장되면 그대로 반환.
+     * 혹시 전체 URL이 저장되어 있다면 path에서 Key를 추출.
+     */
+    private static String extractKey(String imageUrlOrKey) {
+        // Key 형태면 그대로
+        if (!isExternalUrl(imageUrlOrKey)) {
+            return imageUrlOrKey;
         }
+        try {
+            URI uri = URI.create(imageUrlOrKey);
+            String path = uri.getPath(); // "/folder/file.png"
+            return (path != null && path.startsWith("/")) ? path.substring(1) : path;
+        } catch (Exception e) {
+            // URL 파싱 실패 → 원문 사용(레거시 대비)
+            return imageUrlOrKey;
+        }
+    }
 
-        // 3) 마지막으로 member 삭제
-        memberRepository.delete(me);
+    @FunctionalInterface
+    private interface ChunkPurger {
+        /** afterId 이후 최대 page 크기만큼 삭제하고 삭제한 id 목록(오름차순) 반환 */
+        List<Long> purge(Long memberId, Long jobId, long afterId, Pageable page);
     }
-}
\ No newline at end of file
+
+    private record PurgeStep(String name, ChunkPurger chunk) {}
+}
@@ -0,0 +1,119 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 탈퇴 회원 데이터 삭제 워커
+ * - 탈퇴 트랜잭션 커밋 직후 삭제 시작, 요청 스레드는 툼스톤 표시만 하고 반환
+ * - 주기적으로 하트비트가 끊긴 툼스톤(노드 재시작/장애)을 찾아 남은 행부터 재개
+ * - 메트릭: member.purge.executor.queue
+ */
+@Slf4j
+@Component
+public class MemberPurgeWorker {
+
+    private final MemberHardDeleteTx memberHardDeleteTx;
+    private final MemberRepository memberRepository;
+    private final ThreadPoolExecutor executor;
+    private final long staleMs;
+
+    public MemberPurgeWorker(MemberHardDeleteTx memberHardDeleteTx,
+                             MemberRepository memberRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${member.purge.threads:1}") int threads,
+                             @Value("${member.purge.queue-capacity:100}") int queueCapacity,
+                             @Value("${member.purge.stale-ms:300000}") long staleMs) {
+        this.memberHardDeleteTx = memberHardDeleteTx;
+        this.memberRepository = memberRepository;
+        this.staleMs = staleMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "member-purge-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("member.purge.executor.queue", executor, e -> e.getQueue().size())
+                .description("삭제 대기 중인 탈퇴 회원 수")
+                .register(meterRegistry);
+    }
+
+    /** 탈퇴 트랜잭션 커밋 후 삭제 시작 (롤백되면 아무 것도 하지 않음) */
+    public void purgeAfterCommit(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(memberId);
+                }
+            });
+        } else {
+            submit(memberId);
+        }
+    }
+
+    /** 멈춘 삭제 재개 */
+    @Scheduled(fixedDelayString = "${member.purge.resume-interval-ms:60000}")
+    public void resume() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity <= 0) return;
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(staleMs * 1_000_000L);
+        List<Long> ids = memberRepository.findPurgeCandidateIds(staleBefore, PageRequest.of(0, capacity));
+        for (Long id : ids) {
+            if (!submit(id)) break;
+        }
+    }
+
+    private boolean submit(Long memberId) {
+        try {
+            executor.execute(() -> run(memberId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 resume 주기에 다시 시도
+            log.warn("[member-purge] queue full, deferred memberId={}", memberId);
+            return false;
+        }
+    }
+
+    private void run(Long memberId) {
+        try {
+            memberHardDeleteTx.purge(memberId);
+        } catch (Exception e) {
+            // 이미 커밋된 청크는 유지, 하트비트가 끊기면 resume이 이어서 처리
+            log.error("[member-purge] failed memberId={}", memberId, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
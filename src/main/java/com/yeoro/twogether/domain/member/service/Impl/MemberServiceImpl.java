@@ -1,9 +1,10 @@
 package com.yeoro.twogether.domain.member.service.Impl;
 
-import com.yeoro.twogether.domain.diary.repository.DiaryRepository;
+import com.yeoro.twogether.domain.member.dto.MemberSnapshot;
 import com.yeoro.twogether.domain.member.dto.OauthProfile;
 import com.yeoro.twogether.domain.member.dto.request.LoginRequest;
 import com.yeoro.twogether.domain.member.dto.request.SignupRequest;
+import com.yeoro.twogether.domain.member.dto.response.DeletionJobResponse;
 import com.yeoro.twogether.domain.member.dto.response.LoginResponse;
 import com.yeoro.twogether.domain.member.entity.Gender;
 import com.yeoro.twogether.domain.member.entity.LoginPlatform;
@@ -11,15 +12,23 @@ import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.member.repository.MemberRepository;
 import com.yeoro.twogether.domain.member.service.EmailVerificationService;
 import com.yeoro.twogether.domain.member.service.MemberService;
+import com.yeoro.twogether.domain.member.service.MemberSnapshotCache;
 import com.yeoro.twogether.domain.member.service.OauthService;
-import com.yeoro.twogether.domain.place.repository.PlaceRepository;
-import com.yeoro.twogether.domain.waypoint.repository.WaypointItemRepository;
-import com.yeoro.twogether.domain.waypoint.repository.WaypointRepository;
+import com.yeoro.twogether.domain.member.service.RequestMemberCache;
+import com.yeoro.twogether.global.argumentResolver.CustomUserDetails;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
+import com.yeoro.twogether.global.entity.S3DeletionJob;
 import com.yeoro.twogether.global.exception.ErrorCode;
 import com.yeoro.twogether.global.exception.ServiceException;
-import com.yeoro.twogether.global.service.s3.HighlightS3Service;
+import com.yeoro.twogether.global.properties.RateLimitProperties;
+import com.yeoro.twogether.global.repository.S3DeletionJobRepository;
+import com.yeoro.twogether.global.service.PasswordHasher;
 import com.yeoro.twogether.global.service.s3.ProfileS3Service;
+import com.yeoro.twogether.global.service.s3.S3Uploader;
+import com.yeoro.twogether.global.store.PartnerCodePool;
 import com.yeoro.twogether.global.store.PartnerCodeStore;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
+import com.yeoro.twogether.global.store.RateLimiter;
 import com.yeoro.twogether.global.token.JwtService;
 import com.yeoro.twogether.global.token.TokenPair;
 import com.yeoro.twogether.global.token.TokenService;
@@ -29,21 +38,20 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URI;
 import java.net.URL;
-import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 import static com.yeoro.twogether.global.exception.ErrorCode.MEMBER_NOT_FOUND;
 
@@ -56,17 +64,21 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final OauthService oauthService;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final PartnerCodeStore partnerCodeStore;
+    private final PartnerCodePool partnerCodePool;
     private final EmailVerificationService emailVerificationService;
     private final JwtService jwtService;
-    private final HighlightS3Service highlightS3Service;
-    private final PlaceRepository placeRepository;
-    private final DiaryRepository diaryRepository;
-    private final WaypointRepository waypointRepository;
-    private final WaypointItemRepository waypointItemRepository;
     private final MemberHardDeleteTx memberHardDeleteTx;
     private final ProfileS3Service profileS3Service;
+    private final S3Uploader s3Uploader;
+    private final PartnerLinkStore partnerLinkStore;
+    private final RateLimiter rateLimiter;
+    private final RequestMemberCache requestMemberCache;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final MemberPurgeWorker memberPurgeWorker;
+    private final S3DeletionJobRepository s3DeletionJobRepository;
+    private final TransactionTemplate tx;
 
 
 
@@ -89,7 +101,7 @@ public class MemberServiceImpl implements MemberService {
 
         Member member = Member.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
                 .name(request.name())
                 .phoneNumber(request.phoneNumber())
                 .gender(request.gender())
@@ -170,11 +182,12 @@ public class MemberServiceImpl implements MemberService {
     }
 
     /**
-     * 플랫폼 ID 기반 회원 ID 조회 존재하지 않으면 예외 발생
+     * 플랫폼 ID 기반 회원 ID 조회 존재하지 않거나 탈퇴 처리 중이면 예외 발생
      */
     @Override
     public Long getMemberIdByPlatformId(String platformId) {
         return memberRepository.findByPlatformId(platformId)
+            .filter(m -> !m.isDeleting())
             .map(Member::getId)
             .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
     }
@@ -184,69 +197,67 @@ public class MemberServiceImpl implements MemberService {
      */
     @Override
     public String getNameByMemberId(Long memberId) {
-        return memberRepository.findById(memberId)
+        return requestMemberCache.findWithPartner(memberId)
             .map(Member::getName)
             .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
     }
 
     /**
      * 회원 ID 기반 파트너 ID 조회 파트너 없으면 null 반환
+     * - getCurrentMember와 같은 요청 캐시 사용 → 함께 호출해도 회원 테이블 조회 1회
      */
     @Override
     public Long getPartnerId(Long memberId) {
-        return memberRepository.findById(memberId)
-            .map(Member::getPartner)
-            .map(Member::getId)
+        return requestMemberCache.findWithPartner(memberId)
+            .map(Member::getPartnerId)
             .orElse(null);
     }
 
     /**
      * 파트너 연결용 코드 생성 후 세션에 저장 (3분 TTL)
+     * - 미리 생성된 코드 풀에서 SPOP + 바인딩 (Redis 왕복 1회)
+     * - 풀이 비었을 때만 랜덤 생성 후 발급 (시도 1회 = Redis 왕복 1회)
      */
     @Override
     @Transactional
     public String generatePartnerCode(Long memberId) {
-        // 동일 사용자 재요청이면 기존 코드 그대로 반환
-        String existing = partnerCodeStore.findCodeByMember(memberId);
-        if (existing != null) return existing;
-
-        // 동시성 제어 — 짧은 락
-        boolean locked = partnerCodeStore.tryLock(memberId, 5); // 5초 락
-        try {
-            // 더블 체크 (락 획득 후 재확인)
-            existing = partnerCodeStore.findCodeByMember(memberId);
-            if (existing != null) return existing;
-
-            String code;
-            int maxRetry = 5;
-            int attempt = 0;
-            do {
-                if (attempt++ >= maxRetry) {
-                    throw new ServiceException(ErrorCode.CODE_GENERATION_FAILED);
-                }
-                code = CodeGenerator.generatePartnerCode();
-            } while (partnerCodeStore.existsCode(code)); // 코드 자체의 충돌 방지
-
-            // 양방향 저장(덮어쓰지 않음, TTL 동일)
-            partnerCodeStore.saveBoth(code, memberId);
-
-            // 최종 확인(경쟁 상황에서 기존값이 들어갔으면 그 값 사용)
-            String finallySaved = partnerCodeStore.findCodeByMember(memberId);
-            return finallySaved != null ? finallySaved : code;
-        } finally {
-            if (locked) partnerCodeStore.unlock(memberId);
+        // 동일 사용자 재요청이면 기존 코드가 그대로 반환됨
+        String pooled = partnerCodePool.issue(memberId);
+        if (pooled != null) return pooled;
+
+        int maxRetry = 5;
+        for (int attempt = 0; attempt < maxRetry; attempt++) {
+            // 동일 사용자 재요청이면 기존 코드가 그대로 반환됨
+            String owned = partnerCodeStore.issue(CodeGenerator.generatePartnerCode(), memberId);
+            if (owned != null) return owned;
+            // null → 코드 자체 충돌, 새 코드로 재시도
         }
+        throw new ServiceException(ErrorCode.CODE_GENERATION_FAILED);
     }
 
 
     /**
      * 입력받은 코드로 파트너 연결 연결 성공 시 JWT 갱신 및 LoginResponse 반환
+     * - 연결 트랜잭션 커밋 → 양쪽 파트너 연결 버전 증가 → 증가된 버전으로 토큰 발급
+     *   (커밋 전 버전으로 발급하면 새 토큰의 partnerId 클레임이 곧바로 무효가 되어 매 요청 DB 조회)
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse connectPartner(Long requesterId, String inputCode,
         HttpServletRequest request,
         HttpServletResponse response) {
+        Long partnerId = tx.execute(status -> linkPartner(requesterId, inputCode));
+
+        // 커밋 후 버전 증가 → 기존 토큰의 partnerId 클레임 무효화
+        long partnerLinkVersion = partnerLinkStore.bump(requesterId);
+        partnerLinkStore.bump(partnerId);
+
+        // 파트너 연결 완료 후 JWT 갱신 및 LoginResponse 반환 (증가된 버전 사용)
+        return tx.execute(status -> createLoginResponse(requesterId, partnerLinkVersion, request, response));
+    }
+
+    /** 코드 소비 + 양방향 연결 (호출 트랜잭션 안에서) — 연결된 파트너 ID 반환 */
+    private Long linkPartner(Long requesterId, String inputCode) {
         Long partnerId = partnerCodeStore.consume(inputCode);
         if (partnerId == null) {
             throw new ServiceException(ErrorCode.PARTNER_CODE_INVALID);
@@ -255,10 +266,16 @@ public class MemberServiceImpl implements MemberService {
             throw new ServiceException(ErrorCode.SELF_PARTNER_NOT_ALLOWED);
         }
 
-        Member requester = memberRepository.findById(requesterId)
-                .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
-        Member partner = memberRepository.findById(partnerId)
-                .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
+        // 탈퇴 표시와 겹치지 않도록 두 행을 ID 순서로 잠근 뒤 툼스톤 확인
+        Member requester;
+        Member partner;
+        if (requesterId < partnerId) {
+            requester = lockActiveMember(requesterId);
+            partner = lockActiveMember(partnerId);
+        } else {
+            partner = lockActiveMember(partnerId);
+            requester = lockActiveMember(requesterId);
+        }
 
         requester.connectPartner(partner);
         partner.connectPartner(requester);
@@ -266,13 +283,21 @@ public class MemberServiceImpl implements MemberService {
         memberRepository.save(requester);
         memberRepository.save(partner);
 
-        // 파트너 연결 완료 후 JWT 갱신 및 LoginResponse 반환
-        return createLoginResponse(requesterId, request, response);
+        memberSnapshotCache.evictAfterCommit(requesterId, partnerId);
+        return partnerId;
     }
 
 
+    /** 행 잠금 후 조회 — 없거나 탈퇴 처리 중이면 MEMBER_NOT_FOUND */
+    private Member lockActiveMember(Long memberId) {
+        return requestMemberCache.findForUpdate(memberId)
+                .filter(m -> !m.isDeleting())
+                .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
+    }
+
     /**
      * 플랫폼 ID 기준으로 회원 존재 시 ID 반환, 없으면 신규 가입 후 ID 반환
+     * - 탈퇴 처리 중인 회원이면 MEMBER_NOT_FOUND (삭제가 끝난 뒤 재가입 가능)
      */
     @Override
     @Transactional
@@ -289,10 +314,34 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(readOnly = true)
     public Member getCurrentMember(Long memberId) {
-        return memberRepository.findByIdWithPartner(memberId)
+        return requestMemberCache.findWithPartner(memberId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
+    /**
+     * 회원 스냅샷 조회 (L1 로컬 → L2 Redis → DB)
+     */
+    @Override
+    public MemberSnapshot getMemberSnapshot(Long memberId) {
+        return memberSnapshotCache.get(memberId);
+    }
+
+    /**
+     * 권한 판단용 본인/파트너 ID
+     * - 요청 주체 본인이면 필터가 검증한 값(plv 확인 또는 DB 조회) 사용
+     * - 그 외(비동기/배치 등)는 DB에서 직접 조회
+     */
+    @Override
+    public LoginMember getCouple(Long memberId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails user
+                && memberId.equals(user.getMemberId())) {
+            return user.toLoginMember();
+        }
+        return new LoginMember(memberId, requestMemberCache.findPartnerId(memberId));
+    }
+
     /**
      * 프로필 이미지 수정
      */
@@ -306,91 +355,78 @@ public class MemberServiceImpl implements MemberService {
         Member m = getCurrentMember(memberId);
         String currentKey = m.getProfileImageUrl();
 
-        try {
-            byte[] bytes = image.getBytes();
-            String newSha = sha256Hex(bytes);
+        // 임시 파일로 스트리밍하며 해시 계산 (힙에 전체를 올리지 않음)
+        try (S3Uploader.Spooled file = s3Uploader.spool(image)) {
+            String newSha = file.sha256();
 
-            // 동일 파일이면 스킵
-            boolean same = false;
-            if (currentKey != null && !currentKey.isBlank()) {
+            // 동일 파일이면 스킵 (DB에 기록된 해시 비교, 해시가 없는 기존 행만 S3 HEAD)
+            if (m.hasSameProfileImage(newSha)) return;
+            if (m.getProfileImageSha256() == null && currentKey != null && !currentKey.isBlank()) {
                 try {
                     String oldSha = profileS3Service.headSha256(currentKey);
-                    same = (oldSha != null && oldSha.equalsIgnoreCase(newSha));
+                    if (oldSha != null && oldSha.equalsIgnoreCase(newSha)) {
+                        m.changeProfileImage(currentKey, newSha, file.size(), image.getContentType());
+                        return;
+                    }
                 } catch (Exception e) {
                     log.warn("[profile] head meta failed, proceed upload: {}", currentKey);
                 }
             }
-            if (same) return;
 
-            // 새 업로드
+            // 새 참조 획득 (같은 내용이 이미 있으면 업로드 생략) 후 기존 참조 반납
             ProfileS3Service.UploadResult up = profileS3Service.upload(
-                    memberId,
                     image.getOriginalFilename(),
                     image.getContentType(),
-                    bytes
+                    file
             );
-            String newKey = up.key();
-
-            // 롤백 시 새 업로드 삭제
-            registerRollbackDelete(newKey);
-
-            // 커밋 후 기존 이미지 정리
-            deleteOldAfterCommit(currentKey, newKey);
+            profileS3Service.release(currentKey);
 
             // DB 반영
-            m.setProfileImageUrl(newKey);
+            m.changeProfileImage(up.key(), up.sha256(), up.size(), up.contentType());
+            memberSnapshotCache.evictAfterCommit(memberId);
 
         } catch (IOException e) {
             throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
 
+    /**
+     * 프로필 이미지 수정 (직접 업로드 확정)
+     * - 트랜잭션 밖에서 HEAD 1회로 업로드 확인 → 짧은 쓰기 트랜잭션에서 참조 교체
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateProfileImage(Long memberId, String imageKey) {
+        if (imageKey == null || imageKey.isBlank()) {
+            throw new ServiceException(ErrorCode.INVALID_FILE);
+        }
+        if (imageKey.equals(getMemberSnapshot(memberId).profileImageUrl())) return;
+
+        ProfileS3Service.UploadResult up = profileS3Service.verifyUploaded(memberId, imageKey);
+
+        tx.executeWithoutResult(status -> {
+            Member m = getCurrentMember(memberId);
+            String currentKey = m.getProfileImageUrl();
+            if (imageKey.equals(currentKey)) return;
+
+            profileS3Service.attach(memberId, up);
+            profileS3Service.release(currentKey);
+
+            m.changeProfileImage(up.key(), up.sha256(), up.size(), up.contentType());
+            memberSnapshotCache.evictAfterCommit(memberId);
+        });
+    }
+
     // MemberServiceImpl: ProfileS3Service 사용
     @Override
     public URL getProfileImagePresignedUrl(Long memberId) {
-        Member m = getCurrentMember(memberId);
-        String key = m.getProfileImageUrl();
+        String key = getMemberSnapshot(memberId).profileImageUrl();
         if (key == null || key.isBlank()) return null;
         String url = profileS3Service.presignedGetUrl(key);
         try { return new URL(url); }
         catch (Exception e) { throw new ServiceException(ErrorCode.FILE_DOWNLOAD_FAILED); }
     }
 
-    private void deleteOldAfterCommit(String oldKey, String newKey) {
-        if (oldKey == null || oldKey.isBlank() || oldKey.equals(newKey)) return;
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                profileS3Service.deleteQuietly(oldKey);
-            }
-        });
-    }
-
-    private void registerRollbackDelete(String key) {
-        if (key == null || key.isBlank()) return;
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCompletion(int status) {
-                if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
-                    profileS3Service.deleteQuietly(key);
-                    log.warn("[S3] rolled back, deleted orphan profile upload: {}", key);
-                }
-            }
-        });
-    }
-
-    private static String sha256Hex(byte[] bytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(bytes);
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
     /**
      * 이름 수정
      */
@@ -399,6 +435,8 @@ public class MemberServiceImpl implements MemberService {
     public void updateName(Long memberId, String newName) {
         Member m = getCurrentMember(memberId);
         m.setName(newName);
+        // 파트너 스냅샷에도 내 이름이 들어 있으므로 양쪽 무효화
+        memberSnapshotCache.evictAfterCommit(memberId, m.getPartnerId());
     }
 
     /**
@@ -418,6 +456,7 @@ public class MemberServiceImpl implements MemberService {
 
         partner.setNickname(nickname);
         memberRepository.save(partner);
+        memberSnapshotCache.evictAfterCommit(requesterId, partner.getId());
     }
 
     /**
@@ -444,6 +483,10 @@ public class MemberServiceImpl implements MemberService {
             me.connectPartner(null);
 
             memberRepository.save(partner);
+
+            // 양쪽 파트너 연결 버전 증가(커밋 후) → 기존 토큰의 partnerId 클레임 무효화
+            partnerLinkStore.bumpAfterCommit(memberId, partner.getId());
+            memberSnapshotCache.evictAfterCommit(memberId, partner.getId());
         }
         memberRepository.save(me);
     }
@@ -463,20 +506,23 @@ public class MemberServiceImpl implements MemberService {
         if (encoded == null) {
             throw new ServiceException(ErrorCode.PASSWORD_NOT_SET);
         }
-        if (!passwordEncoder.matches(currentPassword, encoded)) {
-            throw new ServiceException(ErrorCode.PASSWORD_NOT_MATCH);
-        }
-        if (passwordEncoder.matches(newPassword, encoded)) {
+        // 현재 비밀번호가 일치했다면 "이전과 동일" 여부는 평문 비교로 충분 → BCrypt 2회(검증 + 인코딩)를 한 작업으로
+        if (newPassword != null && newPassword.equals(currentPassword)) {
+            if (!passwordHasher.matches(currentPassword, encoded)) {
+                throw new ServiceException(ErrorCode.PASSWORD_NOT_MATCH);
+            }
             throw new ServiceException(ErrorCode.PASSWORD_SAME_AS_OLD);
         }
-        m.setPassword(passwordEncoder.encode(newPassword));
+        String newEncoded = passwordHasher.run("change", encoder ->
+                encoder.matches(currentPassword, encoded) ? encoder.encode(newPassword) : null);
+        if (newEncoded == null) {
+            throw new ServiceException(ErrorCode.PASSWORD_NOT_MATCH);
+        }
+        m.setPassword(newEncoded);
 
-        // Refresh Token 무효화
+        // Refresh Token 무효화 + 기존 토큰 전체 폐기(에포크 증가)
         jwtService.invalidateRefreshToken(memberId);
-        String currentAccessToken = jwtService.resolveAccessTokenFromContextOrRequest();
-        if (currentAccessToken != null) {
-            jwtService.blacklistAccessToken(currentAccessToken);
-        }
+        jwtService.revokeAllTokens(memberId);
     }
 
     /** 성별 변경 */
@@ -485,6 +531,7 @@ public class MemberServiceImpl implements MemberService {
     public void updateGender(Long memberId, Gender gender) {
         Member m = getCurrentMember(memberId);
         m.setGender( gender );
+        memberSnapshotCache.evictAfterCommit(memberId);
     }
 
     /** 연령대 변경 */
@@ -493,6 +540,7 @@ public class MemberServiceImpl implements MemberService {
     public void updateAgeRange(Long memberId, String ageRange) {
         Member m = getCurrentMember(memberId);
         m.setAgeRange( ageRange );
+        memberSnapshotCache.evictAfterCommit(memberId);
     }
 
     // 로그인
@@ -505,9 +553,15 @@ public class MemberServiceImpl implements MemberService {
     @Transactional
     public LoginResponse kakaoLogin(String accessToken, HttpServletRequest request, HttpServletResponse response) {
         OauthProfile profile = oauthService.getUserProfile(accessToken);
-        String dummyPassword = oauthService.encodePassword(UUID.randomUUID().toString());
+        return oauthLogin(profile, LoginPlatform.KAKAO, request, response);
+    }
 
-        Long memberId = signupByOauth(profile, LoginPlatform.KAKAO, dummyPassword);
+    @Override
+    @Transactional
+    public LoginResponse oauthLogin(OauthProfile profile, LoginPlatform loginPlatform,
+                                    HttpServletRequest request, HttpServletResponse response) {
+        // OAuth 회원은 비밀번호 로그인 불가 → 해시 없이 사용 불가 값 저장
+        Long memberId = signupByOauth(profile, loginPlatform, PasswordHasher.UNUSABLE_PASSWORD);
 
         return createLoginResponse(memberId, request, response); // TokenPair 및 쿠키 포함 처리
     }
@@ -519,7 +573,32 @@ public class MemberServiceImpl implements MemberService {
     private LoginResponse createLoginResponse(Long memberId,
                                               HttpServletRequest request,
                                               HttpServletResponse response) {
-        Member me = memberRepository.findByIdWithPartner(memberId)
+        // 파트너 연결 버전은 파트너 조회보다 먼저 (사이에 연결이 바뀌면 이 토큰의 partnerId는 신뢰되지 않음)
+        return createLoginResponse(memberId, tokenService.partnerLinkVersion(memberId), request, response);
+    }
+
+    /** JWT 발급 + LoginResponse 생성 (파트너 연결 버전 지정) */
+    private LoginResponse createLoginResponse(Long memberId,
+                                              long partnerLinkVersion,
+                                              HttpServletRequest request,
+                                              HttpServletResponse response) {
+        return createLoginResponse(memberId, partnerLinkVersion, request, response, tokenPair -> {
+            tokenService.storeRefreshTokenInRedis(memberId, tokenPair.getRefreshToken());
+            return tokenPair;
+        });
+    }
+
+    /**
+     * JWT 발급 + LoginResponse 생성
+     * @param partnerLinkVersion 파트너 조회보다 먼저 읽은(또는 커밋 후 증가시킨) 파트너 연결 버전
+     * @param persist 새 토큰 쌍의 Refresh 저장 방식(단순 저장/회전) — 실제로 내려줄 토큰 쌍 반환
+     */
+    private LoginResponse createLoginResponse(Long memberId,
+                                              long partnerLinkVersion,
+                                              HttpServletRequest request,
+                                              HttpServletResponse response,
+                                              UnaryOperator<TokenPair> persist) {
+        Member me = requestMemberCache.findWithPartner(memberId)
                 .orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
 
         Member partner = me.getPartner();
@@ -527,16 +606,16 @@ public class MemberServiceImpl implements MemberService {
         String partnerName = (partner != null) ? partner.getName() : null;
         String partnerNickname = (partner != null) ? partner.getNickname() : null;
 
-        // 토큰
-        TokenPair tokenPair = tokenService.createTokenPair(
+        // 토큰 (저장 후 전송)
+        TokenPair tokenPair = persist.apply(tokenService.createTokenPair(
                 me.getId(),
                 me.getEmail(),
-                partnerId
-        );
+                partnerId,
+                partnerLinkVersion
+        ));
 
         // 전송
         tokenService.sendTokensToClient(request, response, tokenPair);
-        tokenService.storeRefreshTokenInRedis(memberId, tokenPair.getRefreshToken());
 
         // 나의 정보
         String name = me.getName();
@@ -572,7 +651,11 @@ public class MemberServiceImpl implements MemberService {
     public LoginResponse login(LoginRequest request,
                                HttpServletRequest httpRequest,
                                HttpServletResponse httpResponse) {
+        // 계정 단위 대입 공격 차단 (IP 단위는 RateLimitFilter) — DB 조회/BCrypt 이전에 검사
+        rateLimiter.check(RateLimitProperties.LOGIN_EMAIL, request.email());
+
         Member member = memberRepository.findByEmail(request.email())
+                .filter(m -> !m.isDeleting())
                 .orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
 
         // LOCAL 사용자만 가능
@@ -580,7 +663,7 @@ public class MemberServiceImpl implements MemberService {
             throw new ServiceException(ErrorCode.NOT_LOCAL_MEMBER);
         }
 
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+        if (!passwordHasher.matches(request.password(), member.getPassword())) {
             throw new ServiceException(ErrorCode.PASSWORD_NOT_MATCH);
         }
 
@@ -622,6 +705,7 @@ public class MemberServiceImpl implements MemberService {
             memberRepository.save(partner);
         }
         memberRepository.save(me);
+        memberSnapshotCache.evictAfterCommit(memberId, me.getPartnerId());
 
         // 최신 데이터로 JWT 재발급
         return createLoginResponse(memberId, request, response);
@@ -632,6 +716,7 @@ public class MemberServiceImpl implements MemberService {
     /**
      * 로그아웃 처리
      * - Redis에서 Refresh Token 제거
+     * - 토큰 에포크 증가로 발급된 Access Token 폐기
      */
     @Override
     @Transactional
@@ -639,69 +724,51 @@ public class MemberServiceImpl implements MemberService {
         // Refresh Token 삭제
         tokenService.removeRefreshTokenFromRedis(memberId);
 
-        // Access Token 블랙리스트 등록
-        tokenService.blacklistAccessToken(accessToken);
+        // Access Token 폐기 (토큰별 블랙리스트 키 대신 회원 에포크 증가)
+        tokenService.revokeAllTokens(memberId);
     }
 
     /**
      * JWT 재발급
+     * - 기존 Refresh 비교 + 새 Refresh 저장을 Lua 스크립트 1회로 원자적 회전
+     * - 이미 회전된 Refresh 재사용 시 회원의 모든 세션 폐기
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public LoginResponse refreshTokens(HttpServletRequest request, HttpServletResponse response) {
-        Long memberId = tokenService.getMemberIdFromRefreshToken(request);
-        return createLoginResponse(memberId, request, response);
+        TokenService.RefreshCredential old = tokenService.readRefreshToken(request);
+        return createLoginResponse(old.memberId(), tokenService.partnerLinkVersion(old.memberId()), request, response,
+                next -> tokenService.rotateRefreshToken(old, next));
     }
 
     /**
      * 회원 탈퇴
+     * - 요청 트랜잭션은 툼스톤 표시 + 파트너 해제 + 전체 토큰 폐기만 수행 (이후 쓰기 차단)
+     * - 자식 데이터는 커밋 후 MemberPurgeWorker가 청크 단위로 삭제, S3 객체는 S3DeletionWorker가 일괄 삭제
+     * - 진행 상황은 반환한 잡 ID로 조회
      */
     @Override
     @Transactional
-    public void deleteMember(Long memberId) {
-        Member me = memberRepository.findByIdWithPartner(memberId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
-
-        List<Long> placeIds    = placeRepository.findIdsByMemberId(memberId);
-        List<Long> diaryIds    = diaryRepository.findIdsByMemberId(memberId);
-        List<Long> waypointIds = waypointRepository.findIdsByMemberId(memberId);
-
-        // S3 먼저 확인
-        if (!placeIds.isEmpty()) {
-            placeRepository.findAllById(placeIds).forEach(p -> {
-                String key = extractKey(p.getImageUrl());
-                if (key != null && !key.isBlank()) highlightS3Service.delete(key);
-            });
-        }
-        if (!waypointIds.isEmpty()) {
-            waypointItemRepository.findAllByWaypoint_IdIn(waypointIds).forEach(item -> {
-                String key = extractKey(item.getImageUrl());
-                if (key != null && !key.isBlank()) highlightS3Service.delete(key);
-            });
-        }
+    public String deleteMember(Long memberId) {
+        // 파트너 연결과 겹치지 않도록 행 잠금 후 조회
+        lockActiveMember(memberId);
+        Member me = getCurrentMember(memberId);
+        requestMemberCache.evict(memberId);
+        memberSnapshotCache.evictAfterCommit(memberId, me.getPartnerId());
 
-        // DB 삭제 (동일 트랜잭션 안으로 들어감)
-        memberHardDeleteTx.run(me, placeIds, diaryIds, waypointIds);
+        S3DeletionJob job = memberHardDeleteTx.tombstone(me);
+        tokenService.revokeAllTokens(memberId);
+        memberPurgeWorker.purgeAfterCommit(memberId);
+        return job.getPublicId();
     }
 
-
-    /**
-     * imageUrl 컬럼에 "Key"만 저장되면 그대로 반환.
-     * 혹시 전체 URL이 저장되어 있다면 path에서 Key를 추출.
-     */
-    private static String extractKey(String imageUrlOrKey) {
-        // Key 형태면 그대로
-        if (!imageUrlOrKey.startsWith("http://") && !imageUrlOrKey.startsWith("https://")) {
-            return imageUrlOrKey;
-        }
-        try {
-            URI uri = URI.create(imageUrlOrKey);
-            String path = uri.getPath(); // "/folder/file.png"
-            return (path != null && path.startsWith("/")) ? path.substring(1) : path;
-        } catch (Exception e) {
-            // URL 파싱 실패 → 원문 사용(레거시 대비)
-            return imageUrlOrKey;
-        }
+    /** 탈퇴 처리 진행 상황 */
+    @Override
+    @Transactional(readOnly = true)
+    public DeletionJobResponse getDeletionJob(String jobId) {
+        return s3DeletionJobRepository.findByPublicId(jobId)
+                .map(DeletionJobResponse::from)
+                .orElseThrow(() -> new ServiceException(ErrorCode.DELETION_JOB_NOT_FOUND));
     }
 }
 
@@ -1,5 +1,6 @@
 package com.yeoro.twogether.domain.member.service.Impl;
 
+import com.yeoro.twogether.domain.member.dto.OauthProfile;
 import com.yeoro.twogether.domain.member.dto.response.LoginResponse;
 import com.yeoro.twogether.domain.member.service.MemberService;
 import com.yeoro.twogether.domain.member.service.OauthService;
@@ -29,11 +30,11 @@ public class OauthLoginFacade {
 
     public LoginResponse handleKakaoCallback(String code, String state,
                                              HttpServletRequest request, HttpServletResponse response) {
-        if (stateStore.consume(state).isEmpty()) {
-            throw new ServiceException(ErrorCode.TOKEN_INVALID);
-        }
-        String kakaoAccessToken = kakao.exchangeCodeForAccessToken(code, redirectUri);
-        return memberService.kakaoLogin(kakaoAccessToken, request, response);
+        // state 값 = 인가 요청 시 발급한 nonce
+        String nonce = stateStore.consume(state)
+                .orElseThrow(() -> new ServiceException(ErrorCode.TOKEN_INVALID));
+        OauthProfile profile = kakao.fetchProfile(code, redirectUri, nonce);
+        return memberService.oauthLogin(profile, kakao.platform(), request, response);
     }
 
     public String buildKakaoAuthorizeUrl() {
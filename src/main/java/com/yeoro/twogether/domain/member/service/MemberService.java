@@ -1,12 +1,15 @@
 package com.yeoro.twogether.domain.member.service;
 
+import com.yeoro.twogether.domain.member.dto.MemberSnapshot;
 import com.yeoro.twogether.domain.member.dto.OauthProfile;
 import com.yeoro.twogether.domain.member.dto.request.LoginRequest;
 import com.yeoro.twogether.domain.member.dto.request.SignupRequest;
+import com.yeoro.twogether.domain.member.dto.response.DeletionJobResponse;
 import com.yeoro.twogether.domain.member.dto.response.LoginResponse;
 import com.yeoro.twogether.domain.member.entity.Gender;
 import com.yeoro.twogether.domain.member.entity.LoginPlatform;
 import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.multipart.MultipartFile;
@@ -85,6 +88,12 @@ public interface MemberService {
     LoginResponse kakaoLogin(String accessToken, HttpServletRequest request,
         HttpServletResponse response);
 
+    /**
+     * 이미 조회/검증된 OAuth 프로필로 로그인 처리 → 회원 조회/가입 → JWT 발급
+     */
+    LoginResponse oauthLogin(OauthProfile profile, LoginPlatform loginPlatform,
+        HttpServletRequest request, HttpServletResponse response);
+
     /**
      * 로그아웃
      */
@@ -95,11 +104,26 @@ public interface MemberService {
      */
     Member getCurrentMember(Long memberId);
 
+    /**
+     * 회원 + 파트너 불변 스냅샷 조회 (2단 캐시) — 화면 표시 전용, 권한 판단에는 getCouple 사용
+     */
+    MemberSnapshot getMemberSnapshot(Long memberId);
+
+    /**
+     * 권한 판단용 본인/파트너 ID (캐시된 스냅샷이 아닌 검증된 값)
+     */
+    LoginMember getCouple(Long memberId);
+
     /**
      * 프로필 이미지 수정
      */
     void updateProfileImage(Long memberId, MultipartFile image);
 
+    /**
+     * 프로필 이미지 수정 (presigned PUT으로 S3에 직접 올린 이미지 키로 확정)
+     */
+    void updateProfileImage(Long memberId, String imageKey);
+
     java.net.URL getProfileImagePresignedUrl(Long memberId);
 
     /**
@@ -132,5 +156,10 @@ public interface MemberService {
 
     LoginResponse updateRelationshipStartDate(Long memberId, String date, HttpServletRequest request, HttpServletResponse response);
 
-    void deleteMember(Long memberId);
+    /**
+     * 회원 탈퇴 — S3 정리 잡 ID 반환 (getDeletionJob으로 진행 상황 조회)
+     */
+    String deleteMember(Long memberId);
+
+    DeletionJobResponse getDeletionJob(String jobId);
 }
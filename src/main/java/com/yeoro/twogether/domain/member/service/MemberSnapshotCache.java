@@ -0,0 +1,200 @@
+package com.yeoro.twogether.domain.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yeoro.twogether.domain.member.dto.MemberSnapshot;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 회원 스냅샷 2단 캐시
+ * - L1: 노드 로컬 Caffeine, L2: Redis(member:snap:{<id>}, JSON)
+ * - 변경 경로는 커밋 후 evict 호출 → 세대(member:snap:gen:{<id>}) 증가 + L2 삭제
+ *   + pub/sub(member:snap)으로 모든 노드의 L1 제거
+ * - L2 채우기는 DB 조회 전에 읽은 세대가 그대로일 때만 (evict 이후 옛 값이 다시 채워지는 것 방지)
+ * - 화면 표시 전용, 권한 판단에는 사용하지 않음 (MemberService.getCouple)
+ * - 스냅샷에 파트너 이름/애칭이 들어가므로 한쪽이 바뀌면 양쪽 모두 evict
+ * - 메트릭: member.snapshot.l1(Caffeine 통계: hit/miss/eviction), member.snapshot.l2{result}, member.snapshot.invalidations
+ */
+@Slf4j
+@Component
+public class MemberSnapshotCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "member:snap:";
+    private static final String GEN_PREFIX = "member:snap:gen:";
+    private static final String CHANNEL = "member:snap";
+
+    /**
+     * KEYS[1]=세대, KEYS[2]=스냅샷 / ARGV[1]=현재 시각(ms), ARGV[2]=세대 TTL(ms)
+     * 세대는 max(현재 시각, 기존+1) → 키가 만료된 뒤에도 이전 값이 다시 나오지 않음
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local v = math.max(tonumber(ARGV[1]), tonumber(redis.call('GET', KEYS[1]) or '0') + 1)
+            redis.call('SET', KEYS[1], string.format('%d', v), 'PX', ARGV[2])
+            redis.call('DEL', KEYS[2])
+            return v
+            """, Long.class);
+
+    /** KEYS[1]=세대, KEYS[2]=스냅샷 / ARGV[1]=읽어 둔 세대, ARGV[2]=JSON, ARGV[3]=TTL(ms) */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final RequestMemberCache requestMemberCache;
+    private final Duration redisTtl;
+
+    private final Cache<Long, MemberSnapshot> local;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Counter invalidations;
+
+    public MemberSnapshotCache(StringRedisTemplate redis,
+                               ObjectMapper objectMapper,
+                               RequestMemberCache requestMemberCache,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${member.snapshot.local-ttl-ms:60000}") long localTtlMs,
+                               @Value("${member.snapshot.redis-ttl-ms:1800000}") long redisTtlMs,
+                               @Value("${member.snapshot.max-entries:50000}") long maxEntries) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.requestMemberCache = requestMemberCache;
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "member.snapshot.l1");
+        this.l2Hit = Counter.builder("member.snapshot.l2").tag("result", "hit").register(meterRegistry);
+        this.l2Miss = Counter.builder("member.snapshot.l2").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder("member.snapshot.invalidations").register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /** 스냅샷 조회 (L1 → L2 → DB), 없는 회원이면 MEMBER_NOT_FOUND */
+    public MemberSnapshot get(Long memberId) {
+        MemberSnapshot snapshot = local.get(memberId, this::loadShared);
+        if (snapshot == null) {
+            throw new ServiceException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 회원 스냅샷 무효화 — 트랜잭션 중이면 커밋 후, 아니면 즉시
+     * (커밋 전에 지우면 동시 조회가 옛 값을 다시 채울 수 있음)
+     */
+    public void evictAfterCommit(Long... memberIds) {
+        List<Long> ids = Arrays.stream(memberIds).filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(ids);
+                }
+            });
+        } else {
+            evictNow(ids);
+        }
+    }
+
+    private void evictNow(List<Long> ids) {
+        for (Long id : ids) {
+            local.invalidate(id);
+            invalidations.increment();
+            try {
+                redis.execute(EVICT_SCRIPT, List.of(genKey(id), snapshotKey(id)),
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(redisTtl.multipliedBy(2).toMillis()));
+                redis.convertAndSend(CHANNEL, String.valueOf(id));
+            } catch (Exception e) {
+                // L2는 TTL로 결국 만료, L1은 local-ttl 이내 만료
+                log.warn("[member-snapshot] evict failed memberId={}", id, e);
+            }
+        }
+    }
+
+    /** 다른 노드에서 발행한 무효화 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            local.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("[{}] malformed message: {}", CHANNEL, body);
+        }
+    }
+
+    private MemberSnapshot loadShared(Long memberId) {
+        String key = snapshotKey(memberId);
+        String gen = null;
+        try {
+            List<String> values = redis.opsForValue().multiGet(List.of(key, genKey(memberId)));
+            String json = values != null ? values.get(0) : null;
+            if (json != null) {
+                l2Hit.increment();
+                return objectMapper.readValue(json, MemberSnapshot.class);
+            }
+            // DB 조회 전 세대 (없으면 "0")
+            gen = values != null && values.get(1) != null ? values.get(1) : "0";
+        } catch (Exception e) {
+            log.warn("[member-snapshot] redis read failed memberId={}", memberId, e);
+        }
+        l2Miss.increment();
+
+        MemberSnapshot snapshot = requestMemberCache.findWithPartner(memberId)
+                .map(MemberSnapshot::from)
+                .orElse(null);
+        if (snapshot != null && gen != null) {
+            try {
+                redis.execute(FILL_SCRIPT, List.of(genKey(memberId), key),
+                        gen, objectMapper.writeValueAsString(snapshot), String.valueOf(redisTtl.toMillis()));
+            } catch (Exception e) {
+                log.warn("[member-snapshot] redis write failed memberId={}", memberId, e);
+            }
+        }
+        return snapshot;
+    }
+
+    /** 스냅샷/세대 키를 같은 슬롯에 두기 위한 해시 태그 */
+    private static String snapshotKey(Long memberId) {
+        return KEY_PREFIX + "{" + memberId + "}";
+    }
+
+    private static String genKey(Long memberId) {
+        return GEN_PREFIX + "{" + memberId + "}";
+    }
+}
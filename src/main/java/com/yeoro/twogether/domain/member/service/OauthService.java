@@ -9,5 +9,5 @@ public interface OauthService {
     String buildAuthorizeUrl(); // 구현체 내부에서 redirectUri/state를 처리
     String exchangeCodeForAccessToken(String code, String redirectUri);
     OauthProfile getUserProfile(String accessToken);
-    String encodePassword(String rawPassword);
+    OauthProfile fetchProfile(String code, String redirectUri, String nonce); // 코드 교환 + 프로필 (OIDC면 id_token 검증)
 }
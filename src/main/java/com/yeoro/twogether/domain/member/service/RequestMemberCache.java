@@ -0,0 +1,137 @@
+package com.yeoro.twogether.domain.member.service;
+
+import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 회원 조회 캐시 (request attribute)
+ * - 한 요청 안에서 같은 회원(파트너 fetch join 포함)은 DB에서 한 번만 조회
+ * - 캐시된 엔티티가 현재 영속성 컨텍스트에 없으면(clear/분리) 다시 조회 → 지연 로딩/변경 감지 안전
+ * - 요청 종료 시 회원 테이블 조회 횟수를 member.lookups.per.request{uri}로 기록
+ *   (캐시를 거치지 않는 조회 — 필터의 partner_id 조회, 행 잠금 등 — 도 이 클래스를 통해 집계)
+ * - 요청 밖(스케줄러, 초기화 러너 등)에서는 캐시 없이 바로 조회
+ * - 탈퇴 처리 중(툼스톤) 회원은 없는 회원으로 취급
+ */
+@Slf4j
+@Component
+public class RequestMemberCache {
+
+    private static final String ATTR = RequestMemberCache.class.getName();
+
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public RequestMemberCache(MemberRepository memberRepository, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** 회원 + 파트너 조회 (요청 내 메모이즈) */
+    public Optional<Member> findWithPartner(Long memberId) {
+        Holder holder = holder();
+        if (holder == null) {
+            return load(memberId);
+        }
+
+        Member cached = holder.members.get(memberId);
+        if (cached != null && entityManager.contains(cached)) {
+            return Optional.of(cached);
+        }
+
+        holder.lookups++;
+        Optional<Member> loaded = load(memberId);
+        loaded.ifPresent(m -> holder.members.put(memberId, m));
+        return loaded;
+    }
+
+    private Optional<Member> load(Long memberId) {
+        return memberRepository.findByIdWithPartner(memberId).filter(m -> !m.isDeleting());
+    }
+
+    /**
+     * 파트너 ID만 조회 (파트너 없으면 null)
+     * - 이번 요청에서 이미 읽은 회원이면 DB 조회 없음, 아니면 partner_id만 조회 (엔티티 캐시에는 넣지 않음)
+     */
+    public Long findPartnerId(Long memberId) {
+        Holder holder = holder();
+        if (holder != null) {
+            Member cached = holder.members.get(memberId);
+            if (cached != null && entityManager.contains(cached)) {
+                return cached.getPartnerId();
+            }
+        }
+        return counted(() -> memberRepository.findPartnerIdById(memberId).orElse(null));
+    }
+
+    /** 행 잠금 조회 (SELECT ... FOR UPDATE) — 캐시를 거치지 않고, 캐시된 엔티티는 제거 */
+    public Optional<Member> findForUpdate(Long memberId) {
+        evict(memberId);
+        return counted(() -> memberRepository.findByIdForUpdate(memberId));
+    }
+
+    /** 캐시를 거치지 않는 회원 테이블 조회 — 요청 조회 횟수에만 반영 */
+    private <T> T counted(Supplier<T> query) {
+        Holder holder = holder();
+        if (holder != null) {
+            holder.lookups++;
+        }
+        return query.get();
+    }
+
+    /** 회원 정보가 바뀐 경우(삭제/파트너 변경 등) 현재 요청의 캐시 제거 */
+    public void evict(Long memberId) {
+        Holder holder = holder();
+        if (holder != null) {
+            holder.members.remove(memberId);
+        }
+    }
+
+    private Holder holder() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+
+        Holder holder = (Holder) attrs.getAttribute(ATTR, RequestAttributes.SCOPE_REQUEST);
+        if (holder == null) {
+            holder = new Holder();
+            attrs.setAttribute(ATTR, holder, RequestAttributes.SCOPE_REQUEST);
+            Holder h = holder;
+            attrs.registerDestructionCallback(ATTR, () -> record(attrs, h), RequestAttributes.SCOPE_REQUEST);
+        }
+        return holder;
+    }
+
+    private void record(RequestAttributes attrs, Holder holder) {
+        Object pattern = attrs.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("member.lookups.per.request")
+                .description("요청당 회원 테이블 조회 횟수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(holder.lookups);
+        if (holder.lookups > 1) {
+            log.debug("[member-cache] {} member lookups in {}", holder.lookups, uri);
+        }
+    }
+
+    private static class Holder {
+        private final Map<Long, Member> members = new HashMap<>();
+        private int lookups;
+    }
+}
@@ -1,10 +1,14 @@
 package com.yeoro.twogether.domain.place.controller;
 
+import com.yeoro.twogether.domain.place.dto.request.PlaceUploadedCreateRequest;
 import com.yeoro.twogether.domain.place.dto.response.PlaceByDateResponse;
 import com.yeoro.twogether.domain.place.dto.response.PlaceCreateResponse;
 import com.yeoro.twogether.domain.place.dto.response.PlaceResponse;
 import com.yeoro.twogether.domain.place.service.PlaceService;
 import com.yeoro.twogether.global.argumentResolver.Login;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
+import com.yeoro.twogether.global.service.s3.DirectUploadService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +27,7 @@ import java.util.List;
 @RequestMapping("/api/place")
 public class PlaceController {
     private final PlaceService placeService;
+    private final DirectUploadService directUploadService;
 
 
     /** 하이라이트를 생성합니다. (동일 유저 기준 하나만 생성)*/
@@ -35,6 +40,24 @@ public class PlaceController {
         return placeService.createPlace(memberId, metaJson, image);
     }
 
+    /** 하이라이트 이미지 직접 업로드용 presigned PUT 발급 */
+    @PostMapping("/image-uploads")
+    public DirectUploadService.PresignedUpload presignImageUpload(
+            @Login Long memberId,
+            @RequestBody @Valid DirectUploadService.PresignRequest request
+    ) {
+        return directUploadService.presign(memberId, request);
+    }
+
+    /** 직접 업로드한 이미지 키로 하이라이트를 생성합니다. */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public PlaceCreateResponse createPlaceWithUploadedImage(
+            @Login Long memberId,
+            @RequestBody PlaceUploadedCreateRequest request
+    ) {
+        return placeService.createPlaceWithUploadedImage(memberId, request.toMeta(), request.imageKey());
+    }
+
     /**주소로 Place 목록 조회*/
     @GetMapping
     public List<PlaceResponse> getPlace(@Login Long memberId, @RequestParam String address) {
@@ -73,12 +96,12 @@ public class PlaceController {
      */
     @GetMapping("/by-date")
     public PlaceByDateResponse getPlacesByDate(
-            @Login Long memberId,
+            @Login LoginMember loginMember,
             @RequestParam(required = false) String date
     ) {
         LocalDate d = (date == null || date.isBlank())
                 ? null
                 : LocalDate.parse(date); // 형식 오류 시 글로벌 예외 핸들러에서 400 처리 권장
-        return placeService.getPlacesByDate(memberId, d);
+        return placeService.getPlacesByDate(loginMember, d);
     }
 }
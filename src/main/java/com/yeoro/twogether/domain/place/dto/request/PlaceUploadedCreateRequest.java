@@ -0,0 +1,20 @@
+package com.yeoro.twogether.domain.place.dto.request;
+
+import java.util.List;
+
+/**
+ * presigned PUT으로 직접 올린 이미지로 Place 생성
+ * - imageKey: presign 응답의 key
+ */
+public record PlaceUploadedCreateRequest(
+        String name,
+        String address,
+        String description,
+        List<String> tags,
+        String imageKey
+) {
+
+    public PlaceCreateRequest toMeta() {
+        return new PlaceCreateRequest(name, address, description, tags);
+    }
+}
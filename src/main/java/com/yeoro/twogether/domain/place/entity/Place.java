@@ -26,6 +26,16 @@ public class Place extends BaseTime {
     @Column
     private String imageUrl;
 
+    // 이미지 내용 해시/크기/타입 (동일 이미지 판별을 S3 HEAD 없이 처리, 기존 행은 ImageMetaBackfillJob이 채움)
+    @Column(name = "image_sha256", length = 64)
+    private String imageSha256;
+
+    @Column(name = "image_size")
+    private Long imageSize;
+
+    @Column(name = "image_content_type", length = 100)
+    private String imageContentType;
+
     @Column
     private String name;
 
@@ -45,6 +55,9 @@ public class Place extends BaseTime {
     public static class PlaceBuilder {
         private Member member;
         private String imageUrl;
+        private String imageSha256;
+        private Long imageSize;
+        private String imageContentType;
         private String name;
         private String address;
         private String description;
@@ -52,6 +65,9 @@ public class Place extends BaseTime {
 
         public PlaceBuilder member(Member member) { this.member = member; return this; }
         public PlaceBuilder imageUrl(String imageUrl) { this.imageUrl = imageUrl; return this; }
+        public PlaceBuilder imageMeta(String sha256, Long size, String contentType) {
+            this.imageSha256 = sha256; this.imageSize = size; this.imageContentType = contentType; return this;
+        }
         public PlaceBuilder name(String name) { this.name = name; return this; }
         public PlaceBuilder address(String address) { this.address = address; return this; }
         public PlaceBuilder description(String description) { this.description = description; return this; }
@@ -61,6 +77,9 @@ public class Place extends BaseTime {
             Place place = new Place();
             place.member = this.member;
             place.imageUrl = this.imageUrl;
+            place.imageSha256 = this.imageSha256;
+            place.imageSize = this.imageSize;
+            place.imageContentType = this.imageContentType;
             place.name = this.name;
             place.address = this.address;
             place.description = this.description;
@@ -69,6 +88,14 @@ public class Place extends BaseTime {
         }
     }
 
+    /** 이미지 교체 (키 + 내용 메타) */
+    public void changeImage(String imageUrl, String sha256, Long size, String contentType) {
+        this.imageUrl = imageUrl;
+        this.imageSha256 = sha256;
+        this.imageSize = size;
+        this.imageContentType = contentType;
+    }
+
     public void overwrite(String imageUrl, String name, String description, java.util.List<String> tags) {
         this.imageUrl = imageUrl;
         this.name = name;
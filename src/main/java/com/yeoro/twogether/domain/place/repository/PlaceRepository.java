@@ -2,11 +2,13 @@ package com.yeoro.twogether.domain.place.repository;
 
 import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.place.entity.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -40,23 +42,41 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             LocalDateTime endExclusive
     );
 
-    // ===== 회원 삭제용 =====
+    // ===== 이미지 메타 백필용 =====
+
+    /** 이미지 메타가 없는 행 (id, imageUrl) — 외부 URL 제외, id 기준 keyset 페이지 */
+    @Query("select p.id, p.imageUrl from Place p " +
+            "where p.imageSha256 is null and p.imageUrl is not null " +
+            "and p.imageUrl not like 'http%' and p.id > :afterId order by p.id")
+    List<Object[]> findImageMetaMissingAfter(@Param("afterId") Long afterId, Pageable pageable);
 
-    /** 회원이 올린 Place 전체 조회 (S3 키 수집용) */
-    @EntityGraph(attributePaths = "tags") // 필요 없으면 제거 가능
-    List<Place> findAllByMember_Id(Long memberId);
+    /** 이미지 메타 기록 (그 사이 이미지가 바뀌었으면 무시) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Place p set p.imageSha256 = :sha256, p.imageSize = :size, p.imageContentType = :contentType " +
+            "where p.id = :id and p.imageUrl = :key and p.imageSha256 is null")
+    int fillImageMeta(@Param("id") Long id,
+                      @Param("key") String key,
+                      @Param("sha256") String sha256,
+                      @Param("size") Long size,
+                      @Param("contentType") String contentType);
+
+    // ===== 회원 삭제용 =====
 
-    /** 회원이 올린 Place의 ID만 조회 (place_tags 선삭제용) */
-    @Query("select p.id from Place p where p.member.id = :memberId")
-    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+    /** 회원 Place (id, imageUrl) — id 기준 keyset 페이지 (탈퇴 청크 삭제 + S3 키 수집용) */
+    @Query("select p.id, p.imageUrl from Place p " +
+            "where p.member.id = :memberId and p.id > :afterId order by p.id")
+    List<Object[]> findIdAndImageUrlByMemberIdAfter(@Param("memberId") Long memberId,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
 
     /** ElementCollection 테이블(place_tags) 벌크 삭제 - 네이티브 */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = "delete from place_tags where place_id in (:placeIds)", nativeQuery = true)
     int deleteTagsByPlaceIds(@Param("placeIds") List<Long> placeIds);
 
-    /** Place 벌크 삭제 */
+    /** Place 벌크 삭제 (place_tags 선삭제 후) */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from Place p where p.member.id = :memberId")
-    int deleteByMemberId(@Param("memberId") Long memberId);
+    @Query("delete from Place p where p.id in (:ids)")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -1,8 +1,10 @@
 package com.yeoro.twogether.domain.place.service;
 
+import com.yeoro.twogether.domain.place.dto.request.PlaceCreateRequest;
 import com.yeoro.twogether.domain.place.dto.response.PlaceByDateResponse;
 import com.yeoro.twogether.domain.place.dto.response.PlaceCreateResponse;
 import com.yeoro.twogether.domain.place.dto.response.PlaceResponse;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -11,9 +13,10 @@ import java.util.List;
 public interface PlaceService {
 
     PlaceCreateResponse createPlace(Long memberId, String metaJson, MultipartFile image);
+    PlaceCreateResponse createPlaceWithUploadedImage(Long memberId, PlaceCreateRequest meta, String imageKey);
     List<PlaceResponse> getPlace(String address);
     void deletePlace(Long memberId, Long placeId);
     PlaceResponse getOnePlace(Long memberId, Long placeId);
     PlaceResponse updatePlace(Long memberId, Long placeId, String metaJson, MultipartFile image);
-    PlaceByDateResponse getPlacesByDate(Long memberId, LocalDate dateKst);
+    PlaceByDateResponse getPlacesByDate(LoginMember loginMember, LocalDate dateKst);
 }
\ No newline at end of file
@@ -11,26 +11,30 @@ import com.yeoro.twogether.domain.place.dto.response.PlaceResponse;
 import com.yeoro.twogether.domain.place.entity.Place;
 import com.yeoro.twogether.domain.place.repository.PlaceRepository;
 import com.yeoro.twogether.domain.place.service.PlaceService;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.exception.ErrorCode;
 import com.yeoro.twogether.global.exception.ServiceException;
 import com.yeoro.twogether.global.service.s3.HighlightS3Service;
+import com.yeoro.twogether.global.service.s3.S3Uploader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -40,50 +44,78 @@ public class PlaceServiceImpl implements PlaceService {
     private final PlaceRepository placeRepository;
     private final MemberService memberService;
     private final HighlightS3Service highlightS3Service;
+    private final S3Uploader s3Uploader;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Place 생성
+     * Place 생성 (multipart 업로드)
+     * - S3 전송 중에는 DB 커넥션을 잡지 않음: 짧은 읽기 → 트랜잭션 밖 업로드 → 짧은 쓰기
+     * - 쓰기가 실패하면 참조 0으로 남은 미디어 행을 MediaSweeper가 유예 후 삭제 (보상 삭제)
      */
     @Override
-    @Transactional
     public PlaceCreateResponse createPlace(Long memberId, String metaJson, MultipartFile image) {
-        // 현재 로그인한 사용자 정보 조회
-        Member member = memberService.getCurrentMember(memberId);
-
         // metaJson → PlaceCreateRequest DTO로 변환
         PlaceCreateRequest meta = parseCreateMeta(metaJson);
 
-        // 오늘(한국시간 KST) 기준으로 "동일 주소" 하이라이트 존재 여부 검사
-        // 오늘 자정(00:00) ~ 내일 자정(00:00) 범위 안에서 같은 주소가 존재하면 예외 발생
-        LocalDateTime[] todayRangeKST = todayRangeKST();
-        boolean alreadyToday = placeRepository.existsByMemberAndAddressAndCreatedAtBetween(
-                member,
-                meta.address(),
-                todayRangeKST[0],
-                todayRangeKST[1]
-        );
-        if (alreadyToday) {
-            // 동일한 장소에 대해 오늘 이미 업로드했다면 다시 올릴 수 없음
-            throw new ServiceException(ErrorCode.PLACE_ADDRESS_EXISTS);
+        // 이미지 유효성 검사
+        if (image == null || image.isEmpty()) {
+            throw new ServiceException(ErrorCode.PLACE_CREATION_FAILED);
         }
 
-        // 태그 검증 (공백 제거, 중복 제거, 최대 5개 제한)
-        List<String> tags = validateTags(meta.tags());
+        // 1) 짧은 읽기: 회원/중복 주소/태그 검증 (업로드 전에 실패)
+        timed("create", "read", () -> tx.execute(status -> checkCreatable(memberId, meta)));
 
-        // 이미지 유효성 검사
-        if (image == null || image.isEmpty()) {
+        // 2) 트랜잭션 밖 업로드 (같은 내용이 이미 있으면 전송 생략)
+        HighlightS3Service.UploadResult up = timed("create", "upload", () -> stageImage(image));
+
+        // 3) 짧은 쓰기: 중복 재검사 + 참조 획득 + 저장
+        return timed("create", "write", () -> tx.execute(status -> savePlace(memberId, meta, () -> {
+            highlightS3Service.acquire(up);
+            return up;
+        })));
+    }
+
+    /**
+     * Place 생성 (presigned PUT으로 S3에 직접 올린 이미지 키로 확정)
+     * - createPlace와 같은 순서: 짧은 읽기 → 트랜잭션 밖 HEAD 확인 → 짧은 쓰기(참조 획득 + 저장)
+     */
+    @Override
+    public PlaceCreateResponse createPlaceWithUploadedImage(Long memberId, PlaceCreateRequest meta, String imageKey) {
+        if (imageKey == null || imageKey.isBlank()) {
             throw new ServiceException(ErrorCode.PLACE_CREATION_FAILED);
         }
 
-        // 이미지 업로드 및 롤백 대비 등록
-        HighlightS3Service.UploadResult up = uploadImage(memberId, image);
-        registerRollbackDelete(up.key()); // 트랜잭션 롤백 시 업로드된 이미지 삭제
+        // 1) 짧은 읽기
+        timed("create_direct", "read", () -> tx.execute(status -> checkCreatable(memberId, meta)));
+
+        // 2) 트랜잭션 밖: 업로드 권한 + HEAD 1회
+        HighlightS3Service.UploadResult up = timed("create_direct", "verify",
+                () -> highlightS3Service.verifyUploaded(memberId, imageKey));
+
+        // 3) 짧은 쓰기
+        return timed("create_direct", "write", () -> tx.execute(status -> savePlace(memberId, meta, () -> {
+            highlightS3Service.attach(memberId, up);
+            return up;
+        })));
+    }
+
+    private PlaceCreateResponse savePlace(Long memberId,
+                                          PlaceCreateRequest meta,
+                                          Supplier<HighlightS3Service.UploadResult> imageSource) {
+        Member member = checkCreatable(memberId, meta);
+
+        // 태그 검증 (공백 제거, 중복 제거, 최대 5개 제한)
+        List<String> tags = validateTags(meta.tags());
+
+        HighlightS3Service.UploadResult up = imageSource.get();
 
         // Place 엔티티 생성 및 저장
         Place place = Place.builder()
                 .member(member)
                 .imageUrl(up.key())
+                .imageMeta(up.sha256(), up.size(), up.contentType())
                 .name(meta.name())
                 .address(meta.address())
                 .description(meta.description())
@@ -97,6 +129,32 @@ public class PlaceServiceImpl implements PlaceService {
         return PlaceCreateResponse.fromWithResolvedUrl(place, presigned);
     }
 
+    /**
+     * 생성 가능 여부 검사 후 회원 반환
+     */
+    private Member checkCreatable(Long memberId, PlaceCreateRequest meta) {
+        // 현재 로그인한 사용자 정보 조회
+        Member member = memberService.getCurrentMember(memberId);
+
+        // 오늘(한국시간 KST) 기준으로 "동일 주소" 하이라이트 존재 여부 검사
+        // 오늘 자정(00:00) ~ 내일 자정(00:00) 범위 안에서 같은 주소가 존재하면 예외 발생
+        LocalDateTime[] todayRangeKST = todayRangeKST();
+        boolean alreadyToday = placeRepository.existsByMemberAndAddressAndCreatedAtBetween(
+                member,
+                meta.address(),
+                todayRangeKST[0],
+                todayRangeKST[1]
+        );
+        if (alreadyToday) {
+            // 동일한 장소에 대해 오늘 이미 업로드했다면 다시 올릴 수 없음
+            throw new ServiceException(ErrorCode.PLACE_ADDRESS_EXISTS);
+        }
+
+        // 태그 검증 (공백 제거, 중복 제거, 최대 5개 제한)
+        validateTags(meta.tags());
+        return member;
+    }
+
 
 
     /**
@@ -105,14 +163,10 @@ public class PlaceServiceImpl implements PlaceService {
     @Override
     @Transactional(readOnly = true)
     public List<PlaceResponse> getPlace(String address) {
-        return placeRepository.findAllByAddress(address).stream()
-                .map(p -> {
-                    String key = p.getImageUrl();
-                    String presigned = (key == null || key.isBlank())
-                            ? null
-                            : highlightS3Service.presignedGetUrl(key);
-                    return PlaceResponse.fromWithResolvedUrl(p, presigned);
-                })
+        List<Place> places = placeRepository.findAllByAddress(address);
+        Map<String, String> urls = presignImages(places);
+        return places.stream()
+                .map(p -> PlaceResponse.fromWithResolvedUrl(p, urls.get(p.getImageUrl())))
                 .toList();
     }
 
@@ -135,30 +189,42 @@ public class PlaceServiceImpl implements PlaceService {
 
     /**
      * Place 수정
+     * - 짧은 읽기(소유 확인 + 현재 이미지 해시) → 트랜잭션 밖 동일 이미지 판별/업로드 → 짧은 쓰기
      */
     @Override
-    @Transactional
     public PlaceResponse updatePlace(Long memberId, Long placeId, String metaJson, MultipartFile image) {
         PlaceUpdateRequest request = parseUpdateMeta(metaJson);
-        Place place = placeRepository.findByIdAndMember_Id(placeId, memberId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.PLACE_NOT_FOUND));
-
         List<String> tags = validateTags(request.tags());
 
-        String currentKey = place.getImageUrl();
-        String finalKey = processImageUpdate(memberId, image, currentKey);
+        // 1) 짧은 읽기
+        CurrentImage current = timed("update", "read", () -> tx.execute(status ->
+                placeRepository.findByIdAndMember_Id(placeId, memberId)
+                        .map(p -> new CurrentImage(p.getImageUrl(), p.getImageSha256()))
+                        .orElseThrow(() -> new ServiceException(ErrorCode.PLACE_NOT_FOUND))));
 
-        place.overwrite(
-                finalKey,
-                request.name(),
-                request.description(),
-                tags
-        );
+        // 2) 트랜잭션 밖: 동일 이미지 판별(HEAD 포함) + 업로드
+        ImageChange change = timed("update", "upload", () -> prepareImageUpdate(image, current));
 
-        String presigned = (finalKey == null || finalKey.isBlank())
-                ? null
-                : highlightS3Service.presignedGetUrl(finalKey);
-        return PlaceResponse.fromWithResolvedUrl(place, presigned);
+        // 3) 짧은 쓰기: 참조 교체 + 반영
+        return timed("update", "write", () -> tx.execute(status -> {
+            Place place = placeRepository.findByIdAndMember_Id(placeId, memberId)
+                    .orElseThrow(() -> new ServiceException(ErrorCode.PLACE_NOT_FOUND));
+
+            applyImageChange(place, change);
+            String finalKey = place.getImageUrl();
+
+            place.overwrite(
+                    finalKey,
+                    request.name(),
+                    request.description(),
+                    tags
+            );
+
+            String presigned = (finalKey == null || finalKey.isBlank())
+                    ? null
+                    : highlightS3Service.presignedGetUrl(finalKey);
+            return PlaceResponse.fromWithResolvedUrl(place, presigned);
+        }));
     }
 
     /**
@@ -170,18 +236,12 @@ public class PlaceServiceImpl implements PlaceService {
         Place place = placeRepository.findByIdAndMember_Id(placeId, memberId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.PLACE_NOT_FOUND));
 
-        String keyToDelete = place.getImageUrl();
+        String keyToRelease = place.getImageUrl();
 
         placeRepository.delete(place);
 
-        if (keyToDelete != null && !keyToDelete.isBlank()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    highlightS3Service.deleteQuietly(keyToDelete);
-                }
-            });
-        }
+        // 같은 트랜잭션에서 이미지 참조 반납
+        highlightS3Service.release(keyToRelease);
     }
 
     /**
@@ -189,11 +249,10 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Override
     @Transactional(readOnly = true)
-    public PlaceByDateResponse getPlacesByDate(Long memberId, LocalDate dateKst) {
-        // 본인/파트너 식별
-        Member me = memberService.getCurrentMember(memberId);
-
-        Long partnerId = memberService.getPartnerId(memberId);
+    public PlaceByDateResponse getPlacesByDate(LoginMember loginMember, LocalDate dateKst) {
+        // 본인/파트너 식별 (토큰 클레임 기반, Member 조회 없음)
+        Long memberId = loginMember.memberId();
+        Long partnerId = loginMember.partnerId();
 
         // 날짜(KST) 범위 계산: 해당 날짜 00:00 ~ 다음날 00:00
         ZoneId KST = ZoneId.of("Asia/Seoul");
@@ -202,31 +261,22 @@ public class PlaceServiceImpl implements PlaceService {
         LocalDateTime end = d.plusDays(1).atStartOfDay();
 
         // 쿼리용 대상 memberIds
-        List<Long> memberIds = (partnerId != null)
-                ? List.of(memberId, partnerId)
-                : List.of(memberId);
+        List<Long> memberIds = loginMember.memberIds();
 
         // 조회
         List<Place> all = placeRepository.findAllByMember_IdInAndCreatedAtBetween(memberIds, start, end);
 
-        // presigned URL 변환
+        // presigned URL 변환 (본인/파트너 이미지 한 번에 서명)
+        Map<String, String> urls = presignImages(all);
         var mine = all.stream()
                 .filter(p -> p.getMember().getId().equals(memberId))
-                .map(p -> {
-                    String key = p.getImageUrl();
-                    String url = (key == null || key.isBlank()) ? null : highlightS3Service.presignedGetUrl(key);
-                    return PlaceResponse.fromWithResolvedUrl(p, url);
-                })
+                .map(p -> PlaceResponse.fromWithResolvedUrl(p, urls.get(p.getImageUrl())))
                 .toList();
 
         var partner = (partnerId == null) ? List.<PlaceResponse>of()
                 : all.stream()
                 .filter(p -> p.getMember().getId().equals(partnerId))
-                .map(p -> {
-                    String key = p.getImageUrl();
-                    String url = (key == null || key.isBlank()) ? null : highlightS3Service.presignedGetUrl(key);
-                    return PlaceResponse.fromWithResolvedUrl(p, url);
-                })
+                .map(p -> PlaceResponse.fromWithResolvedUrl(p, urls.get(p.getImageUrl())))
                 .toList();
 
         return new PlaceByDateResponse(mine, partner);
@@ -234,6 +284,18 @@ public class PlaceServiceImpl implements PlaceService {
 
     // ---------------------------------------------------------------------------------------------------------------
 
+    /**
+     * 목록 이미지 presigned URL 일괄 변환 (imageKey → URL, 이미지 없는 Place는 제외)
+     */
+    private Map<String, String> presignImages(List<Place> places) {
+        List<String> keys = places.stream()
+                .map(Place::getImageUrl)
+                .filter(k -> k != null && !k.isBlank())
+                .distinct()
+                .toList();
+        return keys.isEmpty() ? Collections.emptyMap() : highlightS3Service.presignedGetUrls(keys);
+    }
+
 
 
     /**
@@ -275,109 +337,94 @@ public class PlaceServiceImpl implements PlaceService {
     }
 
     /**
-     * 이미지 업로드
+     * 이미지 업로드 (트랜잭션 밖, 임시 파일로 스트리밍 — 힙에 전체를 올리지 않음)
      */
-    private HighlightS3Service.UploadResult uploadImage(Long memberId, MultipartFile image) {
-        try {
-            byte[] bytes = image.getBytes();
-            return highlightS3Service.upload(
-                    memberId,
+    private HighlightS3Service.UploadResult stageImage(MultipartFile image) {
+        try (S3Uploader.Spooled file = s3Uploader.spool(image)) {
+            return highlightS3Service.stage(
                     image.getOriginalFilename(),
                     image.getContentType(),
-                    bytes
+                    file
             );
         } catch (IOException e) {
             throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
 
+    /** 읽기 단계에서 본 현재 이미지 */
+    private record CurrentImage(String key, String sha256) {}
+
     /**
-     * 이미지 교체 처리
+     * 이미지 변경분
+     * - metaOnly: 같은 이미지(해시 미기록 행) — 메타만 기록
      */
-    private String processImageUpdate(Long memberId, MultipartFile image, String currentKey) {
-        if (image == null || image.isEmpty()) return currentKey;
+    private record ImageChange(HighlightS3Service.UploadResult image, boolean metaOnly) {}
 
-        try {
-            byte[] bytes = image.getBytes();
-            String newSha = sha256Hex(bytes);
+    /**
+     * 이미지 교체 준비 (트랜잭션 밖)
+     * - 동일 이미지 판별은 DB에 기록된 해시 비교 (해시가 없는 기존 행만 S3 HEAD)
+     * @return 변경 없으면 null
+     */
+    private ImageChange prepareImageUpdate(MultipartFile image, CurrentImage current) {
+        if (image == null || image.isEmpty()) return null;
+        String currentKey = current.key();
+
+        try (S3Uploader.Spooled file = s3Uploader.spool(image)) {
+            String newSha = file.sha256();
 
-            boolean same = false;
-            if (currentKey != null && !currentKey.isBlank()) {
+            if (newSha.equalsIgnoreCase(current.sha256())) return null;
+            if (current.sha256() == null && currentKey != null && !currentKey.isBlank()) {
                 try {
                     String oldSha = highlightS3Service.headSha256(currentKey);
-                    same = (oldSha != null && oldSha.equalsIgnoreCase(newSha));
+                    if (oldSha != null && oldSha.equalsIgnoreCase(newSha)) {
+                        // 백필 전 행 — 확인한 김에 메타 기록
+                        return new ImageChange(new HighlightS3Service.UploadResult(
+                                currentKey, newSha, file.size(), image.getContentType()), true);
+                    }
                 } catch (S3Exception e) {
-                    log.warn("[processImageUpdate] 기존 sha 조회 실패 → 새 업로드 진행: {}", currentKey);
+                    log.warn("[prepareImageUpdate] 기존 sha 조회 실패 → 새 업로드 진행: {}", currentKey);
                 }
             }
-            if (same) return currentKey;
 
-            var up = highlightS3Service.upload(
-                    memberId,
+            return new ImageChange(highlightS3Service.stage(
                     image.getOriginalFilename(),
                     image.getContentType(),
-                    bytes
-            );
-            String newKey = up.key();
-
-            // 트랜잭션 롤백 시 새로 올린 객체도 정리
-            registerRollbackDelete(newKey);
-            // 커밋 후 기존 객체 삭제는 조용히
-            deleteOldImageAfterCommit(currentKey, newKey);
-
-            return newKey;
+                    file
+            ), false);
         } catch (IOException e) {
             throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
 
-
     /**
-     * 트랜잭션 커밋 이후 기존 이미지 삭제
+     * 이미지 변경 반영 (쓰기 트랜잭션 안)
+     * - 새 참조 획득 후 기존 참조 반납 (같은 키여도 획득/반납이 짝을 이룸)
      */
-    private void deleteOldImageAfterCommit(String oldKey, String newKey) {
-        if (oldKey == null || oldKey.isBlank() || oldKey.equals(newKey)) return;
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                highlightS3Service.deleteQuietly(oldKey);
+    private void applyImageChange(Place place, ImageChange change) {
+        if (change == null) return;
+        HighlightS3Service.UploadResult up = change.image();
+
+        if (change.metaOnly()) {
+            // 읽기 이후 이미지가 바뀌었으면 기록하지 않음
+            if (up.key().equals(place.getImageUrl())) {
+                place.changeImage(up.key(), up.sha256(), up.size(), up.contentType());
             }
-        });
-    }
-
-    /**
-     * SHA-256 해시 계산
-     */
-    private static String sha256Hex(byte[] bytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(bytes);
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
+            return;
         }
-    }
 
-    /**
-     * 트랜잭션 롤백 시 새로 올린 키 정리
-     */
-    private void registerRollbackDelete(String key) {
-        if (key == null || key.isBlank()) return;
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCompletion(int status) {
-                // STATUS_ROLLED_BACK == 1
-                if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
-                    highlightS3Service.deleteQuietly(key);
-                    log.warn("[S3] rolled back, deleted orphan upload: {}", key);
-                }
-            }
-        });
+        highlightS3Service.acquire(up);
+        highlightS3Service.release(place.getImageUrl());
+        place.changeImage(up.key(), up.sha256(), up.size(), up.contentType());
     }
 
-
+    /** 단계별 소요 시간 (place.write.phase{op, phase}) — 커넥션 점유는 read/write 단계만 */
+    private <T> T timed(String op, String phase, Supplier<T> body) {
+        return Timer.builder("place.write.phase")
+                .tag("op", op)
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(body);
+    }
 
     private LocalDateTime[] todayRangeKST() {
         ZoneId KST = ZoneId.of("Asia/Seoul"); // 한국 시간 기준
@@ -8,6 +8,7 @@ import com.yeoro.twogether.domain.waypoint.dto.response.WaypointUpdateResponse;
 import com.yeoro.twogether.domain.waypoint.dto.response.WaypointWithItemsResponse;
 import com.yeoro.twogether.domain.waypoint.service.WaypointService;
 import com.yeoro.twogether.global.argumentResolver.Login;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -44,12 +45,12 @@ public class WaypointController {
     /**
      * 회원이 소유한 모든 Waypoint 목록을 조회합니다.
      *
-     * @param memberId 로그인된 회원 ID (커스텀 리졸버 @Login 이용)
+     * @param loginMember 로그인된 회원/파트너 ID (커스텀 리졸버 @Login 이용)
      * @return Waypoint 요약 정보 리스트
      */
     @GetMapping
-    public WaypointSummaryListResponse getAllWaypoints(@Login Long memberId) {
-        return waypointService.getAllWaypoints(memberId);
+    public WaypointSummaryListResponse getAllWaypoints(@Login LoginMember loginMember) {
+        return waypointService.getAllWaypoints(loginMember);
     }
 
     /**
@@ -4,6 +4,7 @@ package com.yeoro.twogether.domain.waypoint.entity;
 import static com.yeoro.twogether.global.exception.ErrorCode.WAYPOINT_OWNERSHIP_MISMATCH;
 
 import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.entity.BaseTime;
 import com.yeoro.twogether.global.exception.ServiceException;
 import jakarta.persistence.Column;
@@ -46,13 +47,10 @@ public class Waypoint extends BaseTime {
         this.name = name;
     }
 
-    public void validateMemberOwnsWaypoint(Member member) {
-        if (!isOwnedBy(member) && !isOwnedBy(member.getPartner())) {
+    /** 본인 또는 파트너 소유 확인 — ID 비교만 하므로 회원 엔티티 로딩 없음 */
+    public void validateMemberOwnsWaypoint(LoginMember me) {
+        if (!me.isCouple(this.member.getId())) {
             throw new ServiceException(WAYPOINT_OWNERSHIP_MISMATCH);
         }
     }
-
-    public boolean isOwnedBy(Member member) {
-        return this.member.equals(member);
-    }
 }
@@ -2,8 +2,8 @@ package com.yeoro.twogether.domain.waypoint.entity;
 
 import static com.yeoro.twogether.global.exception.ErrorCode.WAYPOINT_ITEM_NOT_MATCHED;
 
-import com.yeoro.twogether.domain.member.entity.Member;
 import com.yeoro.twogether.domain.waypoint.dto.request.WaypointItemUpdateRequest;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.entity.BaseTime;
 import com.yeoro.twogether.global.exception.ServiceException;
 import jakarta.persistence.Column;
@@ -73,7 +73,7 @@ public class WaypointItem extends BaseTime {
         }
     }
 
-    public void validateOwnedBy(Member member) {
-        this.waypoint.validateMemberOwnsWaypoint(member);
+    public void validateOwnedBy(LoginMember me) {
+        this.waypoint.validateMemberOwnsWaypoint(me);
     }
 }
@@ -31,8 +31,15 @@ public interface WaypointItemRepository extends JpaRepository<WaypointItem, Long
         Pageable pageable);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from WaypointItem wi where wi.waypoint.id in (:waypointIds)")
-    int deleteByWaypointIds(@Param("waypointIds") List<Long> waypointIds);
+    @Query("delete from WaypointItem wi where wi.id in (:ids)")
+    int deleteByIds(@Param("ids") List<Long> ids);
 
     List<WaypointItem> findAllByWaypoint_IdIn(List<Long> waypointIds);
+
+    /** 회원 웨이포인트 아이템 (id, imageUrl) — id 기준 keyset 페이지 (탈퇴 청크 삭제 + S3 키 수집용) */
+    @Query("select wi.id, wi.imageUrl from WaypointItem wi " +
+        "where wi.waypoint.member.id = :memberId and wi.id > :afterId order by wi.id")
+    List<Object[]> findIdAndImageUrlByMemberIdAfter(@Param("memberId") Long memberId,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
 }
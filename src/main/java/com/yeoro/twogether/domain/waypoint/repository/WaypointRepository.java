@@ -2,6 +2,7 @@ package com.yeoro.twogether.domain.waypoint.repository;
 
 import com.yeoro.twogether.domain.waypoint.entity.Waypoint;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,10 +15,13 @@ public interface WaypointRepository extends JpaRepository<Waypoint, Long> {
     @Query("select w from Waypoint w where w.member.id in :memberIds")
     List<Waypoint> findByMemberIds(@Param("memberIds") List<Long> memberIds);
 
-    @Query("select w.id from Waypoint w where w.member.id = :memberId")
-    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+    /** 회원 웨이포인트 ID — id 기준 keyset 페이지 (탈퇴 청크 삭제용) */
+    @Query("select w.id from Waypoint w where w.member.id = :memberId and w.id > :afterId order by w.id")
+    List<Long> findIdsByMemberIdAfter(@Param("memberId") Long memberId,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from Waypoint w where w.member.id = :memberId")
-    int deleteByMemberId(@Param("memberId") Long memberId);
+    @Query("delete from Waypoint w where w.id in (:ids)")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -6,12 +6,13 @@ import com.yeoro.twogether.domain.waypoint.dto.response.WaypointCreateResponse;
 import com.yeoro.twogether.domain.waypoint.dto.response.WaypointSummaryListResponse;
 import com.yeoro.twogether.domain.waypoint.dto.response.WaypointUpdateResponse;
 import com.yeoro.twogether.domain.waypoint.dto.response.WaypointWithItemsResponse;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 
 public interface WaypointService {
 
     WaypointCreateResponse createWaypoint(Long memberId, WaypointCreateRequest request);
 
-    WaypointSummaryListResponse getAllWaypoints(Long memberId);
+    WaypointSummaryListResponse getAllWaypoints(LoginMember loginMember);
 
     WaypointWithItemsResponse getWaypoint(Long memberId, Long waypointId);
 
@@ -17,6 +17,7 @@ import com.yeoro.twogether.domain.waypoint.repository.WaypointItemRepository;
 import com.yeoro.twogether.domain.waypoint.repository.WaypointRepository;
 import com.yeoro.twogether.domain.waypoint.service.WaypointService;
 import com.yeoro.twogether.domain.waypoint.service.mapper.WaypointMapper;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.global.exception.ServiceException;
 import java.util.List;
 import java.util.Map;
@@ -54,15 +55,11 @@ public class WayPointServiceImpl implements WaypointService {
     /**
      * <p>개인 & 커플 회원이 소유한 모든 Waypoint를 조회합니다.</p>
      * <p>Waypoint별로 WaypointItem 개수를 함께 계산하여 반환합니다.</p>
+     * <p>본인/파트너 ID는 토큰 클레임 기반이므로 Member 조회 없이 처리합니다.</p>
      */
     @Override
-    public WaypointSummaryListResponse getAllWaypoints(Long memberId) {
-        Member member = memberService.getCurrentMember(memberId);
-        Member partner = member.getPartner();
-
-        List<Long> memberIds = partner != null
-            ? List.of(member.getId(), partner.getId())
-            : List.of(member.getId());
+    public WaypointSummaryListResponse getAllWaypoints(LoginMember loginMember) {
+        List<Long> memberIds = loginMember.memberIds();
 
         // 두 멤버의 waypoint 조회
         List<Waypoint> waypoints = waypointRepository.findByMemberIds(memberIds);
@@ -127,7 +124,7 @@ public class WayPointServiceImpl implements WaypointService {
      * memberId를 기반으로 member & partner Waypoint 검증 후 반환
      */
     private Waypoint validateAndGetWaypoint(Long memberId, Long waypointId) {
-        Member member = memberService.getCurrentMember(memberId);
+        LoginMember member = memberService.getCouple(memberId);
 
         Waypoint waypoint = waypointRepository.findById(waypointId)
             .orElseThrow(() -> new ServiceException(WAYPOINT_NOT_FOUND));
@@ -4,7 +4,7 @@ import static com.yeoro.twogether.global.exception.ErrorCode.WAYPOINT_ITEM_NOT_M
 import static com.yeoro.twogether.global.exception.ErrorCode.WAYPOINT_ITEM_ORDER_INVALID;
 import static com.yeoro.twogether.global.exception.ErrorCode.WAYPOINT_NOT_FOUND;
 
-import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.global.argumentResolver.LoginMember;
 import com.yeoro.twogether.domain.member.service.MemberService;
 import com.yeoro.twogether.domain.waypoint.dto.request.WaypointItemAddRequest;
 import com.yeoro.twogether.domain.waypoint.dto.request.WaypointItemCopyRequest;
@@ -104,7 +104,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
     public WaypointItemUpdateResponse updateWaypointItem(Long memberId, Long waypointId,
         Long waypointItemId, WaypointItemUpdateRequest request) {
 
-        Member member = memberService.getCurrentMember(memberId);
+        LoginMember member = memberService.getCouple(memberId);
 
         WaypointItem waypointItem = waypointItemRepository.findById(waypointItemId)
             .orElseThrow(() -> new ServiceException(WAYPOINT_NOT_FOUND));
@@ -128,7 +128,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
     @Override
     public void copyWaypointItems(Long memberId, Long waypointId, Long targetWaypointId,
         WaypointItemCopyRequest request) {
-        Member member = memberService.getCurrentMember(memberId);
+        LoginMember member = memberService.getCouple(memberId);
 
         List<Long> waypointItemIds = request.waypointItemIds();
         List<WaypointItem> sourceItems = getValidatedItemsByIds(waypointItemIds, waypointId,
@@ -163,7 +163,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
     @Override
     public void deleteWaypointItems(Long memberId, Long waypointId,
         WaypointItemDeleteRequest request) {
-        Member member = memberService.getCurrentMember(memberId);
+        LoginMember member = memberService.getCouple(memberId);
 
         List<Long> waypointItemIds = request.waypointItemIds();
         List<WaypointItem> itemsToDelete = getValidatedItemsByIds(waypointItemIds, waypointId,
@@ -174,7 +174,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
     }
 
     private List<WaypointItem> getValidatedItemsByIds(List<Long> waypointItemIds, Long waypointId,
-        Member member) {
+        LoginMember member) {
         validateWaypointItemIds(waypointItemIds);
 
         List<WaypointItem> items = waypointItemRepository.findAllById(waypointItemIds);
@@ -187,7 +187,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
     }
 
     private Waypoint getOwnedWaypoint(Long memberId, Long waypointId) {
-        Member member = memberService.getCurrentMember(memberId);
+        LoginMember member = memberService.getCouple(memberId);
         Waypoint waypoint = waypointRepository.findById(waypointId)
             .orElseThrow(() -> new ServiceException(WAYPOINT_NOT_FOUND));
         waypoint.validateMemberOwnsWaypoint(member);
@@ -213,7 +213,7 @@ public class WaypointItemServiceImpl implements WaypointItemService {
         }
     }
 
-    private void validateOwnership(List<WaypointItem> items, Long waypointId, Member member) {
+    private void validateOwnership(List<WaypointItem> items, Long waypointId, LoginMember member) {
         for (WaypointItem item : items) {
             item.validateBelongsTo(waypointId);
             item.validateOwnedBy(member);
@@ -14,6 +14,13 @@ public class CustomUserDetails implements UserDetails {
 
     private Long memberId;
 
+    /** 파트너 ID (연결 버전 검증 후 값, 없으면 null) */
+    private Long partnerId;
+
+    public LoginMember toLoginMember() {
+        return new LoginMember(memberId, partnerId);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of();
@@ -0,0 +1,25 @@
+package com.yeoro.twogether.global.argumentResolver;
+
+import java.util.List;
+
+/**
+ * 요청 주체(커플 식별 정보)
+ * - JWT 클레임 기반으로 구성 (파트너 연결 버전 검증을 거친 partnerId)
+ * - Member 엔티티 조회 없이 본인/파트너 ID로 조회 조건을 만들 때 사용
+ */
+public record LoginMember(Long memberId, Long partnerId) {
+
+    public boolean hasPartner() {
+        return partnerId != null;
+    }
+
+    /** 본인 + 파트너(있으면) ID 목록 */
+    public List<Long> memberIds() {
+        return hasPartner() ? List.of(memberId, partnerId) : List.of(memberId);
+    }
+
+    /** 본인 또는 파트너 소유 여부 */
+    public boolean isCouple(Long ownerId) {
+        return ownerId != null && (ownerId.equals(memberId) || ownerId.equals(partnerId));
+    }
+}
@@ -12,8 +12,9 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
         return parameter.hasParameterAnnotation(Login.class)
-            && parameter.getParameterType().equals(Long.class);
+            && (type.equals(Long.class) || type.equals(LoginMember.class));
     }
 
     @Override
@@ -29,6 +30,10 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
         Object principal = authentication.getPrincipal();
 
         if (principal instanceof CustomUserDetails customUser) {
+            // @Login LoginMember → 본인/파트너 ID, @Login Long → 기존과 동일하게 memberId
+            if (parameter.getParameterType().equals(LoginMember.class)) {
+                return customUser.toLoginMember();
+            }
             return customUser.getMemberId();
         }
 
@@ -0,0 +1,123 @@
+package com.yeoro.twogether.global.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API 호출용 호스트별 서킷 브레이커 + 지연 시간 측정
+ * - 연속 실패(I/O 오류, 5xx)가 임계치에 도달하면 openDuration 동안 호출하지 않고 즉시 실패
+ * - open 시간이 지나면 1건만 시험 호출(half-open) → 성공 시 닫힘, 실패 시 다시 open
+ * - 메트릭: http.client.latency{host,outcome}, http.client.circuit.open{host}
+ */
+@Slf4j
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final ConcurrentHashMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public CircuitBreakerInterceptor(MeterRegistry meterRegistry, int failureThreshold, Duration openDuration) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String host = request.getURI().getHost();
+        Circuit circuit = circuits.computeIfAbsent(host, this::newCircuit);
+
+        if (!circuit.tryAcquire()) {
+            record(host, "rejected", 0L);
+            throw new CircuitOpenException(host);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            boolean serverError = response.getStatusCode().is5xxServerError();
+            record(host, serverError ? "server_error" : "success", System.nanoTime() - start);
+            if (serverError) {
+                circuit.onFailure(host);
+            } else {
+                circuit.onSuccess();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(host, "io_error", System.nanoTime() - start);
+            circuit.onFailure(host);
+            throw e;
+        }
+    }
+
+    private void record(String host, String outcome, long nanos) {
+        Timer.builder("http.client.latency")
+                .tag("host", host)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Circuit newCircuit(String host) {
+        Circuit circuit = new Circuit();
+        Gauge.builder("http.client.circuit.open", circuit, c -> c.open.get() ? 1 : 0)
+                .tag("host", host)
+                .register(meterRegistry);
+        return circuit;
+    }
+
+    private class Circuit {
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean open = new AtomicBoolean();
+        private final AtomicBoolean trial = new AtomicBoolean();
+        private volatile long openedAt;
+
+        boolean tryAcquire() {
+            if (!open.get()) return true;
+            if (System.nanoTime() - openedAt < openNanos) return false;
+            // open 시간 경과 → 한 건만 시험 호출 허용
+            return trial.compareAndSet(false, true);
+        }
+
+        void onSuccess() {
+            failures.set(0);
+            open.set(false);
+            trial.set(false);
+        }
+
+        void onFailure(String host) {
+            if (failures.incrementAndGet() >= failureThreshold || trial.get()) {
+                openedAt = System.nanoTime();
+                if (open.compareAndSet(false, true)) {
+                    log.warn("[http-client] circuit opened host={} failures={}", host, failures.get());
+                }
+                trial.set(false);
+            }
+        }
+    }
+
+    /** open 상태라 호출하지 않음 — RestTemplate의 I/O 예외와 같은 계열로 던짐 */
+    public static class CircuitOpenException extends ResourceAccessException {
+        public CircuitOpenException(String host) {
+            super("circuit open: " + host);
+        }
+    }
+}
@@ -1,13 +1,86 @@
 package com.yeoro.twogether.global.config;
 
+import com.yeoro.twogether.global.client.CircuitBreakerInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class AppConfig {
+
+    /**
+     * 외부 API(카카오 등) 호출용 커넥션 풀
+     * - 호스트별 최대 연결 수 제한, 연결/응답/풀 대기 타임아웃으로 요청 스레드 점유 시간 상한
+     * - 자동 재시도는 끔 (지연 시간 상한 유지, 실패 판단은 서킷 브레이커가 담당)
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${http.client.max-total:50}") int maxTotal,
+            @Value("${http.client.max-per-route:20}") int maxPerRoute,
+            @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${http.client.read-timeout-ms:3000}") long readTimeoutMs) {
+        PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        Gauge.builder("http.client.pool.leased", cm, m -> m.getTotalStats().getLeased())
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", cm, m -> m.getTotalStats().getPending())
+                .description("커넥션 대기 중인 요청 수")
+                .register(meterRegistry);
+        return cm;
+    }
+
+    @Bean
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            @Value("${http.client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${http.client.pool-wait-ms:1000}") long poolWaitMs) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            CloseableHttpClient httpClient,
+            MeterRegistry meterRegistry,
+            @Value("${http.client.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${http.client.circuit.open-ms:10000}") long openMs) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new CircuitBreakerInterceptor(
+                        meterRegistry, failureThreshold, Duration.ofMillis(openMs)))
+                .build();
     }
 }
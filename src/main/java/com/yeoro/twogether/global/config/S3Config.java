@@ -6,10 +6,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Slf4j
@@ -32,10 +35,14 @@ public class S3Config {
                 region, awsProperties.getS3().getPrivateBucket(),
                 access != null && access.length() >= 4 ? access.substring(0,4) : "null");
 
-        return S3Client.builder()
+        var builder = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(access, secret)))
-                .build();
+                .serviceConfiguration(s3Configuration());
+        if (awsProperties.getS3().hasEndpoint()) {
+            builder.endpointOverride(URI.create(t(awsProperties.getS3().getEndpoint())));
+        }
+        return builder.build();
     }
 
     @Bean
@@ -45,9 +52,20 @@ public class S3Config {
         String region = t(awsProperties.getRegion());
         log.info("[S3Presigner] region={}", region);
 
-        return S3Presigner.builder()
+        var builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(access, secret)))
+                .serviceConfiguration(s3Configuration());
+        if (awsProperties.getS3().hasEndpoint()) {
+            builder.endpointOverride(URI.create(t(awsProperties.getS3().getEndpoint())));
+        }
+        return builder.build();
+    }
+
+    // 로컬 S3 호환 스토리지는 보통 path-style만 지원
+    private S3Configuration s3Configuration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(awsProperties.getS3().pathStyleAccessOrDefault())
                 .build();
     }
 }
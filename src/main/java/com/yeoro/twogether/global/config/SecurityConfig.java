@@ -1,6 +1,7 @@
 package com.yeoro.twogether.global.config;
 
 import com.yeoro.twogether.global.filter.JwtAuthenticationFilter;
+import com.yeoro.twogether.global.filter.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,9 +32,12 @@ public class SecurityConfig {
     private String vercelUrl;
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -59,7 +63,9 @@ public class SecurityConfig {
             .sessionManagement(sessionManagement -> {
                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
             })
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 인증 결과(memberId)를 키로 쓰기 위해 JWT 필터 다음에 요청 제한
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
@@ -0,0 +1,58 @@
+package com.yeoro.twogether.global.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 미디어 (SHA-256 1개 = S3 객체 1개 = 1행)
+ * - 같은 내용은 같은 키(media/<sha 앞 2자리>/<sha>)를 공유하고 refCount로 참조 수 관리
+ * - refCount가 0이 된 뒤 유예 시간이 지나면 MediaSweeper가 객체와 행을 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "media",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_media_sha256", columnNames = "sha256"),
+                @UniqueConstraint(name = "uk_media_object_key", columnNames = "object_key")
+        },
+        indexes = @Index(name = "idx_media_ref_released", columnList = "ref_count, released_at"))
+public class Media extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "object_key", nullable = false, length = 200)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 참조가 0이 된 시각 (참조 중이면 null)
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    /** 참조 0으로 등록 — 참조 증가는 호출 트랜잭션에서 MediaRepository.acquire로 */
+    public Media(String sha256, String objectKey, long size, String contentType) {
+        this.sha256 = sha256;
+        this.objectKey = objectKey;
+        this.size = size;
+        this.contentType = contentType;
+        this.refCount = 0;
+        this.releasedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package com.yeoro.twogether.global.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * S3 삭제 잡 (회원 탈퇴 시 해당 회원의 객체 묶음)
+ * - publicId로 외부 조회 (탈퇴 후에는 인증 불가이므로 추측 불가능한 ID 사용)
+ * - 진행률은 워커가 배치마다 누적
+ * - 키 등록이 끝나면 sealed=true, 봉인 후 남은 건이 없을 때만 종료 (등록 도중 조기 완료 방지)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_deletion_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_s3_deletion_job_public_id", columnNames = "public_id"))
+public class S3DeletionJob extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "public_id", nullable = false, length = 36)
+    private String publicId;
+
+    // 탈퇴한 회원 ID (FK 아님)
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private S3DeletionJobStatus status;
+
+    @Column(nullable = false)
+    private int totalObjects;
+
+    @Column(nullable = false)
+    private int deletedObjects;
+
+    @Column(nullable = false)
+    private int failedObjects;
+
+    // 키 등록 완료 여부
+    @Column(nullable = false)
+    private boolean sealed;
+
+    private LocalDateTime finishedAt;
+
+    public S3DeletionJob(Long memberId) {
+        this.publicId = UUID.randomUUID().toString();
+        this.memberId = memberId;
+        this.status = S3DeletionJobStatus.PENDING;
+    }
+}
@@ -0,0 +1,11 @@
+package com.yeoro.twogether.global.entity;
+
+/**
+ * S3 삭제 잡(회원 탈퇴 1건 단위) 상태
+ */
+public enum S3DeletionJobStatus {
+    PENDING,    // 삭제 대기 (워커 미착수)
+    RUNNING,    // 일부 삭제 진행 중
+    COMPLETED,  // 전부 삭제
+    FAILED      // 재시도 초과 객체 존재
+}
@@ -0,0 +1,11 @@
+package com.yeoro.twogether.global.entity;
+
+/**
+ * S3 삭제 작업(객체 1건) 상태
+ */
+public enum S3DeletionStatus {
+    PENDING,  // 삭제 대기 (재시도 포함)
+    RUNNING,  // 워커가 점유하여 삭제 중
+    DONE,     // 삭제 완료
+    FAILED    // 최대 재시도 초과
+}
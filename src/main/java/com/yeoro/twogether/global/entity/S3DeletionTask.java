@@ -0,0 +1,66 @@
+package com.yeoro.twogether.global.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 삭제 아웃박스 (객체 1건 = 1행)
+ * - DB 삭제와 같은 트랜잭션에서 저장 → 커밋된 삭제만 S3에 반영
+ * - 워커가 점유 토큰으로 최대 1000건씩 묶어 DeleteObjects 1회로 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_deletion_task",
+        indexes = {
+                @Index(name = "idx_s3_deletion_task_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_s3_deletion_task_claim", columnList = "claim_token")
+        })
+public class S3DeletionTask extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 진행률 집계 대상 잡 (없으면 단건 정리)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private S3DeletionStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 한 번의 점유(배치)를 식별
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    // 워커 점유 시각 (장시간 RUNNING 상태 복구용)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public S3DeletionTask(Long jobId, String objectKey) {
+        this.jobId = jobId;
+        this.objectKey = objectKey;
+        this.status = S3DeletionStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -20,6 +20,10 @@ public enum ErrorCode {
     RELATIONSHIP_DATE_RULE_VIOLATION("400-21", "relationship.date.rule.violation", HttpStatus.BAD_REQUEST),
     PASSWORD_SAME_AS_OLD("400-5", "member.password.same.as.old", HttpStatus.BAD_REQUEST),
     PASSWORD_NOT_SET("400-6", "member.password.not.set", HttpStatus.BAD_REQUEST),
+    EMAIL_VERIFY_ATTEMPTS_EXCEEDED("429-1", "member.email.verify.attempts.exceeded", HttpStatus.TOO_MANY_REQUESTS),
+    TOO_MANY_REQUESTS("429-2", "rate.limit.exceeded", HttpStatus.TOO_MANY_REQUESTS),
+    PASSWORD_HASHER_BUSY("503-1", "member.password.hasher.busy", HttpStatus.SERVICE_UNAVAILABLE),
+    DELETION_JOB_NOT_FOUND("404-2", "member.deletion.job.not.found", HttpStatus.NOT_FOUND),
 
     // Partner Errors
     PARTNER_CODE_INVALID("400-1", "partner.code.invalid", HttpStatus.BAD_REQUEST),
@@ -29,12 +33,15 @@ public enum ErrorCode {
     TOKEN_EXPIRED("401-1", "token.expired", HttpStatus.UNAUTHORIZED),
     TOKEN_INVALID("401-2", "token.invalid", HttpStatus.UNAUTHORIZED),
     TOKEN_SEND_ERROR("500-3", "token.send.error", HttpStatus.INTERNAL_SERVER_ERROR),
+    TOKEN_ISSUE_FAILED("500-5", "token.issue.failed", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // Kakao OAuth Errors
     KAKAO_API_ERROR("500-1", "kakao.api.error", HttpStatus.INTERNAL_SERVER_ERROR),
     KAKAO_PROFILE_PARSE_FAILED("500-2", "kakao.profile.parse.failed", HttpStatus.INTERNAL_SERVER_ERROR),
     KAKAO_INVALID_TOKEN("401-3", "kakao.invalid.token", HttpStatus.UNAUTHORIZED),
     ACCESS_TOKEN_BLACKLISTED("401-4", "token.blacklisted", HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_REUSED("401-5", "token.refresh.reused", HttpStatus.UNAUTHORIZED),
+    REFRESH_IN_PROGRESS("409-2", "token.refresh.in.progress", HttpStatus.CONFLICT),
 
     // Waypoint Errors
     WAYPOINT_NOT_FOUND("405-1", "waypoint.not.found", HttpStatus.NOT_FOUND),
@@ -52,6 +59,10 @@ public enum ErrorCode {
     FILE_UPLOAD_FAILED("500-20", "file.upload.failed", HttpStatus.INTERNAL_SERVER_ERROR),
     FILE_DOWNLOAD_FAILED("500-21", "file.download.failed", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_FILE("500-22","invalied.file",HttpStatus.INTERNAL_SERVER_ERROR),
+    UPLOAD_TOO_LARGE("400-30", "file.upload.too.large", HttpStatus.BAD_REQUEST),
+    UPLOAD_TYPE_NOT_ALLOWED("400-31", "file.upload.type.not.allowed", HttpStatus.BAD_REQUEST),
+    UPLOAD_CHECKSUM_INVALID("400-32", "file.upload.checksum.invalid", HttpStatus.BAD_REQUEST),
+    UPLOAD_NOT_COMPLETED("400-33", "file.upload.not.completed", HttpStatus.BAD_REQUEST),
     // Diary Errors
     DIARY_NOT_FOUND("407-01", "diary.not.found", HttpStatus.NOT_FOUND),
     DIARY_OWNERSHIP_MISMATCH("407-02", "diary.ownership.mismatch", HttpStatus.FORBIDDEN),
@@ -1,9 +1,10 @@
 package com.yeoro.twogether.global.filter;
 
+import com.yeoro.twogether.domain.member.service.RequestMemberCache;
 import com.yeoro.twogether.global.argumentResolver.CustomUserDetails;
 import com.yeoro.twogether.global.constant.AppConstants;
-import com.yeoro.twogether.global.exception.ErrorCode;
 import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
 import com.yeoro.twogether.global.token.JwtService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -12,7 +13,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -27,7 +27,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final PartnerLinkStore partnerLinkStore;
+    private final RequestMemberCache requestMemberCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -44,20 +45,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String accessToken = bearer.substring(AppConstants.BEARER_PREFIX.length());
 
         try {
-            // Redis 블랙리스트 조회: 로그아웃된 토큰인지 확인
-            String blacklistKey = "blacklist:" + accessToken;
-            String blacklisted = redisTemplate.opsForValue().get(blacklistKey);
-            if ("logout".equals(blacklisted)) {
-                throw new ServiceException(ErrorCode.ACCESS_TOKEN_BLACKLISTED);
-            }
-
-            // JWT 파싱 및 유효성 검증
+            // JWT 파싱 및 유효성 검증 (블랙리스트는 JwtService의 로컬 폐기 캐시로 확인)
             Claims claims = jwtService.parseAndValidateToken(accessToken);
 
-            // memberId 추출 후 CustomUserDetails 생성 → Spring Security 인증 객체 설정
+            // memberId/partnerId 추출 후 CustomUserDetails 생성 → Spring Security 인증 객체 설정
             Long memberId = claims.get("memberId", Long.class);
+            Long partnerId = resolvePartnerId(memberId, claims);
             UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(new CustomUserDetails(memberId), null, List.of());
+                    new UsernamePasswordAuthenticationToken(new CustomUserDetails(memberId, partnerId), null, List.of());
             SecurityContextHolder.getContext().setAuthentication(auth);
 
         } catch (ServiceException e) {
@@ -69,4 +64,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 파트너 ID 결정
+     * - 토큰의 파트너 연결 버전(plv)이 현재 버전과 같으면 클레임의 partnerId 사용 (DB 조회 없음)
+     * - 다르면(연결/해제 이후 발급 전 토큰) DB에서 partner_id만 조회 (요청 조회 횟수에 집계)
+     */
+    private Long resolvePartnerId(Long memberId, Claims claims) {
+        Object plv = claims.get("plv");
+        if (plv instanceof Number n && n.longValue() == partnerLinkStore.current(memberId)) {
+            Object partnerId = claims.get("partnerId");
+            return (partnerId instanceof Number p) ? p.longValue() : null;
+        }
+        return requestMemberCache.findPartnerId(memberId);
+    }
 }
@@ -0,0 +1,118 @@
+package com.yeoro.twogether.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.global.argumentResolver.CustomUserDetails;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ErrorResponse;
+import com.yeoro.twogether.global.message.MessageService;
+import com.yeoro.twogether.global.properties.RateLimitProperties;
+import com.yeoro.twogether.global.properties.RateLimitProperties.KeyType;
+import com.yeoro.twogether.global.properties.RateLimitProperties.Policy;
+import com.yeoro.twogether.global.store.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증/코드 발급 엔드포인트 요청 제한 (JwtAuthenticationFilter 다음에 위치)
+ * - IP/회원 키 정책은 여기서 검사 → 초과 시 컨트롤러/BCrypt/SMTP까지 가지 않고 즉시 429
+ * - 이메일 키 정책은 요청 본문이 필요하므로 서비스 계층에서 RateLimiter로 검사
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final MessageService messageService;
+    private final ObjectMapper objectMapper;
+    private final boolean trustForwardedFor;
+
+    /** 경로 → (정책 이름, 정책) — IP/회원 키만 */
+    private final Map<String, List<Map.Entry<String, Policy>>> policiesByPath = new HashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           MessageService messageService,
+                           ObjectMapper objectMapper,
+                           RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.messageService = messageService;
+        this.objectMapper = objectMapper;
+        this.trustForwardedFor = properties.trustForwardedForOrDefault();
+
+        rateLimiter.policies().forEach((name, policy) -> {
+            if (policy.isActive() && policy.getPath() != null && policy.getKey() != KeyType.EMAIL) {
+                policiesByPath.computeIfAbsent(policy.getPath(), p -> new ArrayList<>())
+                        .add(Map.entry(name, policy));
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || !policiesByPath.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        for (Map.Entry<String, Policy> entry : policiesByPath.get(request.getRequestURI())) {
+            String id = switch (entry.getValue().getKey()) {
+                case IP -> clientIp(request);
+                case MEMBER -> currentMemberId();
+                case EMAIL -> null;
+            };
+            long waitMs = rateLimiter.tryAcquire(entry.getKey(), id);
+            if (waitMs > 0) {
+                reject(request, response, waitMs);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMs) throws IOException {
+        ErrorCode ec = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(ec.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMs + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(ec, request, messageService));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /** 인증된 요청이면 memberId, 아니면 null(회원 키 정책 건너뜀) */
+    private static String currentMemberId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return String.valueOf(user.getMemberId());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,188 @@
+package com.yeoro.twogether.global.init;
+
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import com.yeoro.twogether.domain.place.repository.PlaceRepository;
+import com.yeoro.twogether.global.service.s3.S3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기존 행의 이미지 메타(sha256/크기/타입) 백필
+ * - 메타가 없는 Place/Member 행을 id 기준 keyset으로 훑으며 S3에서 읽어 DB에 기록
+ * - 한 번 채워지면 이미지 수정 시 S3 HEAD 없이 DB 해시로 비교
+ * - 회차당 max-rows-per-run까지만 처리, 커서(Redis)를 기억해 다음 주기에 이어서
+ * - 끝까지 한 바퀴 돌면 rescan-interval-ms 동안 쉼 (객체가 없거나 읽을 수 없는 행을 매 주기 다시 읽지 않도록)
+ * - 객체가 없거나 실패한 행은 건너뜀 (다음 바퀴에 재시도)
+ * - 여러 노드 중 락(image:backfill:lock)을 잡은 1곳에서만 실행
+ *   페이지마다 내 토큰일 때만 TTL 연장 — 연장에 실패하면(락 만료/다른 노드가 점유) 커서를 쓰지 않고 중단
+ * - 메트릭: image.backfill.rows{target, result}
+ */
+@Slf4j
+@Component
+public class ImageMetaBackfillJob {
+
+    private static final String LOCK_KEY = "image:backfill:lock";
+    private static final String CURSOR_PREFIX = "image:backfill:cursor:";
+    /** 한 바퀴를 마친 대상의 커서 값 (TTL이 지나면 처음부터 다시) */
+    private static final String DONE = "done";
+
+    /** 내가 잡은 락만 해제 */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /** 내가 잡은 락만 TTL 연장 */
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final PlaceRepository placeRepository;
+    private final MemberRepository memberRepository;
+    private final S3Uploader s3Uploader;
+    private final StringRedisTemplate redis;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int maxRowsPerRun;
+    private final Duration lockTtl;
+    private final Duration rescanInterval;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ImageMetaBackfillJob(PlaceRepository placeRepository,
+                                MemberRepository memberRepository,
+                                S3Uploader s3Uploader,
+                                StringRedisTemplate redis,
+                                MeterRegistry meterRegistry,
+                                @Value("${image.backfill.enabled:true}") boolean enabled,
+                                @Value("${image.backfill.page-size:200}") int pageSize,
+                                @Value("${image.backfill.max-rows-per-run:5000}") int maxRowsPerRun,
+                                @Value("${image.backfill.lock-ttl-ms:900000}") long lockTtlMs,
+                                @Value("${image.backfill.rescan-interval-ms:86400000}") long rescanIntervalMs) {
+        this.placeRepository = placeRepository;
+        this.memberRepository = memberRepository;
+        this.s3Uploader = s3Uploader;
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.maxRowsPerRun = maxRowsPerRun;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.rescanInterval = Duration.ofMillis(rescanIntervalMs);
+    }
+
+    @Scheduled(initialDelayString = "${image.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${image.backfill.interval-ms:600000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) return;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl))) return;
+            try {
+                if (backfill(token, "place", placeRepository::findImageMetaMissingAfter, placeRepository::fillImageMeta)) {
+                    backfill(token, "member", memberRepository::findProfileImageMetaMissingAfter, memberRepository::fillProfileImageMeta);
+                }
+            } finally {
+                redis.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** @return 락을 유지한 채 끝났으면 true (락을 잃었으면 false — 이후 대상도 건너뜀) */
+    private boolean backfill(String token, String target, PageLoader loader, MetaWriter writer) {
+        String cursorKey = CURSOR_PREFIX + target;
+        String cursor = redis.opsForValue().get(cursorKey);
+        if (DONE.equals(cursor)) return true;
+
+        long afterId = cursor == null ? 0L : Long.parseLong(cursor);
+        int seen = 0;
+        while (seen < maxRowsPerRun) {
+            if (!extendLock(token)) {
+                // 다른 노드가 이어받았을 수 있음 — 옛 커서로 덮어쓰지 않음
+                log.warn("[image-backfill] lock lost target={} afterId={}, stopping", target, afterId);
+                return false;
+            }
+            List<Object[]> rows = loader.load(afterId, PageRequest.of(0, Math.min(pageSize, maxRowsPerRun - seen)));
+            if (rows.isEmpty()) {
+                // 한 바퀴 완료 — 남은 행(객체 없음/읽기 실패)은 rescan-interval 뒤에 재시도
+                redis.opsForValue().set(cursorKey, DONE, rescanInterval);
+                log.info("[image-backfill] target={} pass completed", target);
+                return true;
+            }
+
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                String key = (String) row[1];
+                count(target, fill(target, id, key, writer));
+                afterId = id;
+            }
+            seen += rows.size();
+        }
+        if (!extendLock(token)) {
+            log.warn("[image-backfill] lock lost target={} afterId={}, cursor not saved", target, afterId);
+            return false;
+        }
+        redis.opsForValue().set(cursorKey, String.valueOf(afterId));
+        if (seen > 0) {
+            log.info("[image-backfill] target={} scanned={}", target, seen);
+        }
+        return true;
+    }
+
+    private boolean extendLock(String token) {
+        Long extended = redis.execute(EXTEND_SCRIPT, List.of(LOCK_KEY), token, String.valueOf(lockTtl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    private String fill(String target, Long id, String key, MetaWriter writer) {
+        try {
+            return s3Uploader.readMeta(key)
+                    .map(meta -> writer.write(id, key, meta.sha256(), meta.size(), meta.contentType()) == 1
+                            ? "filled" : "skipped")
+                    .orElse("missing");
+        } catch (Exception e) {
+            log.warn("[image-backfill] failed target={} id={} key={}", target, id, key, e);
+            return "failed";
+        }
+    }
+
+    private void count(String target, String result) {
+        Counter.builder("image.backfill.rows")
+                .tag("target", target)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @FunctionalInterface
+    private interface PageLoader {
+        List<Object[]> load(Long afterId, Pageable pageable);
+    }
+
+    @FunctionalInterface
+    private interface MetaWriter {
+        int write(Long id, String key, String sha256, Long size, String contentType);
+    }
+}
@@ -29,9 +29,14 @@ public class AwsProperties {
         private final String privateBucket;
         private final String highlightsPrefix;
         private final Integer presignTtlSeconds;
+        // S3 호환 스토리지(로컬 MinIO 등) 주소 — 없으면 AWS 기본 엔드포인트
+        private final String endpoint;
+        private final Boolean pathStyleAccess;
 
         // yml에 없으면 기본값 "profile/" 사용
         public String profilePrefix() { return "profile/"; }
         public int presignTtlSecondsOrDefault() { return presignTtlSeconds != null ? presignTtlSeconds : 10800; }
+        public boolean hasEndpoint() { return endpoint != null && !endpoint.isBlank(); }
+        public boolean pathStyleAccessOrDefault() { return pathStyleAccess != null && pathStyleAccess; }
     }
 }
@@ -0,0 +1,68 @@
+package com.yeoro.twogether.global.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 제한(토큰 버킷) 정책
+ * - policies: 정책 이름 → (경로, 키 종류, 버킷 크기, 초당 충전량)
+ * - yml에 같은 이름으로 정의하면 기본 정책을 덮어씀, capacity 0 이하면 해당 정책 비활성
+ *
+ * rate-limit:
+ *   policies:
+ *     login-ip: { path: /api/member/login, key: ip, capacity: 20, refill-per-second: 0.2 }
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private final Boolean enabled;
+    /** 프록시 뒤에서 X-Forwarded-For 첫 번째 값을 클라이언트 IP로 사용할지 */
+    private final Boolean trustForwardedFor;
+    private final Map<String, Policy> policies;
+
+    public enum KeyType { IP, MEMBER, EMAIL }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Policy {
+
+        private final String path;
+        private final KeyType key;
+        private final int capacity;
+        private final double refillPerSecond;
+
+        public boolean isActive() { return capacity > 0 && refillPerSecond > 0; }
+    }
+
+    public boolean enabledOrDefault() { return enabled == null || enabled; }
+    public boolean trustForwardedForOrDefault() { return trustForwardedFor != null && trustForwardedFor; }
+
+    /** 기본 정책 + yml 정의(같은 이름은 덮어씀) */
+    public Map<String, Policy> policiesOrDefault() {
+        Map<String, Policy> merged = new LinkedHashMap<>(DEFAULT_POLICIES);
+        if (policies != null) {
+            merged.putAll(policies);
+        }
+        return merged;
+    }
+
+    // 이메일 키 정책은 요청 본문이 필요하므로 필터가 아닌 서비스에서 검사
+    public static final String LOGIN_EMAIL = "login-email";
+    public static final String EMAIL_SEND_EMAIL = "email-send-email";
+
+    private static final Map<String, Policy> DEFAULT_POLICIES = Map.of(
+            "login-ip", new Policy("/api/member/login", KeyType.IP, 20, 0.2),
+            LOGIN_EMAIL, new Policy("/api/member/login", KeyType.EMAIL, 10, 0.05),
+            "email-send-ip", new Policy("/api/member/email/send", KeyType.IP, 10, 0.05),
+            EMAIL_SEND_EMAIL, new Policy("/api/member/email/send", KeyType.EMAIL, 3, 1.0 / 60),
+            "partner-code-ip", new Policy("/api/member/partner/code", KeyType.IP, 30, 0.5),
+            "partner-code-member", new Policy("/api/member/partner/code", KeyType.MEMBER, 10, 0.1),
+            "token-refresh-ip", new Policy("/api/member/token/refresh", KeyType.IP, 30, 0.5)
+    );
+}
@@ -0,0 +1,55 @@
+package com.yeoro.twogether.global.repository;
+
+import com.yeoro.twogether.global.entity.Media;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 참조 수 변경은 호출 트랜잭션에 참여 (영속성 컨텍스트는 비우지 않음 — 호출 측 엔티티 변경 보존)
+public interface MediaRepository extends JpaRepository<Media, Long> {
+
+    /** 참조 +1 — 행이 없으면 0 반환 */
+    @Transactional
+    @Modifying
+    @Query("update Media m set m.refCount = m.refCount + 1, m.releasedAt = null where m.sha256 = :sha256")
+    int acquire(@Param("sha256") String sha256);
+
+    /** 참조 -count (0 미만으로 내려가지 않음), 0이 되면 releasedAt 기록 */
+    @Transactional
+    @Modifying
+    @Query("update Media m set " +
+            "m.releasedAt = case when m.refCount <= :count then :now else m.releasedAt end, " +
+            "m.refCount = case when m.refCount > :count then m.refCount - :count else 0 end " +
+            "where m.objectKey = :key and m.refCount > 0")
+    int release(@Param("key") String key, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    /** 참조 0 행 재예약 — releasedAt을 갱신해 정리 유예 시간을 다시 시작 */
+    @Transactional
+    @Modifying
+    @Query("update Media m set m.releasedAt = :now where m.sha256 = :sha256 and m.refCount = 0")
+    int touchUnreferenced(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    /** 유예 시간이 지난 미참조 행 ID (오래된 순) */
+    @Query("select m.id from Media m where m.refCount = 0 and m.releasedAt < :before order by m.id")
+    List<Long> findUnreferencedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /** 미참조 행 잠금 (SELECT ... FOR UPDATE) — 그 사이 다시 참조/예약됐으면 empty */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Media m where m.id = :id and m.refCount = 0 and m.releasedAt < :before")
+    Optional<Media> lockUnreferenced(@Param("id") Long id, @Param("before") LocalDateTime before);
+
+    boolean existsBySha256(String sha256);
+
+    boolean existsBySha256AndRefCountGreaterThan(String sha256, int refCount);
+
+    long countByRefCount(int refCount);
+}
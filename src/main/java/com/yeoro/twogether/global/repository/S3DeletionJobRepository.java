@@ -0,0 +1,50 @@
+package com.yeoro.twogether.global.repository;
+
+import com.yeoro.twogether.global.entity.S3DeletionJob;
+import com.yeoro.twogether.global.entity.S3DeletionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface S3DeletionJobRepository extends JpaRepository<S3DeletionJob, Long> {
+
+    Optional<S3DeletionJob> findByPublicId(String publicId);
+
+    Optional<S3DeletionJob> findFirstByMemberIdOrderByIdDesc(Long memberId);
+
+    /** 배치 결과 누적 (PENDING이면 RUNNING으로) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionJob j set j.deletedObjects = j.deletedObjects + :deleted, " +
+            "j.failedObjects = j.failedObjects + :failed, " +
+            "j.status = com.yeoro.twogether.global.entity.S3DeletionJobStatus.RUNNING " +
+            "where j.id = :id and j.status in (com.yeoro.twogether.global.entity.S3DeletionJobStatus.PENDING, " +
+            "com.yeoro.twogether.global.entity.S3DeletionJobStatus.RUNNING)")
+    int addProgress(@Param("id") Long id, @Param("deleted") int deleted, @Param("failed") int failed);
+
+    /** 등록한 키 수 누적 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionJob j set j.totalObjects = j.totalObjects + :count where j.id = :id")
+    int addTotal(@Param("id") Long id, @Param("count") int count);
+
+    /** 키 등록 완료 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionJob j set j.sealed = true where j.id = :id")
+    int seal(@Param("id") Long id);
+
+    /** 봉인 후 남은 건이 없을 때 종료 처리 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionJob j set j.status = :status, j.finishedAt = :now " +
+            "where j.id = :id and j.sealed = true " +
+            "and j.status in (com.yeoro.twogether.global.entity.S3DeletionJobStatus.PENDING, " +
+            "com.yeoro.twogether.global.entity.S3DeletionJobStatus.RUNNING)")
+    int finish(@Param("id") Long id, @Param("status") S3DeletionJobStatus status, @Param("now") LocalDateTime now);
+}
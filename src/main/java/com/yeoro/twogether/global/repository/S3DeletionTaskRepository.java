@@ -0,0 +1,79 @@
+package com.yeoro.twogether.global.repository;
+
+import com.yeoro.twogether.global.entity.S3DeletionStatus;
+import com.yeoro.twogether.global.entity.S3DeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    /** 삭제 가능한 대기 건 ID (오래된 순) */
+    @Query("select t.id from S3DeletionTask t " +
+            "where t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.PENDING " +
+            "and t.nextAttemptAt <= :now order by t.id")
+    List<Long> findReadyIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** 배치 점유 (PENDING → RUNNING) — 다른 노드가 먼저 가져간 건은 제외됨 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionTask t set t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.RUNNING, " +
+            "t.claimToken = :token, t.claimedAt = :now " +
+            "where t.id in :ids and t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.PENDING")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    /** 이번 배치에서 점유한 건 */
+    List<S3DeletionTask> findByClaimToken(String claimToken);
+
+    /** 점유 해제 (RUNNING → PENDING, 시도 횟수 유지) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionTask t set t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.PENDING " +
+            "where t.claimToken = :token and t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.RUNNING")
+    int release(@Param("token") String token);
+
+    /** 삭제 완료 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionTask t set t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.DONE, " +
+            "t.attempts = t.attempts + 1, t.lastError = null where t.id in :ids")
+    int markDone(@Param("ids") Collection<Long> ids);
+
+    /** 삭제 실패 — 재시도 예약 또는 최종 실패 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionTask t set t.status = :status, t.attempts = t.attempts + 1, " +
+            "t.nextAttemptAt = :nextAttemptAt, t.lastError = :error where t.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") S3DeletionStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /** 워커 비정상 종료 등으로 오래 RUNNING에 머문 건 재대기 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update S3DeletionTask t set t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.PENDING " +
+            "where t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.RUNNING and t.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+
+    /** 삭제 완료 건 정리 (잡 진행률은 잡 행에 누적되어 있으므로 영향 없음) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from S3DeletionTask t " +
+            "where t.status = com.yeoro.twogether.global.entity.S3DeletionStatus.DONE and t.createdAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+
+    /** 잡에 남은(대기/진행 중) 건 수 */
+    long countByJobIdAndStatusIn(Long jobId, Collection<S3DeletionStatus> statuses);
+
+    long countByStatus(S3DeletionStatus status);
+
+    long countByStatusAndAttemptsGreaterThan(S3DeletionStatus status, int attempts);
+}
@@ -0,0 +1,140 @@
+package com.yeoro.twogether.global.service;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 비밀번호 해시 전용 실행기 (BCrypt)
+ * - 동시 해시 개수를 스레드 수로 제한 → 로그인 폭주 시에도 CPU/서블릿 스레드를 모두 잡아먹지 않음
+ * - 대기열이 가득 차거나 대기 시간이 길어지면 즉시 PASSWORD_HASHER_BUSY(503)
+ * - 메트릭: password.hash.queue(대기 시간), password.hash(해시 시간, op 태그), password.hash.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    /**
+     * OAuth 회원용 비밀번호 값 — BCrypt 형식이 아니므로 어떤 입력과도 일치하지 않음
+     * (password 컬럼이 NOT NULL이라 빈 값 대신 사용)
+     */
+    public static final String UNUSABLE_PASSWORD = "!oauth";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.threads:0}") int threads,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hash.max-wait-ms:3000}") long maxWaitMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.maxWaitMs = maxWaitMs;
+
+        // 0이면 코어 수 — BCrypt는 순수 CPU 작업이라 그 이상은 의미 없음
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("password.hash.executor.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder("password.hash.queue")
+                .description("해시 실행기 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("실행기 포화로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run("encode", encoder -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run("matches", encoder -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 여러 해시 연산을 한 번의 실행기 작업으로 처리 (대기열 1회만 통과)
+     * @param op 메트릭 태그
+     */
+    public <T> T run(String op, Function<PasswordEncoder, T> work) {
+        long submittedAt = System.nanoTime();
+        Timer hashTimer = meterRegistry.timer("password.hash", "op", op);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return work.apply(passwordEncoder);
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceException(ErrorCode.PASSWORD_HASHER_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceException(ErrorCode.PASSWORD_HASHER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceException(ErrorCode.PASSWORD_HASHER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
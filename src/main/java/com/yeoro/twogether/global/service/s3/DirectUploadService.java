@@ -0,0 +1,247 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 클라이언트 → S3 직접 업로드 (이미지 바이트가 앱 서버를 거치지 않음)
+ * - presign: 클라이언트가 보낸 SHA-256/크기/타입 검증 후 내용 주소 키로 presigned PUT 발급
+ *   · Content-Length, Content-Type, x-amz-checksum-sha256을 서명에 포함 → S3가 크기/타입/내용을 강제
+ *   · 이미 있는 이미지여도 항상 업로드 요구 (응답으로 다른 회원의 이미지 존재 여부가 드러나지 않도록)
+ *   · 참조 0 행을 미리 등록해 두어 끝내 확정되지 않은 업로드도 MediaSweeper가 정리
+ *   · 발급 회원 + 해시로 업로드 권한(upload:grant:<memberId>:<sha256>, 값=발급 시각) 기록
+ * - verifyUpload(트랜잭션 밖): 업로드 권한 확인 → HEAD 1회로 존재/해시/크기/타입 + 발급 이후 PUT 여부 확인
+ *   (키만 알고 남의 이미지를 가져가는 것 방지, S3 왕복 동안 DB 커넥션/행 잠금을 잡지 않음)
+ * - acquire(짧은 쓰기 트랜잭션): 참조 +1, 업로드 권한은 커밋 후 소모
+ * - presign TTL은 media.sweep.grace-ms보다 짧아야 함
+ * - 메트릭: upload.direct{stage, result}
+ */
+@Slf4j
+@Service
+public class DirectUploadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final String GRANT_PREFIX = "upload:grant:";
+    /** S3 LastModified(초 단위)와 서버 시각 차이 허용 */
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final AwsProperties aws;
+    private final MediaStore mediaStore;
+    private final StringRedisTemplate redis;
+    private final MeterRegistry meterRegistry;
+    private final long maxBytes;
+    private final Set<String> allowedTypes;
+    private final Duration presignTtl;
+
+    public DirectUploadService(S3Client s3,
+                               S3Presigner presigner,
+                               AwsProperties aws,
+                               MediaStore mediaStore,
+                               StringRedisTemplate redis,
+                               MeterRegistry meterRegistry,
+                               @Value("${upload.direct.max-bytes:20971520}") long maxBytes,
+                               @Value("${upload.direct.allowed-types:image/jpeg,image/png,image/webp,image/heic,image/gif}") String allowedTypes,
+                               @Value("${upload.direct.presign-ttl-ms:300000}") long presignTtlMs) {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.aws = aws;
+        this.mediaStore = mediaStore;
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        this.maxBytes = maxBytes;
+        this.allowedTypes = Arrays.stream(allowedTypes.split(","))
+                .map(String::trim)
+                .filter(t -> !t.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.presignTtl = Duration.ofMillis(presignTtlMs);
+    }
+
+    /** presign 요청 (sha256은 hex 64자) */
+    public record PresignRequest(
+            @NotBlank @jakarta.validation.constraints.Pattern(regexp = "[0-9a-fA-F]{64}") String sha256,
+            @Positive long size,
+            @NotBlank String contentType
+    ) {}
+
+    /**
+     * presign 결과
+     * - headers는 PUT 요청에 그대로 실어야 함(서명 대상)
+     */
+    public record PresignedUpload(String key,
+                                  String url,
+                                  Map<String, String> headers,
+                                  Instant expiresAt) {}
+
+    /** 확정된 업로드 */
+    public record Finalized(String key, String sha256, long size, String contentType) {}
+
+    public PresignedUpload presign(Long memberId, PresignRequest req) {
+        String sha256 = req.sha256() == null ? "" : req.sha256().toLowerCase();
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new ServiceException(ErrorCode.UPLOAD_CHECKSUM_INVALID);
+        }
+        validate(req.size(), req.contentType());
+
+        String key = MediaStore.keyOf(sha256);
+        mediaStore.reserve(sha256, key, req.size(), req.contentType());
+        // 발급 시각 기록 — 확정 시 이 시각 이후에 PUT된 객체인지 확인
+        redis.opsForValue().set(grantKey(memberId, sha256),
+                String.valueOf(Instant.now().minus(CLOCK_SKEW).getEpochSecond()),
+                presignTtl.multipliedBy(2));
+
+        PutObjectRequest put = PutObjectRequest.builder()
+                .bucket(aws.getS3().getPrivateBucket())
+                .key(key)
+                .contentType(req.contentType())
+                .contentLength(req.size())
+                .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))
+                .metadata(Map.of("sha256", sha256))
+                .build();
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignTtl)
+                .putObjectRequest(put)
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) headers.put(name, String.join(",", values));
+        });
+
+        count("presign", "issued");
+        log.debug("[direct-upload] presigned memberId={} key={}", memberId, key);
+        return new PresignedUpload(key, presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    /**
+     * 업로드 확인 — 트랜잭션 밖에서 호출 (HEAD 동안 커넥션/행 잠금 없음)
+     * - 본인이 presign 받은 해시만 확정 가능
+     * - presign 시 등록한 참조 0 행은 유예 시간 동안 MediaSweeper가 지우지 않음
+     */
+    public Finalized verifyUpload(Long memberId, String key) {
+        String sha256 = MediaStore.sha256Of(key);
+        if (sha256 == null) {
+            count("finalize", "invalid");
+            throw new ServiceException(ErrorCode.UPLOAD_NOT_COMPLETED);
+        }
+        String issuedAt = redis.opsForValue().get(grantKey(memberId, sha256));
+        if (issuedAt == null) {
+            count("finalize", "no_grant");
+            throw new ServiceException(ErrorCode.UPLOAD_NOT_COMPLETED);
+        }
+
+        HeadObjectResponse head = head(key);
+        if (head == null) {
+            count("finalize", "missing");
+            throw new ServiceException(ErrorCode.UPLOAD_NOT_COMPLETED);
+        }
+        if (!sha256.equals(storedSha256(head))) {
+            count("finalize", "mismatch");
+            throw new ServiceException(ErrorCode.UPLOAD_CHECKSUM_INVALID);
+        }
+        // presign 이후 실제로 올린 객체인지 (이미 있던 객체를 키만 알고 확정하는 것 방지)
+        if (head.lastModified() == null || head.lastModified().getEpochSecond() < Long.parseLong(issuedAt)) {
+            count("finalize", "stale");
+            throw new ServiceException(ErrorCode.UPLOAD_NOT_COMPLETED);
+        }
+        validate(head.contentLength(), head.contentType());
+        return new Finalized(key, sha256, head.contentLength(), head.contentType());
+    }
+
+    /**
+     * 확인된 업로드의 참조 +1 — 짧은 쓰기 트랜잭션 안에서 호출
+     * - 확인 이후 MediaSweeper가 행을 지웠으면 객체도 함께 삭제된 것이므로 실패 (다시 업로드)
+     * - 업로드 권한은 커밋 후 소모 (롤백되면 같은 업로드로 다시 확정 가능)
+     */
+    @Transactional
+    public void acquire(Long memberId, Finalized upload) {
+        if (!mediaStore.acquireExisting(upload.sha256())) {
+            count("finalize", "swept");
+            throw new ServiceException(ErrorCode.UPLOAD_NOT_COMPLETED);
+        }
+        String grantKey = grantKey(memberId, upload.sha256());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redis.delete(grantKey);
+                }
+            });
+        } else {
+            redis.delete(grantKey);
+        }
+        count("finalize", "ok");
+    }
+
+    private void validate(long size, String contentType) {
+        if (size <= 0 || size > maxBytes) {
+            throw new ServiceException(ErrorCode.UPLOAD_TOO_LARGE);
+        }
+        if (contentType == null || !allowedTypes.contains(contentType.toLowerCase())) {
+            throw new ServiceException(ErrorCode.UPLOAD_TYPE_NOT_ALLOWED);
+        }
+    }
+
+    private HeadObjectResponse head(String key) {
+        try {
+            return s3.headObject(b -> b
+                    .bucket(aws.getS3().getPrivateBucket())
+                    .key(key)
+                    .checksumMode(ChecksumMode.ENABLED));
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return null;
+            throw e;
+        }
+    }
+
+    /** S3가 검증한 체크섬 우선, 없으면(서버 업로드 객체) 메타데이터 */
+    private static String storedSha256(HeadObjectResponse head) {
+        String checksum = head.checksumSHA256();
+        if (checksum != null && !checksum.contains("-")) {
+            return HexFormat.of().formatHex(Base64.getDecoder().decode(checksum));
+        }
+        return head.metadata() == null ? null : head.metadata().get("sha256");
+    }
+
+    private static String grantKey(Long memberId, String sha256) {
+        return GRANT_PREFIX + memberId + ":" + sha256;
+    }
+
+    private void count(String stage, String result) {
+        meterRegistry.counter("upload.direct", "stage", stage, "result", result).increment();
+    }
+}
@@ -4,22 +4,15 @@ import com.yeoro.twogether.global.properties.AwsProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import java.net.URLConnection;
-import java.security.MessageDigest;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -27,65 +20,70 @@ import java.util.UUID;
 public class HighlightS3Service {
 
     private final S3Client s3;
-    private final S3Presigner presigner;   // Presigner 주입
+    private final PresignedUrlCache presignedUrlCache;
     private final AwsProperties aws;
+    private final MediaStore mediaStore;
+    private final DirectUploadService directUploadService;
+    private final S3DeletionQueue s3DeletionQueue;
 
     // presign TTL
     private static final Duration PRESIGN_TTL = Duration.ofHours(3);
 
-    private static final DateTimeFormatter YM = DateTimeFormatter.ofPattern("yyyy/MM");
-    private static final String BASE_PREFIX = "highlights/";
+    public record UploadResult(String key, String sha256, long size, String contentType) {}
 
-    public record UploadResult(String key, String sha256) {}
+    /**
+     * 업로드(트랜잭션 밖에서 호출): 내용 주소 키로 객체 저장 (같은 내용이 이미 있으면 전송 생략)
+     * - 참조는 이후 쓰기 트랜잭션에서 acquire로 획득, 교체/삭제 시 release로 반납
+     */
+    public UploadResult stage(String originalFileName,
+                              String contentType,
+                              S3Uploader.Spooled file) {
 
-    /** 업로드: 반드시 byte[] 경로만 사용 */
-    public UploadResult upload(Long memberId,
-                               String originalFileName,
-                               String contentType,
-                               byte[] bytes) {
-
-        // 1) 키 생성
-        String ym = LocalDate.now().format(YM);
-        String ext = extOf(originalFileName);
-        String key = BASE_PREFIX + memberId + "/" + ym + "/" + UUID.randomUUID() + (ext.isBlank() ? "" : "." + ext);
-
-        // 2) Content-Type 보정
+        // Content-Type 보정
         String ct = (contentType == null || contentType.isBlank())
                 ? guessContentType(originalFileName)
                 : contentType;
 
-        // 3) SHA-256 계산 → 메타에 심기
-        String sha256 = sha256Hex(bytes);
+        String key = mediaStore.stage(file, ct);
+        return new UploadResult(key, file.sha256(), file.size(), ct);
+    }
 
-        PutObjectRequest put = PutObjectRequest.builder()
-                .bucket(aws.getS3().getPrivateBucket())
-                .key(key)
-                .contentType(ct)
-                .metadata(Map.of(
-                        "sha256", sha256
-                ))
-                .build();
+    /** stage한 이미지 참조 획득 (쓰기 트랜잭션 안에서) */
+    public void acquire(UploadResult staged) {
+        mediaStore.acquireStaged(staged.sha256());
+    }
 
-        s3.putObject(put, RequestBody.fromBytes(bytes));
+    /** 클라이언트가 presigned PUT으로 올린 객체 확인 (트랜잭션 밖에서 호출, HEAD 1회) */
+    public UploadResult verifyUploaded(Long memberId, String key) {
+        DirectUploadService.Finalized f = directUploadService.verifyUpload(memberId, key);
+        return new UploadResult(f.key(), f.sha256(), f.size(), f.contentType());
+    }
 
-        return new UploadResult(key, sha256);
+    /** 확인된 업로드 참조 획득 (쓰기 트랜잭션 안에서) */
+    public void attach(Long memberId, UploadResult verified) {
+        directUploadService.acquire(memberId, new DirectUploadService.Finalized(
+                verified.key(), verified.sha256(), verified.size(), verified.contentType()));
     }
 
-    /** presigned GET URL (3시간) */
-    public String presignedGetUrl(String key) {
-        GetObjectRequest get = GetObjectRequest.builder()
-                .bucket(aws.getS3().getPrivateBucket())
-                .key(key)
-                .build();
+    /**
+     * 이미지 참조 반납 (호출 트랜잭션 안에서)
+     * - 내용 주소 키: 참조 -1 (0이 되면 MediaSweeper가 정리)
+     * - 도입 전 키: 같은 트랜잭션에서 삭제 아웃박스에 등록 (커밋되면 S3DeletionWorker가 재시도 포함 삭제)
+     */
+    public void release(String key) {
+        if (key == null || key.isBlank() || mediaStore.release(key)) return;
+        s3DeletionQueue.enqueue(null, List.of(key));
+        presignedUrlCache.evict(key);
+    }
 
-        GetObjectPresignRequest presign = GetObjectPresignRequest.builder()
-                .signatureDuration(PRESIGN_TTL)
-                .getObjectRequest(get)
-                .build();
+    /** presigned GET URL (3시간, 캐시 — 갱신 시점까지 같은 URL) */
+    public String presignedGetUrl(String key) {
+        return presignedUrlCache.get(key, PRESIGN_TTL);
+    }
 
-        return presigner.presignGetObject(presign)
-                .url()
-                .toString();
+    /** presigned GET URL 일괄 (key → URL) — 목록 응답용 */
+    public Map<String, String> presignedGetUrls(Collection<String> keys) {
+        return presignedUrlCache.getAll(keys, PRESIGN_TTL);
     }
 
     /** 기존 객체의 sha256 메타 조회 */
@@ -99,49 +97,12 @@ public class HighlightS3Service {
         return meta == null ? null : meta.get("sha256");
     }
 
-    /** 객체 삭제 */
-    public void delete(String key) {
-        s3.deleteObject(b -> b.bucket(aws.getS3().getPrivateBucket()).key(key));
-    }
-
     // ========= utils =========
 
-    private static String extOf(String fileName) {
-        if (fileName == null) return "";
-        int i = fileName.lastIndexOf('.');
-        if (i < 0 || i == fileName.length() - 1) return "";
-        return fileName.substring(i + 1).replaceAll("[^A-Za-z0-9]", "");
-    }
-
     private static String guessContentType(String fileName) {
         if (fileName == null) return "application/octet-stream";
         String ct = URLConnection.guessContentTypeFromName(fileName);
         return (ct == null) ? "application/octet-stream" : ct;
     }
 
-    public static String sha256Hex(byte[] bytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(bytes);
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
-    public void deleteQuietly(String key) {
-        if (key == null || key.isBlank()) return;
-        try {
-            delete(key);
-        } catch (software.amazon.awssdk.services.s3.model.NoSuchKeyException e) {
-            log.warn("[S3] deleteQuietly no-such-key: {}", key);
-        } catch (software.amazon.awssdk.services.s3.model.S3Exception e) {
-            log.warn("[S3] deleteQuietly s3-exception: key={}, msg={}", key, e.getMessage());
-        } catch (Exception e) {
-            log.warn("[S3] deleteQuietly unexpected: key={}", key, e);
-        }
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.entity.Media;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.repository.MediaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내용 주소 기반 미디어 저장소 (하이라이트/프로필 이미지 공용)
+ * - 키 = media/<sha 앞 2자리>/<sha> → 같은 사진은 누가 몇 번 올려도 객체 1개
+ * - acquire: 이미 있는 해시면 업로드 없이 참조 +1, 없으면 업로드 후 행 등록 + 참조 +1
+ * - 직접 업로드(DirectUploadService): reserve로 참조 0 행을 미리 등록 → 완료 확인 후 acquireExisting (행이 없으면 스위퍼가 객체까지 지운 것 → 실패)
+ * - 트랜잭션 밖 업로드: stage(업로드 + 참조 0 행 등록) → 짧은 쓰기 트랜잭션에서 acquireStaged
+ * - release: 참조 -1, 실제 삭제는 참조 0 + 유예 시간 경과 후 MediaSweeper가 수행
+ * - 참조 수 변경은 호출 트랜잭션에 참여 → 롤백되면 참조도 되돌아가고 남은 객체는 스위퍼가 정리
+ * - media/로 시작하지 않는 키(도입 전 UUID 키)는 관리 대상이 아님 — 호출 측이 기존 방식으로 삭제
+ * - 메트릭: media.acquire{result=hit|upload}, media.release
+ */
+@Slf4j
+@Component
+public class MediaStore {
+
+    public static final String PREFIX = "media/";
+
+    private final MediaRepository mediaRepository;
+    private final S3Uploader uploader;
+    private final TransactionTemplate requiresNew;
+
+    private final Counter hitCounter;
+    private final Counter uploadCounter;
+    private final Counter releaseCounter;
+
+    public MediaStore(MediaRepository mediaRepository,
+                      S3Uploader uploader,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry) {
+        this.mediaRepository = mediaRepository;
+        this.uploader = uploader;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.hitCounter = Counter.builder("media.acquire").tag("result", "hit").register(meterRegistry);
+        this.uploadCounter = Counter.builder("media.acquire").tag("result", "upload").register(meterRegistry);
+        this.releaseCounter = Counter.builder("media.release").register(meterRegistry);
+    }
+
+    /** 관리 대상(내용 주소) 키인지 */
+    public static boolean isManaged(String key) {
+        return key != null && key.startsWith(PREFIX);
+    }
+
+    public static String keyOf(String sha256) {
+        return PREFIX + sha256.substring(0, 2) + "/" + sha256;
+    }
+
+    /** 키에서 해시 추출 — 형식이 다르면 null */
+    public static String sha256Of(String key) {
+        if (!isManaged(key)) return null;
+        String sha256 = key.substring(key.lastIndexOf('/') + 1);
+        return keyOf(sha256).equals(key) ? sha256 : null;
+    }
+
+    /** 참조 중인(객체가 올라가 있는) 해시인지 */
+    public boolean isReferenced(String sha256) {
+        return mediaRepository.existsBySha256AndRefCountGreaterThan(sha256, 0);
+    }
+
+    /**
+     * 참조 획득 — 반환 키를 엔티티에 저장
+     * - 행 등록은 별도 트랜잭션(동시 업로드 시 유니크 충돌이 호출 트랜잭션을 깨지 않도록)
+     */
+    @Transactional
+    public String acquire(S3Uploader.Spooled file, String contentType) {
+        String sha256 = file.sha256();
+        String key = keyOf(sha256);
+
+        if (mediaRepository.acquire(sha256) == 1) {
+            hitCounter.increment();
+            return key;
+        }
+
+        // 같은 내용이면 같은 키라 동시 업로드가 겹쳐도 결과는 동일
+        uploader.put(key, contentType, file);
+        uploadCounter.increment();
+        registerAndAcquire(sha256, key, file.size(), contentType);
+        return key;
+    }
+
+    /**
+     * 트랜잭션 밖에서 참조 0 행 등록 + 객체 업로드 (DB 커넥션을 잡지 않은 채 S3 전송)
+     * - 이미 참조 중인 해시면 전송 생략
+     * - 행을 먼저 예약(유예 시간 재시작)한 뒤 전송 → 스위퍼가 방금 올린 객체를 지우지 않음
+     * - 이후 쓰기가 실패해도 참조 0 행은 유예 시간 후 MediaSweeper가 정리 (다른 요청이 그 사이 참조하면 유지)
+     */
+    public String stage(S3Uploader.Spooled file, String contentType) {
+        String sha256 = file.sha256();
+        String key = keyOf(sha256);
+        if (isReferenced(sha256)) {
+            hitCounter.increment();
+            return key;
+        }
+        reserve(sha256, key, file.size(), contentType);
+        uploader.put(key, contentType, file);
+        uploadCounter.increment();
+        return key;
+    }
+
+    /** stage한 객체의 참조 +1 — 그 사이 정리됐으면 FILE_UPLOAD_FAILED */
+    @Transactional
+    public void acquireStaged(String sha256) {
+        if (mediaRepository.acquire(sha256) != 1) {
+            throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /** 이미 등록된 해시면 참조 +1 (행이 없으면 false) */
+    @Transactional
+    public boolean acquireExisting(String sha256) {
+        if (mediaRepository.acquire(sha256) != 1) return false;
+        hitCounter.increment();
+        return true;
+    }
+
+    /** 업로드가 끝난 객체를 등록하고 참조 +1 */
+    @Transactional
+    public void registerAndAcquire(String sha256, String key, long size, String contentType) {
+        reserve(sha256, key, size, contentType);
+        if (mediaRepository.acquire(sha256) != 1) {
+            throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 참조 0 행 등록 — 별도 트랜잭션
+     * - 이미 참조 0 행이 있으면 releasedAt을 갱신해 유예 시간을 다시 시작 (스위퍼가 방금 올린 객체를 지우지 않도록)
+     * - 스위퍼가 잠근 행이면 갱신이 커밋까지 대기 → 그 사이 삭제됐으면 다시 등록
+     * - 완료되지 않은 직접 업로드도 유예 시간 후 MediaSweeper가 정리
+     */
+    public void reserve(String sha256, String key, long size, String contentType) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                requiresNew.executeWithoutResult(status ->
+                        mediaRepository.saveAndFlush(new Media(sha256, key, size, contentType)));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                Integer touched = requiresNew.execute(status ->
+                        mediaRepository.touchUnreferenced(sha256, LocalDateTime.now()));
+                // 갱신됐거나(참조 0) 참조 중인 행이면 완료
+                if ((touched != null && touched > 0) || mediaRepository.existsBySha256(sha256)) {
+                    log.debug("[media] already registered sha256={}", sha256);
+                    return;
+                }
+            }
+        }
+        throw new ServiceException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    /** 참조 반납 — 관리 대상이 아닌 키면 false */
+    @Transactional
+    public boolean release(String key) {
+        if (!isManaged(key)) return false;
+        mediaRepository.release(key, 1, LocalDateTime.now());
+        releaseCounter.increment();
+        return true;
+    }
+
+    /** 여러 참조 반납 (같은 키는 개수만큼) — 관리 대상이 아닌 키 목록 반환 */
+    @Transactional
+    public List<String> releaseAll(Collection<String> keys) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        List<String> unmanaged = new ArrayList<>();
+        for (String key : keys) {
+            if (key == null || key.isBlank()) continue;
+            if (isManaged(key)) counts.merge(key, 1, Integer::sum);
+            else unmanaged.add(key);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        counts.forEach((key, count) -> {
+            mediaRepository.release(key, count, now);
+            releaseCounter.increment(count);
+        });
+        return unmanaged;
+    }
+}
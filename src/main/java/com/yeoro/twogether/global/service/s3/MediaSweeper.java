@@ -0,0 +1,89 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.global.repository.MediaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미참조 미디어 정리
+ * - 참조 0 상태로 유예 시간이 지난 행을 FOR UPDATE로 잠그고 행 삭제(flush) → S3 객체 삭제 → 커밋
+ * - 잠글 때 참조 0 + 유예 경과를 다시 확인 (그 사이 reserve로 재예약된 행은 건너뜀)
+ * - 잠금 중 같은 해시를 acquire하면 커밋까지 대기 후 행이 없으므로 새로 업로드 (삭제된 객체를 참조하지 않음)
+ * - S3 삭제가 실패하면 롤백되어 다음 주기에 재시도
+ * - 메트릭: media.unreferenced(정리 대기 행 수), media.sweep.deleted
+ */
+@Slf4j
+@Component
+public class MediaSweeper {
+
+    private final MediaRepository mediaRepository;
+    private final S3Client s3;
+    private final AwsProperties aws;
+    private final TransactionTemplate tx;
+    private final PresignedUrlCache presignedUrlCache;
+    private final Duration grace;
+    private final int batchSize;
+
+    private final AtomicLong unreferenced = new AtomicLong();
+    private final Counter deletedCounter;
+
+    public MediaSweeper(MediaRepository mediaRepository,
+                        S3Client s3,
+                        AwsProperties aws,
+                        TransactionTemplate tx,
+                        PresignedUrlCache presignedUrlCache,
+                        MeterRegistry meterRegistry,
+                        @Value("${media.sweep.grace-ms:600000}") long graceMs,
+                        @Value("${media.sweep.batch-size:100}") int batchSize) {
+        this.mediaRepository = mediaRepository;
+        this.s3 = s3;
+        this.aws = aws;
+        this.tx = tx;
+        this.presignedUrlCache = presignedUrlCache;
+        this.grace = Duration.ofMillis(graceMs);
+        this.batchSize = batchSize;
+
+        Gauge.builder("media.unreferenced", unreferenced, AtomicLong::get)
+                .description("참조가 0인 미디어 행 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("media.sweep.deleted").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${media.sweep.interval-ms:300000}")
+    public void sweep() {
+        unreferenced.set(mediaRepository.countByRefCount(0));
+
+        LocalDateTime before = LocalDateTime.now().minus(grace);
+        List<Long> ids = mediaRepository.findUnreferencedIds(before, PageRequest.of(0, batchSize));
+        for (Long id : ids) {
+            try {
+                Boolean deleted = tx.execute(status -> mediaRepository.lockUnreferenced(id, before)
+                        .map(media -> {
+                            mediaRepository.delete(media);
+                            mediaRepository.flush();
+                            s3.deleteObject(b -> b.bucket(aws.getS3().getPrivateBucket()).key(media.getObjectKey()));
+                            presignedUrlCache.evict(media.getObjectKey());
+                            return true;
+                        })
+                        .orElse(false));
+                if (Boolean.TRUE.equals(deleted)) deletedCounter.increment();
+            } catch (Exception e) {
+                log.warn("[media-sweep] failed id={}", id, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * presigned GET URL 캐시 (노드 로컬 Caffeine)
+ * - 같은 키는 갱신 시점까지 같은 URL 반환 → 목록 응답마다 SigV4 서명을 다시 하지 않고, 클라이언트/CDN 캐시도 유지
+ * - 갱신 시점 = 서명 유효 시간 × refresh-ratio (기본 0.5 → 3시간 URL은 1.5시간 뒤 재서명)
+ *   → 캐시에서 나간 URL도 최소 (1 - refresh-ratio) × 유효 시간은 유효
+ * - 캐시 키는 objectKey (유효 시간은 값에 보관, 다른 유효 시간으로 요청되면 재서명 후 교체)
+ * - 삭제된 객체는 evict (URL이 남아 있어도 404일 뿐이라 다른 노드는 갱신 시점에 자연 만료)
+ * - 서명은 SigV4Presigner (목록은 getAll로 빠진 키만 한 번에 서명)
+ * - 메트릭: s3.presign.cache(Caffeine 통계: hit/miss/eviction → 적중률)
+ */
+@Component
+public class PresignedUrlCache {
+
+    private final SigV4Presigner presigner;
+    private final double refreshRatio;
+
+    private final Cache<String, Signed> cache;
+
+    public PresignedUrlCache(SigV4Presigner presigner,
+                             MeterRegistry meterRegistry,
+                             @Value("${s3.presign.cache.max-entries:100000}") long maxEntries,
+                             @Value("${s3.presign.cache.refresh-ratio:0.5}") double refreshRatio) {
+        this.presigner = presigner;
+        this.refreshRatio = Math.min(Math.max(refreshRatio, 0.1), 0.9);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.creating((String k, Signed v) -> refreshAfter(v.ttl())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.presign.cache");
+    }
+
+    /** 서명된 URL + 서명 유효 시간 */
+    private record Signed(Duration ttl, String url) {}
+
+    /** private 버킷 객체의 presigned GET URL (ttl: 서명 유효 시간) */
+    public String get(String objectKey, Duration ttl) {
+        Signed signed = cache.get(objectKey, k -> new Signed(ttl, presigner.presignGet(k, ttl)));
+        if (!signed.ttl().equals(ttl)) {
+            signed = new Signed(ttl, presigner.presignGet(objectKey, ttl));
+            cache.put(objectKey, signed);
+        }
+        return signed.url();
+    }
+
+    /** 여러 키 일괄 조회 (objectKey → URL, 입력 순서 유지) — 캐시에 없는 키만 일괄 서명 */
+    public Map<String, String> getAll(Collection<String> objectKeys, Duration ttl) {
+        Map<String, Signed> cached = cache.getAll(objectKeys, missing -> sign(missing, ttl));
+
+        List<String> stale = cached.entrySet().stream()
+                .filter(e -> !e.getValue().ttl().equals(ttl))
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<String, Signed> resigned = stale.isEmpty() ? Map.of() : sign(stale, ttl);
+        cache.putAll(resigned);
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        cached.forEach((k, v) -> urls.put(k, resigned.getOrDefault(k, v).url()));
+        return urls;
+    }
+
+    /** 객체 삭제 시 이 노드의 URL 제거 */
+    public void evict(String objectKey) {
+        cache.invalidate(objectKey);
+    }
+
+    private Map<String, Signed> sign(Collection<? extends String> objectKeys, Duration ttl) {
+        Map<String, Signed> signed = new LinkedHashMap<>();
+        presigner.presignGetAll(List.copyOf(objectKeys), ttl).forEach((k, url) -> signed.put(k, new Signed(ttl, url)));
+        return signed;
+    }
+
+    private Duration refreshAfter(Duration ttl) {
+        return Duration.ofMillis((long) (ttl.toMillis() * refreshRatio));
+    }
+}
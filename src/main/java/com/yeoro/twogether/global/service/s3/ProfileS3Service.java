@@ -4,20 +4,13 @@ import com.yeoro.twogether.global.properties.AwsProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import java.net.URLConnection;
-import java.security.MessageDigest;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -25,48 +18,47 @@ import java.util.UUID;
 public class ProfileS3Service {
 
     private final S3Client s3;
-    private final S3Presigner presigner;
+    private final PresignedUrlCache presignedUrlCache;
     private final AwsProperties aws;
+    private final MediaStore mediaStore;
+    private final DirectUploadService directUploadService;
+    private final S3DeletionQueue s3DeletionQueue;
 
-    private static final DateTimeFormatter YM = DateTimeFormatter.ofPattern("yyyy/MM");
-
-    public record UploadResult(String key, String sha256) {}
-
-    public UploadResult upload(Long memberId, String originalFileName, String contentType, byte[] bytes) {
-        String ym = LocalDate.now().format(YM);
-        String ext = extOf(originalFileName);
-        String base = aws.getS3().profilePrefix(); // "profile/"
-        String key = base + memberId + "/" + ym + "/" + UUID.randomUUID() + (ext.isBlank() ? "" : "." + ext);
+    public record UploadResult(String key, String sha256, long size, String contentType) {}
 
+    /** 업로드: 내용 주소 키로 참조 획득 (같은 내용이 이미 있으면 전송 생략) */
+    public UploadResult upload(String originalFileName, String contentType, S3Uploader.Spooled file) {
         String ct = (contentType == null || contentType.isBlank())
                 ? guessContentType(originalFileName)
                 : contentType;
 
-        String sha256 = sha256Hex(bytes);
+        String key = mediaStore.acquire(file, ct);
+        return new UploadResult(key, file.sha256(), file.size(), ct);
+    }
+
+    /** 클라이언트가 presigned PUT으로 올린 객체 확인 (트랜잭션 밖에서 호출, HEAD 1회) */
+    public UploadResult verifyUploaded(Long memberId, String key) {
+        DirectUploadService.Finalized f = directUploadService.verifyUpload(memberId, key);
+        return new UploadResult(f.key(), f.sha256(), f.size(), f.contentType());
+    }
 
-        PutObjectRequest put = PutObjectRequest.builder()
-                .bucket(aws.getS3().getPrivateBucket())
-                .key(key)
-                .contentType(ct)
-                .metadata(Map.of("sha256", sha256))
-                .build();
+    /** 확인된 업로드 참조 획득 (쓰기 트랜잭션 안에서) */
+    public void attach(Long memberId, UploadResult verified) {
+        directUploadService.acquire(memberId, new DirectUploadService.Finalized(
+                verified.key(), verified.sha256(), verified.size(), verified.contentType()));
+    }
 
-        s3.putObject(put, RequestBody.fromBytes(bytes));
-        return new UploadResult(key, sha256);
+    /** 프로필 이미지 참조 반납 — 도입 전 키는 같은 트랜잭션에서 삭제 아웃박스에 등록, 소셜 프로필 URL은 무시 */
+    public void release(String key) {
+        if (key == null || key.isBlank() || key.startsWith("http") || mediaStore.release(key)) return;
+        s3DeletionQueue.enqueue(null, List.of(key));
+        presignedUrlCache.evict(key);
     }
 
     public String presignedGetUrl(String key) {
         if (key == null || key.isBlank()) return null;
         int ttl = aws.getS3().presignTtlSecondsOrDefault(); // yml: 10800(=3시간)
-        GetObjectRequest get = GetObjectRequest.builder()
-                .bucket(aws.getS3().getPrivateBucket())
-                .key(key)
-                .build();
-        GetObjectPresignRequest presign = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofSeconds(ttl))
-                .getObjectRequest(get)
-                .build();
-        return presigner.presignGetObject(presign).url().toString();
+        return presignedUrlCache.get(key, Duration.ofSeconds(ttl));
     }
 
     public String headSha256(String key) {
@@ -77,40 +69,10 @@ public class ProfileS3Service {
         return meta == null ? null : meta.get("sha256");
     }
 
-    public void deleteQuietly(String key) {
-        if (key == null || key.isBlank()) return;
-        try {
-            s3.deleteObject(b -> b.bucket(aws.getS3().getPrivateBucket()).key(key));
-        } catch (NoSuchKeyException e) {
-            log.warn("[S3] deleteQuietly no-such-key: {}", key);
-        } catch (S3Exception e) {
-            log.warn("[S3] deleteQuietly s3-exception: key={}, msg={}", key, e.getMessage());
-        } catch (Exception e) {
-            log.warn("[S3] deleteQuietly unexpected: key={}", key, e);
-        }
-    }
-
     // utils
-    private static String extOf(String fileName) {
-        if (fileName == null) return "";
-        int i = fileName.lastIndexOf('.');
-        if (i < 0 || i == fileName.length() - 1) return "";
-        return fileName.substring(i + 1).replaceAll("[^A-Za-z0-9]", "");
-    }
     private static String guessContentType(String fileName) {
         if (fileName == null) return "application/octet-stream";
         String ct = URLConnection.guessContentTypeFromName(fileName);
         return (ct == null) ? "application/octet-stream" : ct;
     }
-    private static String sha256Hex(byte[] bytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(bytes);
-            StringBuilder sb = new StringBuilder(d.length * 2);
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
-    }
 }
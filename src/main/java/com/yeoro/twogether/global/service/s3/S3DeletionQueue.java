@@ -0,0 +1,68 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.entity.S3DeletionJob;
+import com.yeoro.twogether.global.entity.S3DeletionJobStatus;
+import com.yeoro.twogether.global.entity.S3DeletionStatus;
+import com.yeoro.twogether.global.entity.S3DeletionTask;
+import com.yeoro.twogether.global.repository.S3DeletionJobRepository;
+import com.yeoro.twogether.global.repository.S3DeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 삭제 작업 등록
+ * - 호출 트랜잭션에 참여해 행만 저장 → 커밋되면 S3DeletionWorker가 일괄 삭제
+ * - 롤백되면 삭제 작업도 함께 사라지므로 DB와 S3 상태가 어긋나지 않음
+ * - 잡 단위 등록: openJob → enqueue(여러 번, 여러 트랜잭션 가능) → seal
+ */
+@Component
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    private static final List<S3DeletionStatus> OPEN = List.of(S3DeletionStatus.PENDING, S3DeletionStatus.RUNNING);
+
+    private final S3DeletionJobRepository jobRepository;
+    private final S3DeletionTaskRepository taskRepository;
+
+    /** 진행률을 추적할 잡 생성 */
+    @Transactional
+    public S3DeletionJob openJob(Long memberId) {
+        return jobRepository.save(new S3DeletionJob(memberId));
+    }
+
+    /** 키 묶음 등록 (빈 키 무시), jobId가 null이면 진행률 집계 없이 삭제만 */
+    @Transactional
+    public int enqueue(Long jobId, Collection<String> keys) {
+        List<S3DeletionTask> tasks = keys.stream()
+                .filter(k -> k != null && !k.isBlank())
+                .distinct()
+                .map(k -> S3DeletionTask.builder().jobId(jobId).objectKey(k).build())
+                .toList();
+        if (tasks.isEmpty()) return 0;
+
+        taskRepository.saveAll(tasks);
+        if (jobId != null) jobRepository.addTotal(jobId, tasks.size());
+        return tasks.size();
+    }
+
+    /** 키 등록 완료 — 이미 전부 삭제됐거나 등록한 키가 없으면 바로 종료 */
+    public void seal(Long jobId) {
+        if (jobId == null) return;
+        jobRepository.seal(jobId);
+        finishIfDone(jobId);
+    }
+
+    /** 봉인된 잡에 남은 건이 없으면 종료 (실패 건이 있으면 FAILED) */
+    public void finishIfDone(Long jobId) {
+        if (taskRepository.countByJobIdAndStatusIn(jobId, OPEN) > 0) return;
+
+        jobRepository.findById(jobId).ifPresent(job -> jobRepository.finish(jobId,
+                job.getFailedObjects() > 0 ? S3DeletionJobStatus.FAILED : S3DeletionJobStatus.COMPLETED,
+                LocalDateTime.now()));
+    }
+}
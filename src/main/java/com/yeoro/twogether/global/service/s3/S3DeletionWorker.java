@@ -0,0 +1,253 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.entity.S3DeletionStatus;
+import com.yeoro.twogether.global.entity.S3DeletionTask;
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.global.repository.S3DeletionJobRepository;
+import com.yeoro.twogether.global.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 삭제 아웃박스 워커
+ * - 대기 건을 최대 1000건(DeleteObjects 한도)씩 점유해 요청 1회로 삭제 (quiet 모드: 실패 키만 응답)
+ * - 실패한 키만 지수 백오프(최대 max-backoff)로 재시도
+ *   · 잡에 속한 건: 최대 횟수 초과 시 FAILED (잡 종료 판정용)
+ *   · 단건(이미지 교체/삭제): 성공할 때까지 재시도 — 객체가 영구히 남지 않도록
+ * - 배치마다 잡 진행률(삭제/실패 수) 누적, 봉인된 잡에 남은 건이 없으면 잡 종료
+ * - 메트릭: s3.deletion.pending(backlog), s3.deletion.retrying(재시도 대기), s3.deletion.failed(포기),
+ *   s3.deletion.batch(요청 시간), s3.deletion.objects{result}
+ */
+@Slf4j
+@Component
+public class S3DeletionWorker {
+
+    // DeleteObjects 요청당 최대 키 수
+    private static final int MAX_BATCH = 1000;
+
+    private final S3DeletionTaskRepository taskRepository;
+    private final S3DeletionJobRepository jobRepository;
+    private final S3DeletionQueue queue;
+    private final S3Client s3;
+    private final AwsProperties aws;
+
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong retryingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final Timer batchTimer;
+    private final Counter deletedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public S3DeletionWorker(S3DeletionTaskRepository taskRepository,
+                            S3DeletionJobRepository jobRepository,
+                            S3DeletionQueue queue,
+                            S3Client s3,
+                            AwsProperties aws,
+                            MeterRegistry meterRegistry,
+                            @Value("${s3.deletion.threads:2}") int threads,
+                            @Value("${s3.deletion.batch-size:1000}") int batchSize,
+                            @Value("${s3.deletion.max-attempts:8}") int maxAttempts,
+                            @Value("${s3.deletion.base-backoff-ms:5000}") long baseBackoffMs,
+                            @Value("${s3.deletion.max-backoff-ms:600000}") long maxBackoffMs) {
+        this.taskRepository = taskRepository;
+        this.jobRepository = jobRepository;
+        this.queue = queue;
+        this.s3 = s3;
+        this.aws = aws;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH));
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads),
+                r -> {
+                    Thread t = new Thread(r, "s3-deletion-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("s3.deletion.pending", pendingCount, AtomicLong::get)
+                .description("삭제 대기 중인 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.retrying", retryingCount, AtomicLong::get)
+                .description("실패 후 재시도 대기 중인 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.failed", failedCount, AtomicLong::get)
+                .description("재시도를 포기한 S3 객체 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("s3.deletion.batch")
+                .description("DeleteObjects 요청 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("s3.deletion.objects").tag("result", "deleted").register(meterRegistry);
+        this.retryCounter = Counter.builder("s3.deletion.objects").tag("result", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("s3.deletion.objects").tag("result", "failed").register(meterRegistry);
+    }
+
+    /** 스레드 풀 여유만큼 배치를 점유해 제출 */
+    @Scheduled(fixedDelayString = "${s3.deletion.poll-interval-ms:1000}")
+    public void drain() {
+        int capacity = executor.getQueue().remainingCapacity();
+        for (int i = 0; i < capacity; i++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = taskRepository.findReadyIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return;
+
+            String token = UUID.randomUUID().toString();
+            // 다른 노드가 전부 먼저 점유했으면 다음 묶음으로
+            if (taskRepository.claim(ids, token, now) == 0) continue;
+            try {
+                executor.execute(() -> process(token));
+            } catch (RejectedExecutionException e) {
+                // 풀이 가득 찬 경우 다음 주기에 다시 시도
+                taskRepository.release(token);
+                return;
+            }
+        }
+    }
+
+    /** 대기 건수 메트릭 갱신 + 오래 점유된 건 복구 + 완료 건 정리 */
+    @Scheduled(fixedDelayString = "${s3.deletion.maintenance-interval-ms:60000}")
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = taskRepository.releaseStale(now.minusMinutes(10));
+        if (released > 0) {
+            log.warn("[s3-deletion] released {} stale RUNNING rows", released);
+        }
+        taskRepository.deleteDoneBefore(now.minusDays(7));
+        pendingCount.set(taskRepository.countByStatus(S3DeletionStatus.PENDING));
+        retryingCount.set(taskRepository.countByStatusAndAttemptsGreaterThan(S3DeletionStatus.PENDING, 0));
+        failedCount.set(taskRepository.countByStatus(S3DeletionStatus.FAILED));
+    }
+
+    private void process(String token) {
+        List<S3DeletionTask> tasks = taskRepository.findByClaimToken(token);
+        if (tasks.isEmpty()) return;
+
+        Map<String, String> errors = new HashMap<>();
+        long start = System.nanoTime();
+        try {
+            List<ObjectIdentifier> objects = tasks.stream()
+                    .map(S3DeletionTask::getObjectKey)
+                    .distinct()
+                    .map(k -> ObjectIdentifier.builder().key(k).build())
+                    .toList();
+            DeleteObjectsResponse res = s3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(aws.getS3().getPrivateBucket())
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            // 없는 키는 S3가 성공으로 처리 → 응답 errors에는 권한/일시 오류만 포함
+            for (S3Error err : res.errors()) {
+                errors.put(err.key(), err.code() + ": " + err.message());
+            }
+        } catch (Exception e) {
+            log.warn("[s3-deletion] batch failed size={}", tasks.size(), e);
+            String msg = e.getClass().getSimpleName() + ": " + e.getMessage();
+            tasks.forEach(t -> errors.put(t.getObjectKey(), msg));
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        complete(tasks, errors);
+    }
+
+    /** 결과 반영: 성공 건 일괄 DONE, 실패 건 재시도 예약, 잡 진행률 누적 */
+    private void complete(List<S3DeletionTask> tasks, Map<String, String> errors) {
+        List<Long> doneIds = new ArrayList<>();
+        Map<Long, int[]> progress = new HashMap<>(); // jobId → [deleted, failed]
+
+        for (S3DeletionTask t : tasks) {
+            String error = errors.get(t.getObjectKey());
+            if (error == null) {
+                doneIds.add(t.getId());
+                if (t.getJobId() != null) progress.computeIfAbsent(t.getJobId(), k -> new int[2])[0]++;
+                continue;
+            }
+
+            int attempts = t.getAttempts() + 1;
+            boolean giveUp = t.getJobId() != null && attempts >= maxAttempts;
+            taskRepository.markFailed(t.getId(),
+                    giveUp ? S3DeletionStatus.FAILED : S3DeletionStatus.PENDING,
+                    LocalDateTime.now().plus(backoff(attempts)),
+                    truncate(error));
+            if (giveUp) {
+                failedCounter.increment();
+                log.error("[s3-deletion] give up key={} attempts={} error={}", t.getObjectKey(), attempts, error);
+                if (t.getJobId() != null) progress.computeIfAbsent(t.getJobId(), k -> new int[2])[1]++;
+            } else {
+                retryCounter.increment();
+            }
+        }
+
+        if (!doneIds.isEmpty()) {
+            taskRepository.markDone(doneIds);
+            deletedCounter.increment(doneIds.size());
+        }
+        progress.forEach(this::updateJob);
+    }
+
+    private void updateJob(Long jobId, int[] counts) {
+        jobRepository.addProgress(jobId, counts[0], counts[1]);
+        queue.finishIfDone(jobId);
+    }
+
+    /** 지수 백오프: base * 2^(attempts-1), 최대 maxBackoff */
+    private Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration d = baseBackoff.multipliedBy(factor);
+        return d.compareTo(maxBackoff) > 0 ? maxBackoff : d;
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= 500 ? s : s.substring(0, 500);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 스트리밍 업로드 (힙 사용량이 파일 크기와 무관)
+ * - spool: 업로드 스트림을 DigestInputStream으로 읽으며 임시 파일에 복사 → SHA-256/크기를 한 번에 계산
+ * - put: 임시 파일에서 바로 전송 (작은 파일은 PutObject, 임계값 이상은 멀티파트)
+ * - 파일 기반 RequestBody라 SDK 재시도 시에도 다시 읽을 수 있음
+ * - readMeta: 이미 올라간 객체의 해시/크기/타입 조회 (DB 백필용)
+ * - 메트릭: s3.upload{mode}(전송 시간)
+ */
+@Slf4j
+@Component
+public class S3Uploader {
+
+    // S3 멀티파트 최소 파트 크기(마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3;
+    private final AwsProperties aws;
+    private final Path spoolDir;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    private final Timer singleTimer;
+    private final Timer multipartTimer;
+
+    public S3Uploader(S3Client s3,
+                      AwsProperties aws,
+                      MeterRegistry meterRegistry,
+                      @Value("${s3.upload.spool-dir:}") String spoolDir,
+                      @Value("${s3.upload.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                      @Value("${s3.upload.part-size-bytes:8388608}") long partSize) throws IOException {
+        this.s3 = s3;
+        this.aws = aws;
+        this.spoolDir = spoolDir.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"))
+                : Files.createDirectories(Paths.get(spoolDir));
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+
+        this.singleTimer = Timer.builder("s3.upload").tag("mode", "single").register(meterRegistry);
+        this.multipartTimer = Timer.builder("s3.upload").tag("mode", "multipart").register(meterRegistry);
+    }
+
+    /** 임시 파일 + 해시/크기 (사용 후 close로 삭제) */
+    public record Spooled(Path path, long size, String sha256) implements AutoCloseable {
+        @Override
+        public void close() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /** 저장된 객체 메타 */
+    public record StoredMeta(String sha256, long size, String contentType) {}
+
+    /**
+     * 저장된 객체의 해시/크기/타입 조회 — 없는 객체면 empty
+     * - sha256 메타가 없는 옛 객체는 본문을 스트리밍으로 읽어 계산
+     */
+    public Optional<StoredMeta> readMeta(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3.headObject(b -> b.bucket(bucket()).key(key));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return Optional.empty();
+            throw e;
+        }
+
+        String sha256 = head.metadata() == null ? null : head.metadata().get("sha256");
+        if (sha256 == null) {
+            MessageDigest md = sha256Digest();
+            try (InputStream in = new DigestInputStream(s3.getObject(b -> b.bucket(bucket()).key(key)), md)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            sha256 = HexFormat.of().formatHex(md.digest());
+        }
+        return Optional.of(new StoredMeta(sha256, head.contentLength(), head.contentType()));
+    }
+
+    /** 업로드 파일을 임시 파일로 복사하며 SHA-256 계산 (고정 크기 버퍼만 사용) */
+    public Spooled spool(MultipartFile file) throws IOException {
+        Path tmp = Files.createTempFile(spoolDir, "upload-", ".part");
+        MessageDigest md = sha256Digest();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), md)) {
+            long size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            return new Spooled(tmp, size, HexFormat.of().formatHex(md.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /** private 버킷에 업로드 (sha256은 메타데이터로 저장) */
+    public void put(String key, String contentType, Spooled file) {
+        Map<String, String> metadata = Map.of("sha256", file.sha256());
+        if (file.size() >= multipartThreshold) {
+            multipartTimer.record(() -> putMultipart(key, contentType, metadata, file));
+        } else {
+            singleTimer.record(() -> s3.putObject(PutObjectRequest.builder()
+                    .bucket(bucket())
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(file.size())
+                    .metadata(metadata)
+                    .build(), RequestBody.fromFile(file.path())));
+        }
+    }
+
+    private void putMultipart(String key, String contentType, Map<String, String> metadata, Spooled file) {
+        String bucket = bucket();
+        String uploadId = s3.createMultipartUpload(b -> b
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .metadata(metadata)).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long offset = 0;
+            for (int partNumber = 1; offset < file.size(); partNumber++) {
+                long length = Math.min(partSize, file.size() - offset);
+                long from = offset;
+                int pn = partNumber;
+                UploadPartResponse res = s3.uploadPart(b -> b
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(pn)
+                                .contentLength(length),
+                        RequestBody.fromContentProvider(() -> slice(file.path(), from, length), length, contentType));
+                parts.add(CompletedPart.builder().partNumber(pn).eTag(res.eTag()).build());
+                offset += length;
+            }
+            s3.completeMultipartUpload(b -> b
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+        } catch (RuntimeException e) {
+            // 미완료 멀티파트는 스토리지 비용이 남으므로 즉시 중단
+            try {
+                s3.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (Exception abortError) {
+                log.warn("[S3] abort multipart failed key={} uploadId={}", key, uploadId, abortError);
+            }
+            throw e;
+        }
+    }
+
+    private String bucket() {
+        return aws.getS3().getPrivateBucket();
+    }
+
+    /** 파일의 [from, from+length) 구간 스트림 (파트 재시도 시 다시 열 수 있음) */
+    private static InputStream slice(Path path, long from, long length) {
+        try {
+            InputStream in = Files.newInputStream(path);
+            in.skipNBytes(from);
+            return new BoundedInputStream(in, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 남은 바이트 수만큼만 읽는 스트림 */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = super.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int n = super.read(buf, off, (int) Math.min(len, remaining));
+            if (n > 0) remaining -= n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
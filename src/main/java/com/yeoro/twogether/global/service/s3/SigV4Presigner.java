@@ -0,0 +1,344 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * private 버킷 GET presign 전용 SigV4 서명기 (목록 응답용 일괄 presign)
+ * - 서명 키(날짜/리전/s3)는 하루 한 번만 파생해 재사용 — SDK는 URL마다 HMAC 4회로 다시 파생
+ * - 일괄 호출은 같은 시각/같은 Mac/버퍼로 키 여러 개를 서명
+ * - URL 형태(호스트, 경로 prefix, 쿼리 순서)는 기동 시 SDK presign 결과에서 읽어 옴
+ *   → 같은 시각으로 다시 서명해 SDK URL과 문자열이 완전히 같을 때만 사용, 다르면 SDK로 대체
+ * - 메트릭: s3.presign{impl=sigv4|sdk}(서명한 URL 수)
+ */
+@Slf4j
+@Component
+public class SigV4Presigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final long MAX_EXPIRES_SECONDS = 7 * 24 * 3600;
+
+    private static final String P_ALGORITHM = "X-Amz-Algorithm";
+    private static final String P_CREDENTIAL = "X-Amz-Credential";
+    private static final String P_DATE = "X-Amz-Date";
+    private static final String P_EXPIRES = "X-Amz-Expires";
+    private static final String P_SIGNED_HEADERS = "X-Amz-SignedHeaders";
+    private static final String P_SIGNATURE = "X-Amz-Signature";
+    private static final Set<String> SIGNED_PARAMS = Set.of(P_ALGORITHM, P_CREDENTIAL, P_DATE, P_EXPIRES, P_SIGNED_HEADERS);
+
+    // 인코딩 규칙까지 확인하도록 예약 문자를 섞은 키
+    private static final String PROBE_KEY = "media/00/presign probe+~(1).jpg";
+    private static final Duration PROBE_TTL = Duration.ofHours(1);
+
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final HexFormat HEX = HexFormat.of();
+    private static final char[] UPPER_HEX = "0123456789ABCDEF".toCharArray();
+
+    private final S3Presigner presigner;
+    private final AwsProperties aws;
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+
+    private final Counter sigv4Counter;
+    private final Counter sdkCounter;
+
+    // 기동 시 검증 통과한 경우만 non-null
+    private final Template template;
+    private volatile SigningKey signingKey;
+
+    public SigV4Presigner(S3Presigner presigner, AwsProperties aws, MeterRegistry meterRegistry) {
+        this.presigner = presigner;
+        this.aws = aws;
+        this.accessKey = trim(aws.getCredentials().getAccessKey());
+        this.secretKey = trim(aws.getCredentials().getSecretKey());
+        this.region = trim(aws.getRegion());
+
+        this.sigv4Counter = Counter.builder("s3.presign").tag("impl", "sigv4").register(meterRegistry);
+        this.sdkCounter = Counter.builder("s3.presign").tag("impl", "sdk").register(meterRegistry);
+
+        this.template = selfCheck();
+    }
+
+    /** SDK URL에서 읽은 고정 부분 */
+    private record Template(String urlPrefix,       // scheme://host[/bucket]/
+                            String pathPrefix,      // 정규 URI 앞부분
+                            String host,
+                            List<String> urlParams, // URL 쿼리 순서 (서명 제외)
+                            List<String> canonicalParams, // 정규 쿼리(이름 정렬)
+                            Map<String, String> extraParams) {}
+
+    /** 하루 단위 서명 키 */
+    private record SigningKey(String date, byte[] key, String scope, String encodedCredential) {}
+
+    public boolean isEnabled() {
+        return template != null;
+    }
+
+    /** 단건 presigned GET URL */
+    public String presignGet(String key, Duration ttl) {
+        return presignGetAll(List.of(key), ttl).get(key);
+    }
+
+    /**
+     * 일괄 presigned GET URL (같은 서명 시각)
+     * - 반환 Map은 입력 순서 유지, 중복 키는 1회만 서명
+     */
+    public Map<String, String> presignGetAll(Collection<String> keys, Duration ttl) {
+        return presignGetAll(keys, ttl, Instant.now());
+    }
+
+    /** 서명 시각 지정 (SDK 결과와 비교하는 테스트용) */
+    Map<String, String> presignGetAll(Collection<String> keys, Duration ttl, Instant now) {
+        long expires = ttl.toSeconds();
+        if (expires < 1 || expires > MAX_EXPIRES_SECONDS) {
+            throw new IllegalArgumentException("presign ttl must be between 1s and 7d: " + ttl);
+        }
+
+        Map<String, String> urls = new LinkedHashMap<>(Math.max(16, keys.size() * 2));
+        if (template == null) {
+            for (String key : keys) {
+                urls.computeIfAbsent(key, k -> sdkPresign(k, ttl));
+            }
+            sdkCounter.increment(urls.size());
+            return urls;
+        }
+
+        String amzDate = AMZ_DATE.format(now);
+        SigningKey sk = signingKey(amzDate.substring(0, 8));
+        Mac mac = mac(sk.key());
+        MessageDigest sha256 = sha256();
+        StringBuilder buf = new StringBuilder(512);
+        for (String key : keys) {
+            if (!urls.containsKey(key)) {
+                urls.put(key, sign(template, sk, amzDate, expires, key, mac, sha256, buf));
+            }
+        }
+        sigv4Counter.increment(urls.size());
+        return urls;
+    }
+
+    private String sign(Template t, SigningKey sk, String amzDate, long expires, String key,
+                        Mac mac, MessageDigest sha256, StringBuilder buf) {
+        buf.setLength(0);
+        int pathStart = buf.length();
+        buf.append(t.pathPrefix());
+        encodePath(key, buf);
+        String path = buf.substring(pathStart);
+
+        // 정규 요청: GET \n 경로 \n 정렬 쿼리 \n host 헤더 \n\n 서명 헤더 \n 페이로드
+        buf.setLength(0);
+        buf.append("GET\n").append(path).append('\n');
+        boolean first = true;
+        for (String name : t.canonicalParams()) {
+            if (!first) buf.append('&');
+            first = false;
+            buf.append(name).append('=');
+            appendValue(buf, name, t, sk, amzDate, expires);
+        }
+        buf.append("\nhost:").append(t.host()).append("\n\nhost\nUNSIGNED-PAYLOAD");
+        byte[] canonicalHash = sha256.digest(buf.toString().getBytes(StandardCharsets.UTF_8));
+
+        buf.setLength(0);
+        buf.append(ALGORITHM).append('\n')
+                .append(amzDate).append('\n')
+                .append(sk.scope()).append('\n')
+                .append(HEX.formatHex(canonicalHash));
+        String signature = HEX.formatHex(mac.doFinal(buf.toString().getBytes(StandardCharsets.UTF_8)));
+
+        buf.setLength(0);
+        buf.append(t.urlPrefix());
+        encodePath(key, buf);
+        char sep = '?';
+        for (String name : t.urlParams()) {
+            buf.append(sep).append(name).append('=');
+            sep = '&';
+            appendValue(buf, name, t, sk, amzDate, expires);
+        }
+        buf.append(sep).append(P_SIGNATURE).append('=').append(signature);
+        return buf.toString();
+    }
+
+    private static void appendValue(StringBuilder buf, String name, Template t, SigningKey sk,
+                                    String amzDate, long expires) {
+        switch (name) {
+            case P_ALGORITHM -> buf.append(ALGORITHM);
+            case P_CREDENTIAL -> buf.append(sk.encodedCredential());
+            case P_DATE -> buf.append(amzDate);
+            case P_EXPIRES -> buf.append(expires);
+            case P_SIGNED_HEADERS -> buf.append("host");
+            default -> buf.append(t.extraParams().get(name));
+        }
+    }
+
+    private SigningKey signingKey(String date) {
+        SigningKey sk = signingKey;
+        if (sk != null && sk.date().equals(date)) return sk;
+
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        String scope = date + "/" + region + "/" + SERVICE + "/aws4_request";
+        StringBuilder credential = new StringBuilder(64);
+        encodeComponent(accessKey + "/" + scope, credential, false);
+
+        sk = new SigningKey(date, key, scope, credential.toString());
+        signingKey = sk;
+        return sk;
+    }
+
+    /**
+     * 기동 시 1회: SDK로 probe 키를 presign → URL 구조를 읽고, 같은 시각으로 직접 서명해 문자열 비교
+     * - 실패하면 null (모든 presign을 SDK로)
+     */
+    private Template selfCheck() {
+        try {
+            URL sdkUrl = presigner.presignGetObject(b -> b
+                            .signatureDuration(PROBE_TTL)
+                            .getObjectRequest(g -> g.bucket(aws.getS3().getPrivateBucket()).key(PROBE_KEY)))
+                    .url();
+            String expected = sdkUrl.toString();
+
+            StringBuilder encodedProbe = new StringBuilder();
+            encodePath(PROBE_KEY, encodedProbe);
+            String path = sdkUrl.getPath();
+            if (!path.endsWith(encodedProbe.toString()) || sdkUrl.getQuery() == null) {
+                return disabled("unexpected path layout");
+            }
+            String pathPrefix = path.substring(0, path.length() - encodedProbe.length());
+
+            List<String> urlParams = new ArrayList<>();
+            Map<String, String> extraParams = new LinkedHashMap<>();
+            String amzDate = null;
+            for (String pair : sdkUrl.getQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                if (P_SIGNATURE.equals(name)) continue;
+                if (P_DATE.equals(name)) amzDate = value;
+                if (!SIGNED_PARAMS.contains(name)) extraParams.put(name, value);
+                urlParams.add(name);
+            }
+            if (amzDate == null || !urlParams.containsAll(SIGNED_PARAMS)) {
+                return disabled("unexpected query parameters");
+            }
+            List<String> canonicalParams = urlParams.stream().sorted().toList();
+
+            Template candidate = new Template(
+                    sdkUrl.getProtocol() + "://" + sdkUrl.getAuthority() + pathPrefix,
+                    pathPrefix,
+                    sdkUrl.getAuthority(),
+                    List.copyOf(urlParams),
+                    canonicalParams,
+                    Map.copyOf(extraParams));
+
+            SigningKey sk = signingKey(amzDate.substring(0, 8));
+            String actual = sign(candidate, sk, amzDate, PROBE_TTL.toSeconds(), PROBE_KEY,
+                    mac(sk.key()), sha256(), new StringBuilder(512));
+            if (!expected.equals(actual)) {
+                return disabled("signature mismatch");
+            }
+            log.info("[presign] sigv4 presigner enabled host={}", candidate.host());
+            return candidate;
+        } catch (Exception e) {
+            log.warn("[presign] sigv4 self-check failed, falling back to SDK presigner", e);
+            return null;
+        }
+    }
+
+    private static Template disabled(String reason) {
+        log.warn("[presign] sigv4 self-check failed ({}), falling back to SDK presigner", reason);
+        return null;
+    }
+
+    private String sdkPresign(String key, Duration ttl) {
+        return presigner.presignGetObject(b -> b
+                        .signatureDuration(ttl)
+                        .getObjectRequest(g -> g.bucket(aws.getS3().getPrivateBucket()).key(key)))
+                .url()
+                .toString();
+    }
+
+    /** S3 경로 인코딩: 비예약 문자와 '/'는 그대로, 나머지는 UTF-8 %XX (대문자) */
+    private static void encodePath(String key, StringBuilder out) {
+        encodeComponent(key, out, true);
+    }
+
+    private static void encodeComponent(String s, StringBuilder out, boolean keepSlash) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isUnreserved(c) || (keepSlash && c == '/')) {
+                out.append(c);
+            } else if (c < 0x80) {
+                appendPercent(out, c);
+            } else {
+                int cp = s.codePointAt(i);
+                if (Character.charCount(cp) == 2) i++;
+                for (byte b : new String(Character.toChars(cp)).getBytes(StandardCharsets.UTF_8)) {
+                    appendPercent(out, b & 0xff);
+                }
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~';
+    }
+
+    private static void appendPercent(StringBuilder out, int b) {
+        out.append('%').append(UPPER_HEX[b >> 4]).append(UPPER_HEX[b & 0x0f]);
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        return mac(key).doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac mac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(key, HMAC_SHA256));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String trim(String s) {
+        return s == null ? null : s.trim();
+    }
+}
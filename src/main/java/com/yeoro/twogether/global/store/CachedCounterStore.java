@@ -0,0 +1,109 @@
+package com.yeoro.twogether.global.store;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 Redis 버전 값(<prefix><memberId>) + 로컬 캐시
+ * - 조회는 짧은 TTL의 로컬 캐시 우선 (키가 없으면 0)
+ * - 증가 시 로컬 즉시 반영 + pub/sub으로 다른 노드에 전파
+ * - 토큰 에포크, 파트너 연결 버전 등 "토큰 발급 시점 값과 비교"하는 용도
+ * - 키는 만료시키지 않음 — 키가 사라지면 값이 다시 작아져 이전 토큰의 값과 겹칠 수 있음
+ * - 값은 1씩 세는 카운터가 아니라 max(현재 시각 ms, 현재 값 + 1)
+ *   → 키가 유실(플러시/복구)돼도 다음 증가 값이 예전에 발급된 값으로 되돌아가지 않음
+ */
+@Slf4j
+public abstract class CachedCounterStore implements MessageListener {
+
+    /** KEYS[1]=<prefix><memberId>, ARGV[1]=현재 시각(ms) → 새 값 (TokenService 회전 스크립트도 같은 규칙) */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local v = math.max(tonumber(ARGV[1]), tonumber(redis.call('GET', KEYS[1]) or '0') + 1)
+            redis.call('SET', KEYS[1], string.format('%d', v))
+            return v
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final String keyPrefix;
+    private final String channel;
+
+    /** memberId → 현재 값 */
+    private final LoadingCache<Long, Long> values;
+
+    protected CachedCounterStore(StringRedisTemplate redis,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 String keyPrefix,
+                                 String channel,
+                                 Duration cacheTtl,
+                                 long maxEntries) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(cacheTtl)
+                .build(this::load);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /** 현재 값 조회 (로컬 캐시 우선) */
+    public long current(Long memberId) {
+        return values.get(memberId);
+    }
+
+    /** 값 증가 (단일 스크립트, TTL 없음) — 로컬 즉시 반영 + 다른 노드에 전파 */
+    public long bump(Long memberId) {
+        Long next = redis.execute(BUMP_SCRIPT, List.of(keyPrefix + memberId),
+                String.valueOf(System.currentTimeMillis()));
+
+        long value = (next != null) ? next : 0L;
+        publish(memberId, value);
+        return value;
+    }
+
+    /**
+     * 다른 경로(Lua 스크립트 등)에서 이미 증가시킨 값을 로컬 반영 + 전파
+     */
+    public void publish(Long memberId, long value) {
+        values.put(memberId, value);
+        redis.convertAndSend(channel, memberId + "|" + value);
+    }
+
+    /** 로컬 캐시만 비움 (다음 조회 시 Redis에서 다시 읽음) */
+    public void evictLocal(Long memberId) {
+        values.invalidate(memberId);
+    }
+
+    /** 다른 노드에서 발행한 변경 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf('|');
+        if (sep <= 0) return;
+        try {
+            Long memberId = Long.valueOf(body.substring(0, sep));
+            long value = Long.parseLong(body.substring(sep + 1));
+            // 순서가 뒤바뀐 메시지로 값이 내려가지 않도록 큰 값 유지
+            values.asMap().merge(memberId, value, Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("[{}] malformed message: {}", channel, body);
+        }
+    }
+
+    private Long load(Long memberId) {
+        String v = redis.opsForValue().get(keyPrefix + memberId);
+        return (v != null) ? Long.parseLong(v) : 0L;
+    }
+}
@@ -0,0 +1,106 @@
+package com.yeoro.twogether.global.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 1회용 토큰 저장소 (OTC, OAuth state, 파트너 코드 등)
+ * - 단일 토큰 발급/소비는 Redis 왕복 1회
+ * - 소비는 GETDEL/Lua로 원자적 → 동시 요청이 와도 한 번만 성공
+ * - 연결 토큰(token ↔ owner 역인덱스)은 두 키를 Lua 스크립트 하나로 함께 처리
+ * - 연결 토큰의 두 키는 같은 해시 태그를 써야 함 (예: partner:{code}:)
+ *   → 값에서 파생되는 키는 스크립트 안에서 prefix로 만들어도 클러스터에서 같은 슬롯 (PartnerCodePool과 같은 방식)
+ */
+@Component
+@RequiredArgsConstructor
+public class OneTimeTokenStore {
+
+    private final StringRedisTemplate redis;
+
+    /**
+     * KEYS[1]=토큰 키, KEYS[2]=소유자 키 / ARGV[1]=토큰 값, ARGV[2]=토큰, ARGV[3]=TTL(ms)
+     * 반환: 소유자에게 이미 토큰이 있으면 기존 토큰, 새로 저장하면 ARGV[2], 토큰 키 충돌이면 false(nil)
+     */
+    private static final RedisScript<String> ISSUE_LINKED = new DefaultRedisScript<>("""
+            local owned = redis.call('GET', KEYS[2])
+            if owned then
+              return owned
+            end
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then
+              return false
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return ARGV[2]
+            """, String.class);
+
+    /**
+     * KEYS[1]=토큰 키 / ARGV[1]=소유자 키 prefix, ARGV[2]=토큰
+     * 토큰 키 삭제(동시 소비 중 하나만 성공), 소유자 키(prefix..값)는 같은 토큰을 가리킬 때만 함께 삭제
+     * 반환: 토큰 값, 없으면 false(nil)
+     */
+    private static final RedisScript<String> CONSUME_LINKED = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+              return false
+            end
+            redis.call('DEL', KEYS[1])
+            local ownerKey = ARGV[1] .. value
+            if redis.call('GET', ownerKey) == ARGV[2] then
+              redis.call('DEL', ownerKey)
+            end
+            return value
+            """, String.class);
+
+    /**
+     * KEYS[1]=소유자 키 / ARGV[1]=토큰 키 prefix
+     * 소유자 키와 토큰 키(prefix..토큰)를 함께 삭제, 삭제된 토큰 반환 (없으면 false(nil))
+     */
+    private static final RedisScript<String> INVALIDATE_LINKED = new DefaultRedisScript<>("""
+            local token = redis.call('GET', KEYS[1])
+            if not token then
+              return false
+            end
+            redis.call('DEL', KEYS[1], ARGV[1] .. token)
+            return token
+            """, String.class);
+
+    /** 단일 토큰 발급 (SET NX PX) — 이미 있으면 false */
+    public boolean issue(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    /** 단일 토큰 소비 (GETDEL) */
+    public Optional<String> consume(String key) {
+        return Optional.ofNullable(redis.opsForValue().getAndDelete(key));
+    }
+
+    /**
+     * 연결 토큰 발급 (token → value, owner → token)
+     * @return 소유자의 토큰(기존 또는 새로 저장), 토큰 키 충돌이면 null
+     */
+    public String issueLinked(String tokenKey, String value,
+                              String ownerKey, String token, Duration ttl) {
+        return redis.execute(ISSUE_LINKED, List.of(tokenKey, ownerKey),
+                value, token, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 연결 토큰 소비 — 토큰 키 + 소유자 역인덱스 함께 삭제 (스크립트 1회)
+     * - 동시 소비 중 하나만 값을 받음
+     */
+    public Optional<String> consumeLinked(String tokenKey, String ownerKeyPrefix, String token) {
+        return Optional.ofNullable(redis.execute(CONSUME_LINKED, List.of(tokenKey), ownerKeyPrefix, token));
+    }
+
+    /** 소유자 기준 연결 토큰 무효화 (스크립트 1회) */
+    public Optional<String> invalidateLinked(String ownerKey, String tokenKeyPrefix) {
+        return Optional.ofNullable(redis.execute(INVALIDATE_LINKED, List.of(ownerKey), tokenKeyPrefix));
+    }
+}
@@ -1,8 +1,9 @@
 package com.yeoro.twogether.global.store;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -12,23 +13,27 @@ import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
-public class OtcStore {private final StringRedisTemplate redis;
+public class OtcStore {private final OneTimeTokenStore oneTimeTokenStore;
     private final ObjectMapper om;
     private static final Duration TTL = Duration.ofSeconds(60);
+    private static final int MAX_ATTEMPTS = 3;
 
     public record OtcExchangeRequest(String otc) {}
     private record Payload(Long memberId) {}
 
+    /** SET NX로 저장 — 키 충돌 시 새 값으로 재시도 (기존 OTC를 덮어쓰지 않음) */
     public String issue(Long memberId) {
-        String otc = UUID.randomUUID().toString().replace("-", "");
-        redis.opsForValue().set(key(otc), write(new Payload(memberId)), TTL);
-        return otc;
+        String payload = write(new Payload(memberId));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            String otc = UUID.randomUUID().toString().replace("-", "");
+            if (oneTimeTokenStore.issue(key(otc), payload, TTL)) return otc;
+        }
+        throw new ServiceException(ErrorCode.TOKEN_ISSUE_FAILED);
     }
+    /** GETDEL 1회로 소비 — 동시 요청 중 하나만 성공 */
     public Optional<Long> consume(String otc) {
-        String k = key(otc);
-        String v = redis.opsForValue().get(k);
+        String v = oneTimeTokenStore.consume(key(otc)).orElse(null);
         if (v == null) return Optional.empty();
-        redis.delete(k);
         try {
             Payload p = om.readValue(v, new TypeReference<Payload>() {});
             return Optional.ofNullable(p.memberId());
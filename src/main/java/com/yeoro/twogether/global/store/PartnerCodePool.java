@@ -0,0 +1,143 @@
+package com.yeoro.twogether.global.store;
+
+import com.yeoro.twogether.global.util.CodeGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미리 생성해 둔 파트너 코드 풀 (Redis Set: partner:{code}:pool)
+ * - 백그라운드 리필러가 현재 사용 중이 아닌 코드만 채워 둠
+ * - 발급 = SPOP + 양방향 바인딩을 Lua 1회로 처리 → 충돌 확률과 무관하게 O(1)
+ * - 풀이 비었을 때만 호출 측에서 기존 랜덤 생성 방식으로 폴백
+ */
+@Slf4j
+@Component
+public class PartnerCodePool {
+
+    // code/owner 키와 같은 해시 태그 → 스크립트가 풀에서 꺼낸 코드로 만드는 키도 같은 슬롯
+    private static final String POOL_KEY = PartnerCodeStore.HASH_TAG + "pool";
+
+    /**
+     * KEYS[1]=풀, KEYS[2]=소유자 키 / ARGV[1]=memberId, ARGV[2]=TTL(ms), ARGV[3]=code 키 prefix
+     * 반환: 소유 코드(기존 또는 풀에서 바인딩), 풀이 비었으면 false(nil)
+     * (code 키는 풀에서 꺼낸 값으로 만들어져 KEYS로 넘길 수 없음 — 같은 해시 태그라 클러스터에서도 같은 슬롯)
+     */
+    private static final RedisScript<String> ISSUE_FROM_POOL = new DefaultRedisScript<>("""
+            local owned = redis.call('GET', KEYS[2])
+            if owned then
+              return owned
+            end
+            for i = 1, 3 do
+              local code = redis.call('SPOP', KEYS[1])
+              if not code then
+                return false
+              end
+              if redis.call('SET', ARGV[3] .. code, ARGV[1], 'NX', 'PX', ARGV[2]) then
+                redis.call('SET', KEYS[2], code, 'PX', ARGV[2])
+                return code
+              end
+            end
+            return false
+            """, String.class);
+
+    /**
+     * KEYS[1]=풀 / ARGV[1]=code 키 prefix, ARGV[2..]=후보 코드
+     * 현재 바인딩되지 않은 코드만 풀에 추가, 추가된 개수 반환
+     */
+    private static final RedisScript<Long> REFILL = new DefaultRedisScript<>("""
+            local added = 0
+            for i = 2, #ARGV do
+              if redis.call('EXISTS', ARGV[1] .. ARGV[i]) == 0 then
+                added = added + redis.call('SADD', KEYS[1], ARGV[i])
+              end
+            end
+            return added
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final int targetSize;
+    private final int refillBatch;
+
+    private final AtomicLong poolSize = new AtomicLong();
+    private final Counter refilled;
+    private final Counter issuedFromPool;
+    private final Counter poolMiss;
+
+    public PartnerCodePool(StringRedisTemplate redis,
+                           MeterRegistry meterRegistry,
+                           @Value("${partner.code-pool.target-size:2000}") int targetSize,
+                           @Value("${partner.code-pool.refill-batch:500}") int refillBatch) {
+        this.redis = redis;
+        this.targetSize = targetSize;
+        this.refillBatch = refillBatch;
+
+        Gauge.builder("partner.code.pool.size", poolSize, AtomicLong::get)
+                .description("미사용 파트너 코드 풀 크기(마지막 리필 시점)")
+                .register(meterRegistry);
+        this.refilled = Counter.builder("partner.code.pool.refilled")
+                .description("풀에 추가된 코드 수")
+                .register(meterRegistry);
+        this.issuedFromPool = Counter.builder("partner.code.issued")
+                .tag("source", "pool")
+                .register(meterRegistry);
+        this.poolMiss = Counter.builder("partner.code.issued")
+                .tag("source", "fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 풀에서 코드 발급 (이미 소유 코드가 있으면 그대로 반환)
+     * @return 회원이 소유한 코드, 풀이 비었으면 null
+     */
+    public String issue(Long memberId) {
+        String code = redis.execute(ISSUE_FROM_POOL,
+                List.of(POOL_KEY, PartnerCodeStore.OWNER_PREFIX + memberId),
+                String.valueOf(memberId),
+                String.valueOf(PartnerCodeStore.DEFAULT_TTL.toMillis()),
+                PartnerCodeStore.CODE_PREFIX);
+        if (code != null) {
+            issuedFromPool.increment();
+        } else {
+            poolMiss.increment();
+        }
+        return code;
+    }
+
+    /** 주기적으로 풀을 목표 크기까지 채움 (여러 노드가 동시에 돌아도 Set이라 중복 없음) */
+    @Scheduled(fixedDelayString = "${partner.code-pool.refill-interval-ms:5000}",
+               initialDelayString = "${partner.code-pool.refill-initial-delay-ms:10000}")
+    public void refill() {
+        try {
+            Long size = redis.opsForSet().size(POOL_KEY);
+            long current = (size != null) ? size : 0L;
+            long missing = targetSize - current;
+            if (missing > 0) {
+                int batch = (int) Math.min(missing, refillBatch);
+                Object[] args = new Object[batch + 1];
+                args[0] = PartnerCodeStore.CODE_PREFIX;
+                for (int i = 1; i <= batch; i++) {
+                    args[i] = CodeGenerator.generatePartnerCode();
+                }
+                Long added = redis.execute(REFILL, List.of(POOL_KEY), args);
+                long n = (added != null) ? added : 0L;
+                refilled.increment(n);
+                current += n;
+            }
+            poolSize.set(current);
+        } catch (Exception e) {
+            // 리필 실패는 발급 폴백으로 흡수 — 다음 주기에 재시도
+            log.warn("[partner-code-pool] refill failed", e);
+        }
+    }
+}
@@ -4,23 +4,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
 public class PartnerCodeStore {
 
     private final StringRedisTemplate redisTemplate;
+    private final OneTimeTokenStore oneTimeTokenStore;
 
+    // 연결 키를 한 스크립트에서 다루므로 같은 해시 태그(클러스터 슬롯)를 공유
+    static final String HASH_TAG = "partner:{code}:";
     /** code -> memberId */
-    private static final String CODE_PREFIX  = "partner:code:";
+    static final String CODE_PREFIX  = HASH_TAG + "code:";
     /** memberId -> code (역인덱스) */
-    private static final String OWNER_PREFIX = "partner:owner:";
-    /** 분산락 키 prefix (선택) */
-    private static final String LOCK_PREFIX  = "lock:partner:code:";
+    static final String OWNER_PREFIX = HASH_TAG + "owner:";
 
     /** TTL: 3분 */
-    private static final long DEFAULT_TTL_SECONDS = 180L;
+    static final Duration DEFAULT_TTL = Duration.ofSeconds(180L);
 
     /** 이미 발급된 코드 조회(있으면 재사용) */
     public String findCodeByMember(Long memberId) {
@@ -33,77 +34,35 @@ public class PartnerCodeStore {
     }
 
     /** 양방향 저장(기본 TTL) */
-    public void saveBoth(String code, Long memberId) {
-        saveBoth(code, memberId, DEFAULT_TTL_SECONDS);
+    public String issue(String code, Long memberId) {
+        return issue(code, memberId, DEFAULT_TTL);
     }
 
     /**
-     * 양방향 저장(커스텀 TTL)
-     * - 덮어쓰기 방지: setIfAbsent(NX)
-     * - code 충돌 시 ownerKey 롤백
+     * 양방향 저장(커스텀 TTL) — Lua 스크립트 1회
+     * - 이미 소유 코드가 있으면 그 코드 반환 (덮어쓰지 않음)
+     * - code 충돌(다른 회원이 선점) 시 아무것도 저장하지 않고 null 반환
+     * @return 회원이 소유한 코드
      */
-    public void saveBoth(String code, Long memberId, long ttlSeconds) {
-        final String codeKey  = CODE_PREFIX + code;
-        final String ownerKey = OWNER_PREFIX + memberId;
-
-        // 1) memberId -> code 먼저 고정 (이미 있으면 재사용)
-        Boolean ownerSet = redisTemplate.opsForValue()
-                .setIfAbsent(ownerKey, code, ttlSeconds, TimeUnit.SECONDS);
-
-        if (!Boolean.TRUE.equals(ownerSet)) {
-            // 이미 소유 코드가 있으면 그대로 종료
-            return;
-        }
-
-        // 2) code -> memberId 고정 (충돌 시 롤백)
-        Boolean codeSet = redisTemplate.opsForValue()
-                .setIfAbsent(codeKey, String.valueOf(memberId), ttlSeconds, TimeUnit.SECONDS);
-
-        if (!Boolean.TRUE.equals(codeSet)) {
-            // code가 누군가 선점했다면 역인덱스 롤백
-            redisTemplate.delete(ownerKey);
-            throw new IllegalStateException("Code collision detected while saving mapping.");
-        }
-    }
-
-    /** 분산락(선택) — 동일 memberId 동시 발급 방지용 */
-    public boolean tryLock(Long memberId, long ttlSeconds) {
-        String lockKey = LOCK_PREFIX + memberId;
-        return Boolean.TRUE.equals(
-                redisTemplate.opsForValue().setIfAbsent(lockKey, "1", ttlSeconds, TimeUnit.SECONDS)
-        );
-    }
-
-    /** 분산락 해제 */
-    public void unlock(Long memberId) {
-        redisTemplate.delete(LOCK_PREFIX + memberId);
+    public String issue(String code, Long memberId, Duration ttl) {
+        return oneTimeTokenStore.issueLinked(
+                CODE_PREFIX + code, String.valueOf(memberId),
+                OWNER_PREFIX + memberId, code,
+                ttl);
     }
 
     /**
-     * 코드 소비(1회성) — 양방향 삭제
+     * 코드 소비(1회성) — 양방향 삭제, Lua 스크립트 1회
      * @return memberId (없으면 null)
      */
     public Long consume(String code) {
-        String codeKey = CODE_PREFIX + code;
-        String memberIdStr = redisTemplate.opsForValue().get(codeKey);
-        if (memberIdStr == null) return null;
-
-        Long memberId = Long.valueOf(memberIdStr);
-        String ownerKey = OWNER_PREFIX + memberId;
-
-        // 간단 삭제(강한 원자성이 필요하면 Lua 스크립트 적용 가능)
-        redisTemplate.delete(codeKey);
-        redisTemplate.delete(ownerKey);
-        return memberId;
+        return oneTimeTokenStore.consumeLinked(CODE_PREFIX + code, OWNER_PREFIX, code)
+                .map(Long::valueOf)
+                .orElse(null);
     }
 
-    /** 강제 만료(취소) — 양방향 삭제 */
+    /** 강제 만료(취소) — 양방향 삭제, Lua 스크립트 1회 */
     public void invalidateByMember(Long memberId) {
-        String ownerKey = OWNER_PREFIX + memberId;
-        String code = redisTemplate.opsForValue().get(ownerKey);
-        if (code != null) {
-            redisTemplate.delete(ownerKey);
-            redisTemplate.delete(CODE_PREFIX + code);
-        }
+        oneTimeTokenStore.invalidateLinked(OWNER_PREFIX + memberId, CODE_PREFIX);
     }
 }
@@ -0,0 +1,53 @@
+package com.yeoro.twogether.global.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 회원별 파트너 연결 버전(partner:link:<memberId>)
+ * - 토큰 발급 시 현재 버전을 plv 클레임으로 포함
+ * - 연결/해제/탈퇴 시 양쪽 버전 증가 → 이전 토큰의 partnerId 클레임은 신뢰하지 않음
+ * - 증가는 커밋 후 — 커밋 전에 올리면 그 사이 발급된 토큰이 옛 partnerId + 새 버전을 가짐
+ * - 토큰 발급 측은 버전을 파트너 조회보다 먼저 읽음 (TokenService.partnerLinkVersion)
+ */
+@Component
+public class PartnerLinkStore extends CachedCounterStore {
+
+    public static final String CHANNEL = "partner:link";
+    private static final String KEY_PREFIX = "partner:link:";
+
+    public PartnerLinkStore(StringRedisTemplate redis,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${partner.link-cache.ttl-ms:3000}") long cacheTtlMs,
+                            @Value("${partner.link-cache.max-entries:100000}") long maxEntries) {
+        super(redis, listenerContainer, KEY_PREFIX, CHANNEL,
+                Duration.ofMillis(cacheTtlMs),
+                maxEntries);
+    }
+
+    /** 여러 회원 버전 증가 — 트랜잭션 중이면 커밋 후, 아니면 즉시 (null 무시) */
+    public void bumpAfterCommit(Long... memberIds) {
+        List<Long> ids = Arrays.stream(memberIds).filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(PartnerLinkStore.this::bump);
+                }
+            });
+        } else {
+            ids.forEach(this::bump);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.yeoro.twogether.global.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.properties.RateLimitProperties;
+import com.yeoro.twogether.global.properties.RateLimitProperties.KeyType;
+import com.yeoro.twogether.global.properties.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Redis 토큰 버킷 요청 제한기 (Hash: rl:<정책>:<키>, 필드 t=남은 토큰, ts=마지막 갱신 ms)
+ * - 충전/차감/남은 대기 시간 계산을 Lua 1회로 처리, 시각은 Redis TIME 기준 (노드 간 시계 차이 무시)
+ * - 거절 시 대기 시간 동안 로컬 캐시에 차단 기록 → 폭주 요청은 Redis 왕복 없이 즉시 거절
+ * - Redis 장애 시에는 허용(fail-open) — 제한기 때문에 로그인 자체가 막히지 않도록
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String PREFIX = "rl:";
+
+    /**
+     * KEYS[1]=버킷 / ARGV[1]=capacity, ARGV[2]=ms당 충전량, ARGV[3]=TTL(ms)
+     * 반환: 0 허용, 양수 = 다음 토큰까지 대기(ms)
+     */
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local cap = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local b = redis.call('HMGET', KEYS[1], 't', 'ts')
+            local tokens = tonumber(b[1]) or cap
+            local ts = tonumber(b[2]) or now
+            tokens = math.min(cap, tokens + math.max(0, now - ts) * rate)
+            local wait = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+            else
+              wait = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Policy> policies;
+
+    /** 버킷 키 → 차단 해제 시각(epoch ms) */
+    private final Cache<String, Long> blockedUntil = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    public RateLimiter(StringRedisTemplate redis,
+                       MeterRegistry meterRegistry,
+                       RateLimitProperties properties) {
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        this.policies = properties.enabledOrDefault() ? Map.copyOf(properties.policiesOrDefault()) : Map.of();
+    }
+
+    /** 활성 정책 목록 (필터가 경로별 매칭에 사용) */
+    public Map<String, Policy> policies() {
+        return policies;
+    }
+
+    /**
+     * 토큰 1개 차감 시도
+     * @return 0 허용, 양수면 재시도까지 대기 시간(ms)
+     */
+    public long tryAcquire(String policyName, String id) {
+        Policy policy = policies.get(policyName);
+        if (policy == null || !policy.isActive() || id == null) return 0L;
+
+        String key = PREFIX + policyName + ":" + normalize(policy, id);
+        long now = System.currentTimeMillis();
+
+        Long until = blockedUntil.getIfPresent(key);
+        if (until != null) {
+            if (until > now) {
+                rejected(policyName, "local");
+                return until - now;
+            }
+            blockedUntil.invalidate(key);
+        }
+
+        double ratePerMs = policy.getRefillPerSecond() / 1000.0;
+        long ttlMs = (long) Math.ceil(policy.getCapacity() / ratePerMs) + 1000;
+
+        Long wait;
+        try {
+            wait = redis.execute(TAKE_SCRIPT, List.of(key),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(ratePerMs),
+                    String.valueOf(ttlMs));
+        } catch (Exception e) {
+            log.warn("[rate-limit] redis unavailable, allowing request policy={}", policyName, e);
+            return 0L;
+        }
+
+        if (wait == null || wait <= 0) return 0L;
+
+        blockedUntil.put(key, now + wait);
+        rejected(policyName, "redis");
+        return wait;
+    }
+
+    /** 서비스 계층용 검사 — 초과 시 TOO_MANY_REQUESTS */
+    public void check(String policyName, String id) {
+        if (tryAcquire(policyName, id) > 0) {
+            throw new ServiceException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 이메일 키는 대소문자/앞뒤 공백 무시 (DB 콜레이션상 같은 계정 → 같은 버킷)
+     */
+    private static String normalize(Policy policy, String id) {
+        return policy.getKey() == KeyType.EMAIL ? id.trim().toLowerCase(Locale.ROOT) : id;
+    }
+
+    private void rejected(String policyName, String source) {
+        meterRegistry.counter("rate.limit.rejected", "policy", policyName, "source", source).increment();
+    }
+}
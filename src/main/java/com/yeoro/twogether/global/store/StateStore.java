@@ -1,7 +1,8 @@
 package com.yeoro.twogether.global.store;
 
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -9,16 +10,17 @@ import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
-public class StateStore {private final StringRedisTemplate redis;
+public class StateStore {private final OneTimeTokenStore oneTimeTokenStore;
     private static final Duration TTL = Duration.ofMinutes(5);
 
+    /** SET NX로 저장 — 이미 있는 state면 덮어쓰지 않고 실패 */
     public void save(String state, String returnUrl) {
-        redis.opsForValue().set("state:"+state, returnUrl, TTL);
+        if (!oneTimeTokenStore.issue("state:"+state, returnUrl, TTL)) {
+            throw new ServiceException(ErrorCode.TOKEN_ISSUE_FAILED);
+        }
     }
+    /** GETDEL 1회로 소비 — 동시 요청 중 하나만 성공 */
     public Optional<String> consume(String state) {
-        String k = "state:"+state;
-        String v = redis.opsForValue().get(k);
-        if (v != null) redis.delete(k);
-        return Optional.ofNullable(v);
+        return oneTimeTokenStore.consume("state:"+state);
     }
 }
\ No newline at end of file
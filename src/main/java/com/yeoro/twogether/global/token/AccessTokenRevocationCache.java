@@ -0,0 +1,136 @@
+package com.yeoro.twogether.global.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Access Token 폐기(블랙리스트) 로컬 캐시
+ * - 원본은 Redis(blacklist:<jti>), 각 노드는 폐기된 jti를 메모리에 보관
+ * - 폐기 시 Redis pub/sub으로 전파 → 다른 노드도 즉시 반영
+ * - 기동 시 SCAN blacklist:* 로 워밍업 (재시작 후에도 정확성 유지)
+ * - 워밍업 전이거나 용량 초과로 항목이 밀려난 동안에는 Redis로 직접 확인
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationCache implements MessageListener {
+
+    public static final String CHANNEL = "token:revoked";
+    private static final String KEY_PREFIX = "blacklist:";
+
+    private final StringRedisTemplate redis;
+
+    /** jti → 토큰 만료 시각(epoch ms). 토큰이 만료되면 캐시에서도 사라짐 */
+    private final Cache<String, Long> revoked;
+
+    /** 용량 초과로 밀려난 항목 중 가장 늦은 만료 시각 — 그 전까지는 Redis 확인 */
+    private final AtomicLong degradedUntil = new AtomicLong(0);
+
+    private volatile boolean warmedUp = false;
+
+    public AccessTokenRevocationCache(StringRedisTemplate redis,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      @Value("${jwt.revocation-cache.max-entries:100000}") long maxEntries) {
+        this.redis = redis;
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String jti, Long expiresAt, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String jti, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(jti, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String jti, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String jti, Long expiresAt, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE && expiresAt != null) {
+                        degradedUntil.accumulateAndGet(expiresAt, Math::max);
+                    }
+                })
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 폐기 등록: Redis 저장 + 로컬 반영 + 다른 노드에 전파
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        long ttlMs = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMs <= 0) return;
+
+        redis.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(ttlMs));
+        revoked.put(jti, expiresAtMillis);
+        redis.convertAndSend(CHANNEL, jti + "|" + expiresAtMillis);
+    }
+
+    /**
+     * 폐기 여부 확인
+     * - 일반적인 "폐기되지 않음" 경우는 네트워크 왕복 없이 로컬에서 판정
+     */
+    public boolean isRevoked(String jti) {
+        if (revoked.getIfPresent(jti) != null) return true;
+        if (warmedUp && System.currentTimeMillis() >= degradedUntil.get()) return false;
+        return Boolean.TRUE.equals(redis.hasKey(KEY_PREFIX + jti));
+    }
+
+    /** 다른 노드에서 발행한 폐기 이벤트 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf('|');
+        if (sep <= 0) return;
+        try {
+            revoked.put(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[revocation] malformed message: {}", body);
+        }
+    }
+
+    /** 기동 완료 후 Redis의 블랙리스트 키로 로컬 캐시 워밍업 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        int loaded = 0;
+        try (Cursor<String> cursor = redis.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttlMs = redis.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMs == null || ttlMs <= 0) continue;
+                revoked.put(key.substring(KEY_PREFIX.length()), System.currentTimeMillis() + ttlMs);
+                loaded++;
+            }
+            warmedUp = true;
+            log.info("[revocation] warmed up with {} revoked tokens", loaded);
+        } catch (Exception e) {
+            // 워밍업 실패 시 Redis 직접 확인 모드 유지
+            log.warn("[revocation] warm-up failed, falling back to redis lookups", e);
+        }
+    }
+}
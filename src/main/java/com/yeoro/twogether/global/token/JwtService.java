@@ -4,6 +4,7 @@ import com.yeoro.twogether.global.exception.ErrorCode;
 import com.yeoro.twogether.global.exception.ServiceException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,8 @@ import static com.yeoro.twogether.global.constant.AppConstants.REFRESH_TOKEN;
 @Service
 public class JwtService {
 
+    private static final String EPOCH_CLAIM = "ep";
+
     @Value("${jwt.secret}")
     private String secretKeyHex; // hex 문자열(256비트 이상 권장: 64자 이상)
 
@@ -37,9 +40,27 @@ public class JwtService {
     private Long refreshTokenExpiration;
 
     private final StringRedisTemplate redis;
+    private final AccessTokenRevocationCache revocationCache;
+    private final TokenEpochStore epochStore;
+
+    // 서명 키/파서는 기동 시 1회만 생성 (JwtParser는 불변 객체라 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser parser;
 
-    public JwtService(StringRedisTemplate redis) {
+    public JwtService(StringRedisTemplate redis,
+                      AccessTokenRevocationCache revocationCache,
+                      TokenEpochStore epochStore) {
         this.redis = redis;
+        this.revocationCache = revocationCache;
+        this.epochStore = epochStore;
+    }
+
+    @PostConstruct
+    void initSigningKey() {
+        this.signingKey = getSecretKey(secretKeyHex);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /* ======================
@@ -62,19 +83,19 @@ public class JwtService {
         return createToken(claims, refreshTokenExpiration, memberId);
     }
 
-    /** JWT 생성 (표준 sub/jti 포함) */
+    /** JWT 생성 (표준 sub/jti + 토큰 에포크 ep 포함) */
     public String createToken(Map<String, Object> claims, Long expiration, Long memberId) {
-        SecretKey key = getSecretKey(secretKeyHex);
         long nowMillis = System.currentTimeMillis();
         String jti = UUID.randomUUID().toString();
 
         return Jwts.builder()
                 .setClaims(claims)
+                .claim(EPOCH_CLAIM, epochStore.current(memberId))
                 .setSubject(String.valueOf(memberId)) // sub
                 .setId(jti)                           // jti
                 .setIssuedAt(new Date(nowMillis))
                 .setExpiration(new Date(nowMillis + expiration))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -90,9 +111,7 @@ public class JwtService {
     /** 남은 토큰 유효 시간(ms) — 블랙리스트 무시하고 순수 만료만 계산 */
     public long getRemainingTime(String token) {
         try {
-            Claims claims = parseClaimsInternal(token, /*checkBlacklist=*/false);
-            Date expiration = claims.getExpiration();
-            return Math.max(0, expiration.getTime() - System.currentTimeMillis());
+            return remainingMillis(parseClaimsInternal(token, /*checkBlacklist=*/false));
         } catch (ServiceException e) {
             return 0;
         }
@@ -100,16 +119,15 @@ public class JwtService {
 
     private Claims parseClaimsInternal(String token, boolean checkBlacklist) {
         try {
-            SecretKey key = getSecretKey(secretKeyHex);
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
             if (checkBlacklist) {
-                String blacklistKey = blacklistKey(extractJtiOrHash(token, claims));
-                if (Boolean.TRUE.equals(redis.hasKey(blacklistKey))) {
+                // 회원 토큰 에포크 확인 (로그아웃/비밀번호 변경 시 증가)
+                if (isEpochRevoked(claims)) {
+                    throw new ServiceException(ErrorCode.ACCESS_TOKEN_BLACKLISTED);
+                }
+                // 로컬 폐기 캐시 확인 (대부분 네트워크 왕복 없음)
+                if (revocationCache.isRevoked(extractJtiOrHash(token, claims))) {
                     throw new ServiceException(ErrorCode.ACCESS_TOKEN_BLACKLISTED);
                 }
             }
@@ -177,25 +195,37 @@ public class JwtService {
     }
 
     /* ======================
-    Access Token 블랙리스트
+    토큰 폐기 (에포크 / 블랙리스트)
     ====================== */
 
-    /** Access Token 블랙리스트 등록 (남은 만료시간만큼 유지) */
-    public void blacklistAccessToken(String token) {
-        long ttlMs = getRemainingTime(token);
-        if (ttlMs <= 0) return;
+    /** 회원의 모든 토큰(Access/Refresh) 폐기 — 에포크 증가 1회 */
+    public void revokeAllTokens(Long memberId) {
+        epochStore.bump(memberId);
+    }
 
+    /** ep 클레임이 현재 에포크보다 작으면 폐기된 토큰 (ep 없는 구버전 토큰은 0으로 간주) */
+    private boolean isEpochRevoked(Claims claims) {
+        Long memberId = extractMemberId(claims);
+        if (memberId == null) return false;
+        Object ep = claims.get(EPOCH_CLAIM);
+        long tokenEpoch = (ep instanceof Number n) ? n.longValue() : 0L;
+        return tokenEpoch < epochStore.current(memberId);
+    }
+
+    /** Access Token 블랙리스트 등록 (남은 만료시간만큼 유지, 다른 노드에도 전파) */
+    public void blacklistAccessToken(String token) {
         Claims claims;
         try {
-            // 블랙리스트 검사 없이 파싱(등록 자체가 목적)
+            // 블랙리스트 검사 없이 1회만 파싱(등록 자체가 목적) — 남은 시간도 같은 claims에서 계산
             claims = parseClaimsInternal(token, /*checkBlacklist=*/false);
         } catch (ServiceException e) {
             // 이미 만료/유효하지 않으면 등록 불필요
             return;
         }
 
-        String jtiOrHash = extractJtiOrHash(token, claims);
-        redis.opsForValue().set(blacklistKey(jtiOrHash), "1", Duration.ofMillis(ttlMs));
+        if (remainingMillis(claims) <= 0) return;
+
+        revocationCache.revoke(extractJtiOrHash(token, claims), claims.getExpiration().getTime());
     }
 
     /* ======================
@@ -233,12 +263,13 @@ public class JwtService {
         return Keys.hmacShaKeyFor(java.util.HexFormat.of().parseHex(hex));
     }
 
-    private static String refreshKey(Long memberId) {
-        return "refresh:" + memberId;
+    private static long remainingMillis(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return Math.max(0, expiration.getTime() - System.currentTimeMillis());
     }
 
-    private static String blacklistKey(String jtiOrHash) {
-        return "blacklist:" + jtiOrHash;
+    private static String refreshKey(Long memberId) {
+        return "refresh:" + memberId;
     }
 
     /** jti가 없으면 토큰 전문 SHA-256 해시로 대체 (구버전 호환) */
@@ -0,0 +1,31 @@
+package com.yeoro.twogether.global.token;
+
+import com.yeoro.twogether.global.store.CachedCounterStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 회원별 토큰 에포크(epoch:<memberId>)
+ * - 토큰 발급 시 현재 에포크를 ep 클레임으로 포함
+ * - 검증 시 ep < 현재 에포크면 폐기된 토큰으로 판단
+ * - 전체 세션 폐기 = 스크립트 1회 (토큰 개수와 무관하게 회원당 키 1개, 만료 없음)
+ */
+@Component
+public class TokenEpochStore extends CachedCounterStore {
+
+    public static final String CHANNEL = "token:epoch";
+    public static final String KEY_PREFIX = "epoch:";
+
+    public TokenEpochStore(StringRedisTemplate redis,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${jwt.epoch-cache.ttl-ms:3000}") long cacheTtlMs,
+                           @Value("${jwt.epoch-cache.max-entries:100000}") long maxEntries) {
+        super(redis, listenerContainer, KEY_PREFIX, CHANNEL,
+                Duration.ofMillis(cacheTtlMs),
+                maxEntries);
+    }
+}
@@ -2,6 +2,7 @@ package com.yeoro.twogether.global.token;
 
 import com.yeoro.twogether.global.exception.ErrorCode;
 import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,10 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -30,23 +34,75 @@ public class TokenService {
 
     private final JwtService jwtService;
     private final StringRedisTemplate redisTemplate;
+    private final PartnerLinkStore partnerLinkStore;
+    private final TokenEpochStore tokenEpochStore;
+
+    /** 동일 RefreshToken 동시 재사용을 정상 요청으로 볼 유예 시간 */
+    @Value("${jwt.refresh-reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    private static final long ROTATED = 1L;
+    private static final long CONCURRENT = 2L;
+    private static final long REUSED = -2L;
+
+    /**
+     * KEYS[1]=refresh:<id>, KEYS[2]=refresh:used:<id>:<기존 jti>, KEYS[3]=epoch:<id>
+     * ARGV[1]=기존 토큰, ARGV[2]=새 토큰, ARGV[3]=TTL(ms), ARGV[4]=기존 토큰 남은 수명(ms), ARGV[5]=현재 시각(ms), ARGV[6]=유예(ms)
+     * 반환: {1, 새 토큰} 회전 / {2, ''} 유예 내 동시 요청 / {-1, ''} 무효 / {-2, 에포크} 재사용 감지
+     * (유예 내 동시 요청에도 현재 토큰은 절대 돌려주지 않음 — 탈취 토큰 재생으로 세션을 넘겨받지 못하게)
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<Object>> ROTATE_SCRIPT = (RedisScript) new DefaultRedisScript<>("""
+            local cur = redis.call('GET', KEYS[1])
+            if cur == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+              redis.call('SET', KEYS[2], ARGV[5], 'PX', ARGV[4])
+              return {1, ARGV[2]}
+            end
+            local rotatedAt = redis.call('GET', KEYS[2])
+            if not rotatedAt then
+              return {-1, ''}
+            end
+            if cur and (tonumber(ARGV[5]) - tonumber(rotatedAt)) <= tonumber(ARGV[6]) then
+              return {2, ''}
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            local ep = math.max(tonumber(ARGV[5]), tonumber(redis.call('GET', KEYS[3]) or '0') + 1)
+            redis.call('SET', KEYS[3], string.format('%d', ep))
+            return {-2, string.format('%d', ep)}
+            """, List.class);
 
     /**
      * Access/Refresh 토큰 쌍 생성
      * - sub/jti는 JwtService가 자동 세팅 (memberId 기준)
      * - 기존 호환을 위해 커스텀 클레임(memberId, email, partnerId)도 그대로 포함
+     * - plv: 파트너 연결 버전 (필터에서 partnerId 클레임 신뢰 여부 판단)
      */
     public TokenPair createTokenPair(Long memberId, String email, Long partnerId) {
+        return createTokenPair(memberId, email, partnerId, partnerLinkVersion(memberId));
+    }
+
+    /**
+     * Access/Refresh 토큰 쌍 생성 (plv 지정)
+     * @param partnerLinkVersion partnerId를 조회하기 전에 읽은 파트너 연결 버전
+     */
+    public TokenPair createTokenPair(Long memberId, String email, Long partnerId, long partnerLinkVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("memberId", memberId);
         claims.put("email", email);
         claims.put("partnerId", partnerId);
+        claims.put("plv", partnerLinkVersion);
 
         String accessToken  = jwtService.createToken(claims, accessExpiration,  memberId);
         String refreshToken = jwtService.createToken(claims, refreshExpiration, memberId);
         return new TokenPair(accessToken, refreshToken);
     }
 
+    /** 현재 파트너 연결 버전 (토큰 발급 전, 파트너 조회보다 먼저 읽어야 함) */
+    public long partnerLinkVersion(Long memberId) {
+        return partnerLinkStore.current(memberId);
+    }
+
     /**
      * 클라이언트에 토큰 전달 (헤더 + 쿠키)
      * - Access: Authorization 헤더(Bearer)
@@ -84,12 +140,18 @@ public class TokenService {
     }
 
     /**
-     * 쿠키의 RefreshToken을 검증하고 memberId 반환
-     * 1) 쿠키에서 추출
-     * 2) JWT 유효성 검사(만료/서명/블랙리스트)
-     * 3) Redis 저장값과 일치 여부 확인
+     * 회원의 모든 토큰 폐기 (토큰 에포크 증가)
+     * - 블랙리스트 키를 토큰마다 쌓지 않고 회원당 카운터 1개로 처리
+     */
+    public void revokeAllTokens(Long memberId) {
+        jwtService.revokeAllTokens(memberId);
+    }
+
+    /**
+     * 쿠키의 RefreshToken을 읽고 JWT 검증(만료/서명/에포크)
+     * - Redis 저장값 비교는 회전(rotateRefreshToken) 시 Lua 스크립트에서 원자적으로 수행
      */
-    public Long getMemberIdFromRefreshToken(HttpServletRequest request) {
+    public RefreshCredential readRefreshToken(HttpServletRequest request) {
         String refreshToken = jwtService.getRefreshTokenFromCookie(request)
                 .orElseThrow(() -> new ServiceException(ErrorCode.TOKEN_INVALID));
 
@@ -98,13 +160,59 @@ public class TokenService {
                 .map(Number::longValue)
                 .orElseGet(() -> Long.parseLong(claims.getSubject()));
 
-        String stored = redisTemplate.opsForValue().get(refreshKey(memberId));
-        if (stored == null || !stored.equals(refreshToken)) {
+        String jti = claims.getId();
+        if (jti == null || jti.isBlank()) {
             throw new ServiceException(ErrorCode.TOKEN_INVALID);
         }
-        return memberId;
+        return new RefreshCredential(memberId, refreshToken, jti, claims.getExpiration().getTime());
     }
 
+    /**
+     * RefreshToken 회전 (Redis 왕복 1회)
+     * - 저장값 == 기존 토큰이면 새 토큰으로 교체(TTL 갱신) + 기존 jti를 사용 이력에 기록
+     *   (jti마다 키 1개, 기존 토큰이 만료되는 시점에 함께 만료 → 회전이 이어져도 쌓이지 않음)
+     * - 유예 시간 내 동시 요청(같은 기기 연타)이면 409 — 자격 증명 없이 거절, 클라이언트는 먼저 회전된 쿠키로 재시도
+     * - 유예 시간이 지난 재사용이면 탈취로 보고 회원의 모든 세션 폐기(에포크 증가)
+     * @return 클라이언트에 내려줄 토큰 쌍
+     */
+    public TokenPair rotateRefreshToken(RefreshCredential old, TokenPair next) {
+        Long memberId = old.memberId();
+        List<Object> result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(refreshKey(memberId), usedRefreshKey(memberId, old.jti()), TokenEpochStore.KEY_PREFIX + memberId),
+                old.token(),
+                next.getRefreshToken(),
+                String.valueOf(refreshExpiration),
+                String.valueOf(Math.max(1L, old.expiresAt() - System.currentTimeMillis())),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(reuseGraceMs)
+        );
+        if (result == null || result.size() < 2) {
+            throw new ServiceException(ErrorCode.TOKEN_INVALID);
+        }
+
+        long code = ((Number) result.get(0)).longValue();
+        String value = String.valueOf(result.get(1));
+
+        if (code == ROTATED) {
+            return next;
+        }
+        if (code == CONCURRENT) {
+            // 먼저 회전한 요청이 새 쿠키를 내려줌 → 이 요청은 토큰 없이 재시도 안내
+            throw new ServiceException(ErrorCode.REFRESH_IN_PROGRESS);
+        }
+        if (code == REUSED) {
+            // 스크립트에서 이미 올린 에포크를 로컬 반영 + 다른 노드 전파
+            tokenEpochStore.publish(memberId, Long.parseLong(value));
+            log.warn("[refresh] reuse detected, revoked all sessions: memberId={}", memberId);
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        throw new ServiceException(ErrorCode.TOKEN_INVALID);
+    }
+
+    /** 쿠키에서 읽은 RefreshToken + 식별 정보 */
+    public record RefreshCredential(Long memberId, String token, String jti, long expiresAt) {}
+
     /** Refresh 쿠키 제거(로그아웃/비번변경 후 호출) */
     public void clearRefreshCookie(HttpServletResponse response) {
         jwtService.clearRefreshTokenCookie(response);
@@ -113,4 +221,9 @@ public class TokenService {
     private static String refreshKey(Long memberId) {
         return "refresh:" + memberId;
     }
+
+    /** 회전된(이미 사용된) RefreshToken 1개 → 회전 시각 */
+    private static String usedRefreshKey(Long memberId, String jti) {
+        return "refresh:used:" + memberId + ":" + jti;
+    }
 }
\ No newline at end of file
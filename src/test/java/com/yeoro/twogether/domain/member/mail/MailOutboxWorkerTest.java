@@ -0,0 +1,153 @@
+package com.yeoro.twogether.domain.member.mail;
+
+import com.yeoro.twogether.domain.member.entity.MailOutbox;
+import com.yeoro.twogether.domain.member.entity.MailStatus;
+import com.yeoro.twogether.domain.member.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailOutboxWorkerTest {
+
+    private static final long TIMEOUT_MS = 2000L;
+
+    private MailOutboxRepository repository;
+    private MailService mailService;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MailOutboxRepository.class);
+        mailService = mock(MailService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (worker != null) worker.shutdown();
+    }
+
+    @Test
+    void claimedMailIsSentAndMarked() throws Exception {
+        worker = newWorker(2, 10, 5);
+        ready(1L, 0);
+
+        worker.drain();
+
+        verify(mailService, timeout(TIMEOUT_MS)).sendVerificationCode("a@b.c", "123456");
+        verify(repository, timeout(TIMEOUT_MS)).markSent(1L);
+    }
+
+    @Test
+    void mailClaimedByAnotherNodeIsSkipped() throws Exception {
+        worker = newWorker(2, 10, 5);
+        when(repository.findReadyIds(any(), any())).thenReturn(List.of(1L));
+        when(repository.claim(eq(1L), any())).thenReturn(0);
+
+        worker.drain();
+
+        verify(repository, never()).findById(anyLong());
+        verify(mailService, never()).sendVerificationCode(any(), any());
+    }
+
+    @Test
+    void failureSchedulesRetryWithBackoff() throws Exception {
+        worker = newWorker(1, 10, 5);
+        ready(1L, 0);
+        doThrow(new MessagingException("smtp down")).when(mailService).sendVerificationCode(any(), any());
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.drain();
+
+        // 첫 실패 → base(2초) 뒤 재시도
+        verify(repository, timeout(TIMEOUT_MS)).markFailed(eq(1L), eq(MailStatus.PENDING),
+                argThat(next -> !next.isBefore(before.plusSeconds(2)) && next.isBefore(before.plusSeconds(10))),
+                eq("smtp down"));
+        assertThat(meterRegistry.counter("mail.send.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void lastAttemptFailsPermanently() throws Exception {
+        worker = newWorker(1, 10, 3);
+        ready(1L, 2);
+        doThrow(new MessagingException("bounced")).when(mailService).sendVerificationCode(any(), any());
+
+        worker.drain();
+
+        verify(repository, timeout(TIMEOUT_MS)).markFailed(eq(1L), eq(MailStatus.FAILED), any(), eq("bounced"));
+    }
+
+    @Test
+    void fullPoolReleasesClaimForNextPoll() throws Exception {
+        worker = newWorker(1, 1, 5);
+        CountDownLatch blocked = new CountDownLatch(1);
+        doAnswer(inv -> {
+            blocked.await();
+            return null;
+        }).when(mailService).sendVerificationCode(any(), any());
+        when(repository.findReadyIds(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(repository.claim(anyLong(), any())).thenReturn(1);
+        when(repository.findById(anyLong())).thenAnswer(inv -> Optional.of(mail(inv.getArgument(0), 0)));
+
+        try {
+            worker.drain();
+
+            // 1 실행 중, 2 대기열, 3은 거절 → 점유 해제
+            verify(repository).release(3L);
+            verify(repository, never()).release(1L);
+            verify(repository, never()).release(2L);
+        } finally {
+            blocked.countDown();
+        }
+    }
+
+    @Test
+    void maintenancePurgesFinishedRows() {
+        worker = newWorker(1, 10, 5);
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.maintain();
+
+        verify(repository).deleteFinishedBefore(argThat(t -> t.isBefore(before.minusHours(23))));
+    }
+
+    private MailOutboxWorker newWorker(int threads, int queueCapacity, int maxAttempts) {
+        return new MailOutboxWorker(repository, mailService, meterRegistry,
+                threads, queueCapacity, maxAttempts, 2000L, 300_000L);
+    }
+
+    private void ready(Long id, int attempts) {
+        when(repository.findReadyIds(any(), any())).thenReturn(List.of(id));
+        when(repository.claim(eq(id), any())).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(mail(id, attempts)));
+    }
+
+    private static MailOutbox mail(Long id, int attempts) {
+        MailOutbox mail = MailOutbox.builder().recipient("a@b.c").code("123456").build();
+        ReflectionTestUtils.setField(mail, "id", id);
+        ReflectionTestUtils.setField(mail, "attempts", attempts);
+        return mail;
+    }
+}
@@ -0,0 +1,79 @@
+package com.yeoro.twogether.domain.member.repository;
+
+import com.yeoro.twogether.domain.member.entity.MailOutbox;
+import com.yeoro.twogether.domain.member.entity.MailStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class MailOutboxRepositoryTest {
+
+    @Autowired
+    private MailOutboxRepository repository;
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void sentRowDropsCode() {
+        Long id = pending();
+
+        repository.markSent(id);
+
+        MailOutbox mail = repository.findById(id).orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(mail.getCode()).isEmpty();
+    }
+
+    @Test
+    void retryKeepsCodeButFinalFailureDropsIt() {
+        Long id = pending();
+        LocalDateTime next = LocalDateTime.now().plusSeconds(2);
+
+        repository.markFailed(id, MailStatus.PENDING, next, "smtp down");
+        assertThat(repository.findById(id).orElseThrow().getCode()).isEqualTo("123456");
+
+        repository.markFailed(id, MailStatus.FAILED, next, "bounced");
+        MailOutbox mail = repository.findById(id).orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(mail.getCode()).isEmpty();
+    }
+
+    @Test
+    void finishedRowsArePurged() {
+        Long sent = pending();
+        Long failed = pending();
+        Long waiting = pending();
+        repository.markSent(sent);
+        repository.markFailed(failed, MailStatus.FAILED, LocalDateTime.now(), "bounced");
+        backdate(LocalDateTime.now().minusDays(2), sent, failed, waiting);
+
+        int deleted = repository.deleteFinishedBefore(LocalDateTime.now().minusDays(1));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(repository.findById(sent)).isEmpty();
+        assertThat(repository.findById(failed)).isEmpty();
+        assertThat(repository.findById(waiting)).isPresent();
+    }
+
+    private Long pending() {
+        return em.persistAndFlush(MailOutbox.builder().recipient("a@b.c").code("123456").build()).getId();
+    }
+
+    private void backdate(LocalDateTime createdAt, Long... ids) {
+        for (Long id : ids) {
+            em.getEntityManager()
+                    .createQuery("update MailOutbox o set o.createdAt = :t where o.id = :id")
+                    .setParameter("t", createdAt)
+                    .setParameter("id", id)
+                    .executeUpdate();
+        }
+        em.clear();
+    }
+}
@@ -0,0 +1,155 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.domain.member.dto.OauthProfile;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/** 로컬 JWKS + 로컬 서명 id_token으로 검증 규칙 확인 */
+class KakaoIdTokenVerifierTest {
+
+    private static final String AUTH_BASE_URL = "http://kauth.test";
+    private static final String ISSUER = "https://kauth.kakao.com";
+    private static final String CLIENT_ID = "test-client-id";
+    private static final String NONCE = "nonce-1";
+
+    private static KeyPair trusted;
+    private static KeyPair unknown;
+
+    private MockRestServiceServer jwksServer;
+    private KakaoIdTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        trusted = generator.generateKeyPair();
+        unknown = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        ObjectMapper objectMapper = new ObjectMapper();
+        jwksServer = MockRestServiceServer.bindTo(restTemplate).build();
+        jwksServer.expect(ExpectedCount.manyTimes(), requestTo(AUTH_BASE_URL + "/.well-known/jwks.json"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(
+                        Map.of("keys", List.of(jwk("k1", (RSAPublicKey) trusted.getPublic())))), MediaType.APPLICATION_JSON));
+
+        verifier = new KakaoIdTokenVerifier(restTemplate, objectMapper, true, AUTH_BASE_URL, ISSUER, CLIENT_ID);
+        verifier.warmUp();
+    }
+
+    @Test
+    void validTokenBecomesProfile() {
+        OauthProfile profile = verifier.verify(token().compact(), NONCE);
+
+        assertThat(profile.getPlatformId()).isEqualTo("12345");
+        assertThat(profile.getName()).isEqualTo("twogether");
+        assertThat(profile.getEmail()).isEqualTo("user@kakao.test");
+    }
+
+    @Test
+    void wrongIssuerIsRejected() {
+        assertInvalid(token().setIssuer("https://evil.test").compact(), NONCE);
+    }
+
+    @Test
+    void wrongAudienceIsRejected() {
+        assertInvalid(token().setAudience("another-app").compact(), NONCE);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        Instant past = Instant.now().minus(Duration.ofHours(1));
+        assertInvalid(token()
+                .setIssuedAt(Date.from(past))
+                .setExpiration(Date.from(past.plus(Duration.ofMinutes(5))))
+                .compact(), NONCE);
+    }
+
+    @Test
+    void unknownKidIsRejected() {
+        assertInvalid(token()
+                .setHeaderParam("kid", "k2")
+                .signWith(unknown.getPrivate(), SignatureAlgorithm.RS256)
+                .compact(), NONCE);
+    }
+
+    @Test
+    void knownKidWithForeignSignatureIsRejected() {
+        assertInvalid(token().signWith(unknown.getPrivate(), SignatureAlgorithm.RS256).compact(), NONCE);
+    }
+
+    @Test
+    void nonceMismatchIsRejected() {
+        assertInvalid(token().compact(), "other-nonce");
+    }
+
+    private static JwtBuilder token() {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setHeaderParam("kid", "k1")
+                .setIssuer(ISSUER)
+                .setAudience(CLIENT_ID)
+                .setSubject("12345")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .claim("nonce", NONCE)
+                .claim("nickname", "twogether")
+                .claim("email", "user@kakao.test")
+                .signWith(trusted.getPrivate(), SignatureAlgorithm.RS256);
+    }
+
+    private void assertInvalid(String idToken, String nonce) {
+        assertThatThrownBy(() -> verifier.verify(idToken, nonce))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.KAKAO_INVALID_TOKEN);
+    }
+
+    private static Map<String, String> jwk(String kid, RSAPublicKey key) {
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        return Map.of(
+                "kid", kid,
+                "kty", "RSA",
+                "alg", "RS256",
+                "use", "sig",
+                "n", b64.encodeToString(unsigned(key.getModulus().toByteArray())),
+                "e", b64.encodeToString(unsigned(key.getPublicExponent().toByteArray())));
+    }
+
+    /** BigInteger 부호 바이트 제거 (JWK는 부호 없는 big-endian) */
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,130 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberPurgeWorkerTest {
+
+    private static final long TIMEOUT_MS = 2000L;
+
+    private MemberHardDeleteTx memberHardDeleteTx;
+    private MemberRepository memberRepository;
+    private MemberPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        memberHardDeleteTx = mock(MemberHardDeleteTx.class);
+        memberRepository = mock(MemberRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (worker != null) worker.shutdown();
+    }
+
+    @Test
+    void purgeStartsImmediatelyOutsideTransaction() {
+        worker = newWorker(1, 10);
+
+        worker.purgeAfterCommit(1L);
+
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(1L);
+    }
+
+    @Test
+    void purgeWaitsForCommit() {
+        worker = newWorker(1, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        worker.purgeAfterCommit(1L);
+        verify(memberHardDeleteTx, after(100).never()).purge(anyLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(1L);
+    }
+
+    @Test
+    void rolledBackTombstoneIsNotPurged() {
+        worker = newWorker(1, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        worker.purgeAfterCommit(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(memberHardDeleteTx, after(200).never()).purge(anyLong());
+    }
+
+    @Test
+    void resumePicksUpStaleTombstones() {
+        worker = newWorker(1, 10);
+        when(memberRepository.findPurgeCandidateIds(any(), any())).thenReturn(List.of(1L, 2L));
+
+        worker.resume();
+
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(1L);
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(2L);
+    }
+
+    @Test
+    void failedPurgeDoesNotStopWorker() {
+        worker = newWorker(1, 10);
+        when(memberHardDeleteTx.purge(1L)).thenThrow(new IllegalStateException("db down"));
+
+        worker.purgeAfterCommit(1L);
+        worker.purgeAfterCommit(2L);
+
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(2L);
+    }
+
+    @Test
+    void fullQueueDefersRestToNextResume() throws InterruptedException {
+        worker = newWorker(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        }).when(memberHardDeleteTx).purge(anyLong());
+        when(memberRepository.findPurgeCandidateIds(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+
+        try {
+            worker.resume();
+            // 1 실행 중, 2 대기열, 3은 거절 → 다음 주기로 미룸
+            started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } finally {
+            release.countDown();
+        }
+
+        verify(memberHardDeleteTx, timeout(TIMEOUT_MS)).purge(2L);
+        verify(memberHardDeleteTx, after(100).never()).purge(3L);
+    }
+
+    private MemberPurgeWorker newWorker(int threads, int queueCapacity) {
+        return new MemberPurgeWorker(memberHardDeleteTx, memberRepository, new SimpleMeterRegistry(),
+                threads, queueCapacity, 300_000L);
+    }
+}
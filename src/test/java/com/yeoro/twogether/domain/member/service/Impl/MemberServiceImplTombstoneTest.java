@@ -0,0 +1,150 @@
+package com.yeoro.twogether.domain.member.service.Impl;
+
+import com.yeoro.twogether.domain.member.dto.OauthProfile;
+import com.yeoro.twogether.domain.member.entity.LoginPlatform;
+import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import com.yeoro.twogether.domain.member.service.MemberSnapshotCache;
+import com.yeoro.twogether.domain.member.service.RequestMemberCache;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.store.PartnerCodeStore;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
+import com.yeoro.twogether.global.token.TokenPair;
+import com.yeoro.twogether.global.token.TokenService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/** 탈퇴 처리 중(툼스톤) 회원은 로그인/파트너 연결 대상에서 제외 */
+@ExtendWith(MockitoExtension.class)
+class MemberServiceImplTombstoneTest {
+
+    private static final String PLATFORM_ID = "kakao-123";
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private PartnerCodeStore partnerCodeStore;
+    @Mock
+    private PartnerLinkStore partnerLinkStore;
+    @Mock
+    private MemberSnapshotCache memberSnapshotCache;
+    @Mock
+    private TokenService tokenService;
+    @Mock
+    private RequestMemberCache requestMemberCache;
+    @Spy
+    private TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private MemberServiceImpl memberService;
+
+    @Test
+    void oauthLoginOfDeletingMemberIsRejected() {
+        when(memberRepository.existsByPlatformId(PLATFORM_ID)).thenReturn(true);
+        when(memberRepository.findByPlatformId(PLATFORM_ID)).thenReturn(Optional.of(member(1L, true)));
+
+        assertThatThrownBy(() -> memberService.findOrCreateMember(profile(), LoginPlatform.KAKAO, "pw"))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void oauthLoginOfActiveMemberReturnsId() {
+        when(memberRepository.existsByPlatformId(PLATFORM_ID)).thenReturn(true);
+        when(memberRepository.findByPlatformId(PLATFORM_ID)).thenReturn(Optional.of(member(1L, false)));
+
+        assertThat(memberService.findOrCreateMember(profile(), LoginPlatform.KAKAO, "pw")).isEqualTo(1L);
+    }
+
+    @Test
+    void platformIdLookupSkipsDeletingMember() {
+        when(memberRepository.findByPlatformId(PLATFORM_ID)).thenReturn(Optional.of(member(1L, true)));
+
+        assertThatThrownBy(() -> memberService.getMemberIdByPlatformId(PLATFORM_ID))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    @Test
+    void connectingToDeletingPartnerIsRejected() {
+        when(partnerCodeStore.consume("CODE")).thenReturn(2L);
+        when(requestMemberCache.findForUpdate(1L)).thenReturn(Optional.of(member(1L, false)));
+        when(requestMemberCache.findForUpdate(2L)).thenReturn(Optional.of(member(2L, true)));
+
+        assertThatThrownBy(() -> memberService.connectPartner(1L, "CODE", null, null))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+        verifyNoInteractions(partnerLinkStore);
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void deletingMemberCannotConnect() {
+        when(partnerCodeStore.consume("CODE")).thenReturn(1L);
+        when(requestMemberCache.findForUpdate(1L)).thenReturn(Optional.of(member(1L, false)));
+        when(requestMemberCache.findForUpdate(2L)).thenReturn(Optional.of(member(2L, true)));
+
+        // 요청자(2)가 탈퇴 처리 중 — 잠금 순서는 ID 오름차순
+        assertThatThrownBy(() -> memberService.connectPartner(2L, "CODE", null, null))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+        verifyNoInteractions(partnerLinkStore);
+    }
+
+    @Test
+    void connectIssuesTokenWithVersionBumpedAfterCommit() {
+        Member requester = member(1L, false);
+        when(partnerCodeStore.consume("CODE")).thenReturn(2L);
+        when(requestMemberCache.findForUpdate(1L)).thenReturn(Optional.of(requester));
+        when(requestMemberCache.findForUpdate(2L)).thenReturn(Optional.of(member(2L, false)));
+        when(partnerLinkStore.bump(1L)).thenReturn(42L);
+        when(requestMemberCache.findWithPartner(1L)).thenReturn(Optional.of(requester));
+        when(tokenService.createTokenPair(any(), any(), any(), anyLong())).thenReturn(new TokenPair("access", "refresh"));
+
+        memberService.connectPartner(1L, "CODE", null, null);
+
+        // 연결 커밋 → 버전 증가 → 증가된 버전으로 발급 (커밋 전 버전을 읽지 않음)
+        InOrder order = inOrder(tx, partnerLinkStore, tokenService);
+        order.verify(tx).execute(any());
+        order.verify(partnerLinkStore).bump(1L);
+        order.verify(tokenService).createTokenPair(1L, null, 2L, 42L);
+        verify(partnerLinkStore).bump(2L);
+        verify(tokenService, never()).partnerLinkVersion(any());
+    }
+
+    private static Member member(Long id, boolean deleting) {
+        Member member = Member.builder().platformId(PLATFORM_ID).loginPlatform(LoginPlatform.KAKAO).build();
+        ReflectionTestUtils.setField(member, "id", id);
+        if (deleting) member.markDeleting();
+        return member;
+    }
+
+    private static OauthProfile profile() {
+        OauthProfile profile = new OauthProfile();
+        profile.setPlatformId(PLATFORM_ID);
+        return profile;
+    }
+}
@@ -0,0 +1,89 @@
+package com.yeoro.twogether.domain.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberSnapshotCacheTest extends EmbeddedRedisSupport {
+
+    private static final String SNAPSHOT_KEY = "member:snap:{1}";
+    private static final String GEN_KEY = "member:snap:gen:{1}";
+
+    private RequestMemberCache requestMemberCache;
+    private MemberSnapshotCache node1;
+    private MemberSnapshotCache node2;
+
+    @BeforeEach
+    void setUp() {
+        requestMemberCache = mock(RequestMemberCache.class);
+        node1 = newNode();
+        node2 = newNode();
+    }
+
+    @Test
+    void loadFillsSharedCache() {
+        when(requestMemberCache.findWithPartner(1L)).thenReturn(Optional.of(member("alice")));
+
+        assertThat(node1.get(1L).name()).isEqualTo("alice");
+        assertThat(redis.hasKey(SNAPSHOT_KEY)).isTrue();
+
+        // 다른 노드는 L2에서 읽음
+        assertThat(node2.get(1L).name()).isEqualTo("alice");
+        verify(requestMemberCache, times(1)).findWithPartner(1L);
+    }
+
+    @Test
+    void evictDuringLoadSkipsStaleFill() {
+        when(requestMemberCache.findWithPartner(1L))
+                .thenAnswer(inv -> {
+                    // node1이 옛 행을 읽은 직후 다른 노드에서 커밋 + evict
+                    Optional<Member> stale = Optional.of(member("old"));
+                    node2.evictAfterCommit(1L);
+                    return stale;
+                })
+                .thenReturn(Optional.of(member("new")));
+
+        assertThat(node1.get(1L).name()).isEqualTo("old");
+        assertThat(redis.hasKey(SNAPSHOT_KEY)).isFalse();
+
+        assertThat(node2.get(1L).name()).isEqualTo("new");
+        assertThat(redis.hasKey(SNAPSHOT_KEY)).isTrue();
+    }
+
+    @Test
+    void evictBumpsGenerationMonotonically() {
+        node1.evictAfterCommit(1L);
+        long first = Long.parseLong(redis.opsForValue().get(GEN_KEY));
+
+        // 세대 키가 유실돼도 이전 값으로 돌아가지 않음
+        redis.delete(GEN_KEY);
+        node1.evictAfterCommit(1L);
+        long second = Long.parseLong(redis.opsForValue().get(GEN_KEY));
+
+        assertThat(second).isGreaterThanOrEqualTo(first);
+        assertThat(redis.getExpire(GEN_KEY)).isPositive();
+    }
+
+    private MemberSnapshotCache newNode() {
+        return new MemberSnapshotCache(redis, new ObjectMapper().findAndRegisterModules(), requestMemberCache,
+                listenerContainer(), new SimpleMeterRegistry(), 60_000L, 1_800_000L, 1000L);
+    }
+
+    private static Member member(String name) {
+        Member member = Member.builder().email("a@b.c").name(name).build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        return member;
+    }
+}
@@ -0,0 +1,114 @@
+package com.yeoro.twogether.domain.member.service;
+
+import com.yeoro.twogether.domain.member.entity.LoginPlatform;
+import com.yeoro.twogether.domain.member.entity.Member;
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 요청당 회원 테이블 조회 집계 — 캐시를 거치지 않는 조회도 포함 */
+class RequestMemberCacheTest {
+
+    private static final String URI = "/api/v1/test";
+
+    private MemberRepository memberRepository;
+    private EntityManager entityManager;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMemberCache cache;
+    private ServletRequestAttributes attrs;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        entityManager = mock(EntityManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RequestMemberCache(memberRepository, meterRegistry);
+        ReflectionTestUtils.setField(cache, "entityManager", entityManager);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        attrs = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(attrs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void partnerIdOfCachedMemberNeedsNoQuery() {
+        Member member = member(1L);
+        when(memberRepository.findByIdWithPartner(1L)).thenReturn(Optional.of(member));
+        when(entityManager.contains(member)).thenReturn(true);
+
+        cache.findWithPartner(1L);
+        assertThat(cache.findPartnerId(1L)).isNull();
+
+        verify(memberRepository, never()).findPartnerIdById(any());
+        assertThat(recordedLookups()).isEqualTo(1);
+    }
+
+    @Test
+    void uncachedReadsAreCounted() {
+        when(memberRepository.findPartnerIdById(1L)).thenReturn(Optional.of(2L));
+        when(memberRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(member(1L)));
+        when(memberRepository.findByIdWithPartner(1L)).thenReturn(Optional.of(member(1L)));
+
+        // 필터의 partner_id 조회 + 행 잠금 + 엔티티 조회
+        assertThat(cache.findPartnerId(1L)).isEqualTo(2L);
+        cache.findForUpdate(1L);
+        cache.findWithPartner(1L);
+
+        assertThat(recordedLookups()).isEqualTo(3);
+    }
+
+    @Test
+    void lockDropsCachedEntity() {
+        Member cached = member(1L);
+        Member locked = member(1L);
+        when(memberRepository.findByIdWithPartner(1L)).thenReturn(Optional.of(cached));
+        when(memberRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
+        when(entityManager.contains(cached)).thenReturn(true);
+
+        cache.findWithPartner(1L);
+        assertThat(cache.findForUpdate(1L)).containsSame(locked);
+        cache.findWithPartner(1L);
+
+        verify(memberRepository, times(2)).findByIdWithPartner(1L);
+        assertThat(recordedLookups()).isEqualTo(3);
+    }
+
+    private double recordedLookups() {
+        attrs.requestCompleted();
+        DistributionSummary summary = meterRegistry.find("member.lookups.per.request").tag("uri", URI).summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        return summary.totalAmount();
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder().platformId("p" + id).loginPlatform(LoginPlatform.KAKAO).build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,234 @@
+package com.yeoro.twogether.global.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yeoro.twogether.domain.member.dto.OauthProfile;
+import com.yeoro.twogether.domain.member.service.Impl.KakaoOauthService;
+import com.yeoro.twogether.global.config.AppConfig;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AppConfig 커넥션 풀 + 서킷 브레이커를 로컬 HTTP 서버(임시 포트)로 검증
+ * - kakao.api-base-url을 스텁 서버로 지정한 KakaoOauthService로 호출
+ */
+class CircuitBreakerInterceptorTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long OPEN_MS = 300L;
+    private static final long READ_TIMEOUT_MS = 300L;
+    private static final String PROFILE_JSON =
+            "{\"id\":123,\"kakao_account\":{\"email\":\"a@b.c\",\"profile\":{\"nickname\":\"neo\"}}}";
+
+    private enum Mode { OK, ERROR, SLOW, SLOW_OK }
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private volatile Mode mode = Mode.OK;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private KakaoOauthService kakao;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/user/me", this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        AppConfig config = new AppConfig();
+        connectionManager = config.httpClientConnectionManager(meterRegistry, 20, 20, 1000L, READ_TIMEOUT_MS);
+        CloseableHttpClient httpClient = config.httpClient(connectionManager, READ_TIMEOUT_MS, 1000L);
+        RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient, meterRegistry,
+                THRESHOLD, OPEN_MS);
+
+        kakao = new KakaoOauthService(new ObjectMapper(), restTemplate, null, null);
+        ReflectionTestUtils.setField(kakao, "apiBaseUrl", "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        connectionManager.close();
+    }
+
+    @Test
+    void readTimeoutBoundsTheCall() {
+        mode = Mode.SLOW;
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakao.getUserProfile("token"))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(e -> assertThat(((ServiceException) e).getErrorCode()).isEqualTo(ErrorCode.KAKAO_API_ERROR))
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 서버는 2초 뒤에야 응답 — 읽기 타임아웃에서 끊김
+        assertThat(tookMs).isLessThan(1500L);
+        assertThat(latencyCount("io_error")).isEqualTo(1);
+    }
+
+    @Test
+    void opensAfterThresholdAndRejectsWithoutCalling() {
+        mode = Mode.ERROR;
+        for (int i = 0; i < THRESHOLD; i++) {
+            assertThat(callCause()).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(hits.get()).isEqualTo(THRESHOLD);
+
+        // open — 서버 호출 없이 즉시 실패
+        for (int i = 0; i < 5; i++) {
+            assertThat(callCause()).isInstanceOf(CircuitBreakerInterceptor.CircuitOpenException.class);
+        }
+        assertThat(hits.get()).isEqualTo(THRESHOLD);
+        assertThat(circuitOpen()).isEqualTo(1.0);
+        assertThat(latencyCount("rejected")).isEqualTo(5);
+    }
+
+    @Test
+    void halfOpenLetsExactlyOneTrialThrough() throws Exception {
+        open();
+        Thread.sleep(OPEN_MS + 100);
+        mode = Mode.SLOW_OK; // 시험 호출이 끝나기 전에 나머지가 도착하도록
+        int before = hits.get();
+
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Throwable>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return callCause();
+                }));
+            }
+            start.countDown();
+
+            int passed = 0;
+            int rejected = 0;
+            for (Future<Throwable> f : results) {
+                Throwable cause = f.get(5, TimeUnit.SECONDS);
+                if (cause == null) passed++;
+                else if (cause instanceof CircuitBreakerInterceptor.CircuitOpenException) rejected++;
+            }
+            assertThat(passed).isEqualTo(1);
+            assertThat(rejected).isEqualTo(callers - 1);
+            assertThat(hits.get() - before).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void successfulTrialClosesCircuit() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 100);
+        mode = Mode.OK;
+
+        assertThat(kakao.getUserProfile("token").getPlatformId()).isEqualTo("123");
+        assertThat(circuitOpen()).isZero();
+
+        // 닫힌 뒤에는 실패 카운트도 초기화 — 임계치 전까지는 계속 호출
+        mode = Mode.ERROR;
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            assertThat(callCause()).isInstanceOf(HttpServerErrorException.class);
+        }
+        mode = Mode.OK;
+        OauthProfile profile = kakao.getUserProfile("token");
+        assertThat(profile.getName()).isEqualTo("neo");
+    }
+
+    @Test
+    void failedTrialReopensImmediately() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 100);
+        int before = hits.get();
+
+        assertThat(callCause()).isInstanceOf(HttpServerErrorException.class);
+        assertThat(callCause()).isInstanceOf(CircuitBreakerInterceptor.CircuitOpenException.class);
+        assertThat(hits.get() - before).isEqualTo(1);
+        assertThat(circuitOpen()).isEqualTo(1.0);
+    }
+
+    private void open() {
+        mode = Mode.ERROR;
+        for (int i = 0; i < THRESHOLD; i++) callCause();
+        assertThat(circuitOpen()).isEqualTo(1.0);
+    }
+
+    /** 프로필 조회 1회 — 성공이면 null, 실패면 KAKAO_API_ERROR의 원인 예외 */
+    private Throwable callCause() {
+        try {
+            kakao.getUserProfile("token");
+            return null;
+        } catch (ServiceException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.KAKAO_API_ERROR);
+            return e.getCause();
+        }
+    }
+
+    private double circuitOpen() {
+        Gauge gauge = meterRegistry.find("http.client.circuit.open").tag("host", "localhost").gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private long latencyCount(String outcome) {
+        var timer = meterRegistry.find("http.client.latency").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        Mode current = mode;
+        try {
+            if (current == Mode.SLOW) Thread.sleep(2000);
+            if (current == Mode.SLOW_OK) Thread.sleep(READ_TIMEOUT_MS / 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int status = current == Mode.ERROR ? 500 : 200;
+        byte[] body = (status == 200 ? PROFILE_JSON : "{\"msg\":\"down\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, body.length);
+            out.write(body);
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 끊은 경우
+        }
+    }
+}
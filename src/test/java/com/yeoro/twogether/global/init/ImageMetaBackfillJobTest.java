@@ -0,0 +1,126 @@
+package com.yeoro.twogether.global.init;
+
+import com.yeoro.twogether.domain.member.repository.MemberRepository;
+import com.yeoro.twogether.domain.place.repository.PlaceRepository;
+import com.yeoro.twogether.global.service.s3.S3Uploader;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ImageMetaBackfillJobTest extends EmbeddedRedisSupport {
+
+    private static final String LOCK_KEY = "image:backfill:lock";
+
+    private PlaceRepository placeRepository;
+    private MemberRepository memberRepository;
+    private S3Uploader s3Uploader;
+    private ImageMetaBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        s3Uploader = mock(S3Uploader.class);
+        when(memberRepository.findProfileImageMetaMissingAfter(anyLong(), any())).thenReturn(List.of());
+        job = new ImageMetaBackfillJob(placeRepository, memberRepository, s3Uploader, redis,
+                new SimpleMeterRegistry(), true, 200, 5000, 60_000L, 86_400_000L);
+    }
+
+    @Test
+    void unreadableRowsAreNotRescannedEveryRun() {
+        when(placeRepository.findImageMetaMissingAfter(eq(0L), any())).thenReturn(List.<Object[]>of(new Object[]{1L, "highlights/a.jpg"}));
+        when(placeRepository.findImageMetaMissingAfter(eq(1L), any())).thenReturn(List.of());
+        when(s3Uploader.readMeta("highlights/a.jpg")).thenReturn(Optional.empty());
+
+        job.run();
+        job.run();
+
+        // 두 번째 회차는 한 바퀴 완료 표시를 보고 건너뜀
+        verify(s3Uploader, times(1)).readMeta("highlights/a.jpg");
+        verify(placeRepository, times(1)).findImageMetaMissingAfter(eq(0L), any());
+        assertThat(redis.opsForValue().get("image:backfill:cursor:place")).isEqualTo("done");
+    }
+
+    @Test
+    void resumesFromStoredCursor() {
+        when(placeRepository.findImageMetaMissingAfter(anyLong(), any())).thenReturn(List.of());
+        redis.opsForValue().set("image:backfill:cursor:place", "42");
+
+        job.run();
+
+        verify(placeRepository).findImageMetaMissingAfter(eq(42L), any());
+    }
+
+    @Test
+    void skipsWhileAnotherNodeHoldsLock() {
+        redis.opsForValue().set("image:backfill:lock", "other", Duration.ofMinutes(1));
+
+        job.run();
+
+        verifyNoInteractions(placeRepository, s3Uploader);
+        assertThat(redis.opsForValue().get("image:backfill:lock")).isEqualTo("other");
+    }
+
+    @Test
+    void releasesLockAfterRun() {
+        when(placeRepository.findImageMetaMissingAfter(anyLong(), any())).thenReturn(List.of());
+
+        job.run();
+
+        assertThat(redis.hasKey("image:backfill:lock")).isFalse();
+    }
+
+    @Test
+    void lockIsRenewedOnEveryPage() {
+        AtomicLong ttlAtSecondPage = new AtomicLong();
+        when(placeRepository.findImageMetaMissingAfter(eq(0L), any())).thenReturn(List.<Object[]>of(new Object[]{1L, "highlights/a.jpg"}));
+        when(placeRepository.findImageMetaMissingAfter(eq(1L), any())).thenAnswer(inv -> {
+            ttlAtSecondPage.set(redis.getExpire(LOCK_KEY, TimeUnit.MILLISECONDS));
+            return List.of();
+        });
+        when(s3Uploader.readMeta("highlights/a.jpg")).thenAnswer(inv -> {
+            // 첫 페이지 처리 중 락 만료가 임박한 상황
+            redis.expire(LOCK_KEY, Duration.ofMillis(500));
+            return Optional.empty();
+        });
+
+        job.run();
+
+        assertThat(ttlAtSecondPage.get()).isGreaterThan(30_000L);
+    }
+
+    @Test
+    void stopsWithoutWritingCursorWhenLockIsLost() {
+        when(placeRepository.findImageMetaMissingAfter(eq(0L), any())).thenReturn(List.<Object[]>of(new Object[]{1L, "highlights/a.jpg"}));
+        when(s3Uploader.readMeta("highlights/a.jpg")).thenAnswer(inv -> {
+            // 락이 만료되어 다른 노드가 점유
+            redis.opsForValue().set(LOCK_KEY, "other", Duration.ofMinutes(1));
+            return Optional.empty();
+        });
+
+        job.run();
+
+        verify(placeRepository, never()).findImageMetaMissingAfter(eq(1L), any());
+        verify(memberRepository, never()).findProfileImageMetaMissingAfter(anyLong(), any());
+        assertThat(redis.hasKey("image:backfill:cursor:place")).isFalse();
+        assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo("other");
+    }
+}
@@ -0,0 +1,184 @@
+package com.yeoro.twogether.global.repository;
+
+import com.yeoro.twogether.global.entity.Media;
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.global.service.s3.MediaStore;
+import com.yeoro.twogether.global.service.s3.MediaSweeper;
+import com.yeoro.twogether.global.service.s3.PresignedUrlCache;
+import com.yeoro.twogether.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/** 참조 수 쿼리(acquire/release/touch)와 정리 대상 재확인(lockUnreferenced) — H2 */
+@DataJpaTest
+class MediaRepositoryTest {
+
+    private static final long GRACE_MS = 600_000L;
+
+    @Autowired
+    private MediaRepository repository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void releaseToZeroStampsReleasedAt() {
+        Media media = persist('a');
+
+        assertThat(repository.acquire(media.getSha256())).isEqualTo(1);
+        assertThat(repository.acquire(media.getSha256())).isEqualTo(1);
+        assertThat(reload(media).getRefCount()).isEqualTo(2);
+
+        repository.release(media.getObjectKey(), 1, now());
+        Media one = reload(media);
+        assertThat(one.getRefCount()).isEqualTo(1);
+        assertThat(one.getReleasedAt()).isNull();
+
+        LocalDateTime now = now();
+        repository.release(media.getObjectKey(), 1, now);
+        Media zero = reload(media);
+        assertThat(zero.getRefCount()).isZero();
+        assertThat(zero.getReleasedAt()).isEqualTo(now);
+    }
+
+    @Test
+    void releaseNeverGoesNegative() {
+        Media media = persist('b');
+        repository.acquire(media.getSha256());
+        LocalDateTime first = now().minusMinutes(1);
+
+        // 남은 참조보다 많이 해제해도 0에서 멈춤
+        assertThat(repository.release(media.getObjectKey(), 3, first)).isEqualTo(1);
+        assertThat(reload(media).getRefCount()).isZero();
+
+        // 이미 0이면 갱신 없음 (releasedAt도 유지)
+        assertThat(repository.release(media.getObjectKey(), 1, now())).isZero();
+        Media after = reload(media);
+        assertThat(after.getRefCount()).isZero();
+        assertThat(after.getReleasedAt()).isEqualTo(first);
+    }
+
+    @Test
+    void acquireClearsReleasedAt() {
+        Media media = persist('c');
+        assertThat(reload(media).getReleasedAt()).isNotNull();
+
+        repository.acquire(media.getSha256());
+
+        Media acquired = reload(media);
+        assertThat(acquired.getRefCount()).isEqualTo(1);
+        assertThat(acquired.getReleasedAt()).isNull();
+        assertThat(repository.acquire("f".repeat(64))).isZero();
+    }
+
+    @Test
+    void touchOnlyReArmsUnreferencedRows() {
+        Media idle = persist('d');
+        Media used = persist('e');
+        repository.acquire(used.getSha256());
+        LocalDateTime now = now();
+
+        assertThat(repository.touchUnreferenced(idle.getSha256(), now)).isEqualTo(1);
+        assertThat(repository.touchUnreferenced(used.getSha256(), now)).isZero();
+        assertThat(reload(idle).getReleasedAt()).isEqualTo(now);
+        assertThat(reload(used).getReleasedAt()).isNull();
+    }
+
+    @Test
+    void lockRechecksRowsListedForSweep() {
+        LocalDateTime before = now().minusMinutes(10);
+        Media stale = staleRow('1', before);
+        Media reArmed = staleRow('2', before);
+        Media reAcquired = staleRow('3', before);
+
+        List<Long> listed = repository.findUnreferencedIds(before, PageRequest.of(0, 10));
+        assertThat(listed).containsExactly(stale.getId(), reArmed.getId(), reAcquired.getId());
+
+        // 목록 조회 뒤 재예약/재참조
+        repository.touchUnreferenced(reArmed.getSha256(), now());
+        repository.acquire(reAcquired.getSha256());
+        em.clear();
+
+        assertThat(repository.lockUnreferenced(stale.getId(), before)).isPresent();
+        assertThat(repository.lockUnreferenced(reArmed.getId(), before)).isEmpty();
+        assertThat(repository.lockUnreferenced(reAcquired.getId(), before)).isEmpty();
+    }
+
+    @Test
+    void sweeperSkipsRowReArmedAfterListing() {
+        LocalDateTime old = now().minusSeconds(GRACE_MS / 1000 * 2);
+        Media stale = staleRow('4', old);
+        Media reArmed = staleRow('5', old);
+        InMemoryS3Client s3 = new InMemoryS3Client();
+        s3.store(stale.getObjectKey(), stale.getSha256(), 10L, "image/png", Instant.now());
+        s3.store(reArmed.getObjectKey(), reArmed.getSha256(), 10L, "image/png", Instant.now());
+
+        // 목록 조회 직후 다른 요청이 같은 해시를 reserve한 상황
+        MediaRepository racing = mock(MediaRepository.class, delegatesTo(repository));
+        doAnswer(inv -> {
+            List<Long> ids = repository.findUnreferencedIds(inv.getArgument(0), inv.getArgument(1));
+            repository.touchUnreferenced(reArmed.getSha256(), now());
+            em.clear();
+            return ids;
+        }).when(racing).findUnreferencedIds(any(), any());
+
+        sweeper(racing, s3).sweep();
+
+        assertThat(repository.findById(stale.getId())).isEmpty();
+        assertThat(s3.exists(stale.getObjectKey())).isFalse();
+        assertThat(repository.findById(reArmed.getId())).isPresent();
+        assertThat(s3.exists(reArmed.getObjectKey())).isTrue();
+    }
+
+    private MediaSweeper sweeper(MediaRepository mediaRepository, InMemoryS3Client s3) {
+        AwsProperties aws = new AwsProperties(null, "ap-northeast-2",
+                new AwsProperties.S3("public", "private", "highlights/", null, null, null));
+        return new MediaSweeper(mediaRepository, s3, aws, new TransactionTemplate(transactionManager),
+                mock(PresignedUrlCache.class), new SimpleMeterRegistry(), GRACE_MS, 100);
+    }
+
+    /** DB 타임스탬프 정밀도에 맞춰 절삭 (동등 비교용) */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private Media persist(char c) {
+        String sha256 = String.valueOf(c).repeat(64);
+        return em.persistAndFlush(new Media(sha256, MediaStore.keyOf(sha256), 10L, "image/png"));
+    }
+
+    /** 참조 0 + releasedAt을 과거로 */
+    private Media staleRow(char c, LocalDateTime releasedAt) {
+        Media media = persist(c);
+        em.getEntityManager()
+                .createQuery("update Media m set m.releasedAt = :t where m.id = :id")
+                .setParameter("t", releasedAt.minusSeconds(1))
+                .setParameter("id", media.getId())
+                .executeUpdate();
+        em.clear();
+        return media;
+    }
+
+    private Media reload(Media media) {
+        em.clear();
+        return repository.findById(media.getId()).orElseThrow();
+    }
+}
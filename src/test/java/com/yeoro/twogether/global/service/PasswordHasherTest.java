@@ -0,0 +1,128 @@
+package com.yeoro.twogether.global.service;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    void encodeAndMatchRoundTrip() {
+        hasher = newHasher(2, 4, 3000L);
+
+        String encoded = hasher.encode("pw1234!");
+
+        assertThat(hasher.matches("pw1234!", encoded)).isTrue();
+        assertThat(hasher.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.timer("password.hash", "op", "encode").count()).isEqualTo(1L);
+        assertThat(meterRegistry.timer("password.hash", "op", "matches").count()).isEqualTo(2L);
+    }
+
+    @Test
+    void unusablePasswordNeverMatches() {
+        hasher = newHasher(1, 4, 3000L);
+
+        assertThat(hasher.matches("", PasswordHasher.UNUSABLE_PASSWORD)).isFalse();
+        assertThat(hasher.matches(PasswordHasher.UNUSABLE_PASSWORD, PasswordHasher.UNUSABLE_PASSWORD)).isFalse();
+    }
+
+    @Test
+    void fullQueueRejectsImmediately() throws Exception {
+        hasher = newHasher(1, 1, 3000L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 1개는 실행 중, 1개는 대기열 → 세 번째는 즉시 거절
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> hasher.run("test", e -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> hasher.run("test", e -> null));
+        waitForQueued(1);
+
+        try {
+            assertBusy(() -> hasher.encode("pw"));
+            assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+        running.get(2, TimeUnit.SECONDS);
+        queued.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void slowHashTimesOut() {
+        hasher = newHasher(1, 4, 50L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            assertBusy(() -> hasher.run("test", e -> {
+                await(release);
+                return null;
+            }));
+            assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void workFailurePropagatesAsIs() {
+        hasher = newHasher(1, 4, 3000L);
+
+        assertThatThrownBy(() -> hasher.run("test", e -> {
+            throw new ServiceException(ErrorCode.PASSWORD_NOT_MATCH);
+        }))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PASSWORD_NOT_MATCH);
+    }
+
+    private PasswordHasher newHasher(int threads, int queueCapacity, long maxWaitMs) {
+        // 테스트 속도를 위해 최소 strength
+        return new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, threads, queueCapacity, maxWaitMs);
+    }
+
+    private void waitForQueued(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000L;
+        while (meterRegistry.get("password.hash.executor.queue").gauge().value() < size) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("task not queued");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertBusy(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PASSWORD_HASHER_BUSY);
+    }
+}
@@ -0,0 +1,182 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import com.yeoro.twogether.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectUploadServiceTest extends EmbeddedRedisSupport {
+
+    private static final String SHA256 = "a".repeat(64);
+    private static final String KEY = MediaStore.keyOf(SHA256);
+    private static final long SIZE = 1024L;
+    private static final String TYPE = "image/jpeg";
+
+    private InMemoryS3Client s3;
+    private S3Presigner presigner;
+    private MediaStore mediaStore;
+    private DirectUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3Client();
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIDEXAMPLE", "secret")))
+                .build();
+        mediaStore = mock(MediaStore.class);
+        AwsProperties aws = new AwsProperties(null, "ap-northeast-2",
+                new AwsProperties.S3("public", "private", "highlights/", null, null, null));
+        service = new DirectUploadService(s3, presigner, aws, mediaStore, redis, new SimpleMeterRegistry(),
+                20L * 1024 * 1024, "image/jpeg,image/png", 300_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    void presignReservesRowEvenForExistingImage() {
+        when(mediaStore.isReferenced(SHA256)).thenReturn(true);
+
+        DirectUploadService.PresignedUpload up = service.presign(1L, request(SHA256));
+
+        assertThat(up.key()).isEqualTo(KEY);
+        assertThat(up.url()).contains("X-Amz-Signature=");
+        assertThat(up.headers()).containsKey("x-amz-checksum-sha256");
+        verify(mediaStore).reserve(SHA256, KEY, SIZE, TYPE);
+    }
+
+    @Test
+    void finalizeAfterUploadAcquiresAndConsumesGrant() {
+        service.presign(1L, request(SHA256));
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now());
+        when(mediaStore.acquireExisting(SHA256)).thenReturn(true);
+
+        DirectUploadService.Finalized f = service.verifyUpload(1L, KEY);
+        service.acquire(1L, f);
+
+        assertThat(f.sha256()).isEqualTo(SHA256);
+        assertThat(f.size()).isEqualTo(SIZE);
+        assertThatThrownBy(() -> service.verifyUpload(1L, KEY))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    void verifyTouchesNoMediaRow() {
+        service.presign(1L, request(SHA256));
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now());
+
+        service.verifyUpload(1L, KEY);
+
+        // HEAD 단계에서는 참조/행 잠금을 잡지 않음
+        verify(mediaStore, never()).acquireExisting(anyString());
+    }
+
+    @Test
+    void finalizeWithoutOwnPresignIsRejected() {
+        service.presign(1L, request(SHA256));
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now());
+
+        // 키만 알고 있는 다른 회원
+        assertThatThrownBy(() -> service.verifyUpload(2L, KEY))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    void finalizeWithoutUploadingAfterPresignIsRejected() {
+        // 이미 올라가 있던 객체 → presign만 받고 PUT 없이 확정 시도
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now().minus(Duration.ofHours(1)));
+        service.presign(2L, request(SHA256));
+
+        assertThatThrownBy(() -> service.verifyUpload(2L, KEY))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    void finalizeWithMissingObjectIsRejected() {
+        service.presign(1L, request(SHA256));
+
+        assertThatThrownBy(() -> service.verifyUpload(1L, KEY))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    void acquireFailsWhenRowWasSweptAfterVerify() {
+        service.presign(1L, request(SHA256));
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now());
+        DirectUploadService.Finalized f = service.verifyUpload(1L, KEY);
+        when(mediaStore.acquireExisting(SHA256)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.acquire(1L, f))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+        verify(mediaStore, never()).registerAndAcquire(anyString(), anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    void grantIsConsumedOnlyAfterCommit() {
+        service.presign(1L, request(SHA256));
+        s3.store(KEY, SHA256, SIZE, TYPE, Instant.now());
+        when(mediaStore.acquireExisting(SHA256)).thenReturn(true);
+        DirectUploadService.Finalized f = service.verifyUpload(1L, KEY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.acquire(1L, f);
+            // 롤백되면 같은 업로드로 다시 확정 가능
+            assertThat(service.verifyUpload(1L, KEY)).isEqualTo(f);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThatThrownBy(() -> service.verifyUpload(1L, KEY))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    void presignRequestConstraints() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertThat(validator.validate(request(SHA256))).isEmpty();
+        assertThat(validator.validate(request("not-a-hash"))).isNotEmpty();
+        assertThat(validator.validate(new DirectUploadService.PresignRequest(SHA256, 0, TYPE))).isNotEmpty();
+        assertThat(validator.validate(new DirectUploadService.PresignRequest(SHA256, SIZE, " "))).isNotEmpty();
+    }
+
+    private static DirectUploadService.PresignRequest request(String sha256) {
+        return new DirectUploadService.PresignRequest(sha256, SIZE, TYPE);
+    }
+}
@@ -0,0 +1,178 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.entity.Media;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.repository.MediaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MediaStoreTest {
+
+    private static final String SHA256 = "b".repeat(64);
+    private static final String KEY = MediaStore.keyOf(SHA256);
+
+    private MediaRepository mediaRepository;
+    private S3Uploader uploader;
+    private MediaStore store;
+
+    @BeforeEach
+    void setUp() {
+        mediaRepository = mock(MediaRepository.class);
+        uploader = mock(S3Uploader.class);
+        store = new MediaStore(mediaRepository, uploader, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void reserveOnExistingUnreferencedRowRestartsGrace() {
+        when(mediaRepository.saveAndFlush(any(Media.class))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(mediaRepository.touchUnreferenced(eq(SHA256), any())).thenReturn(1);
+
+        store.reserve(SHA256, KEY, 10L, "image/png");
+
+        verify(mediaRepository).touchUnreferenced(eq(SHA256), any());
+    }
+
+    @Test
+    void reserveOnReferencedRowLeavesItAlone() {
+        when(mediaRepository.saveAndFlush(any(Media.class))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(mediaRepository.touchUnreferenced(eq(SHA256), any())).thenReturn(0);
+        when(mediaRepository.existsBySha256(SHA256)).thenReturn(true);
+
+        store.reserve(SHA256, KEY, 10L, "image/png");
+
+        verify(mediaRepository, times(1)).saveAndFlush(any(Media.class));
+    }
+
+    @Test
+    void reserveRegistersAgainWhenSweeperDeletedRow() {
+        // 충돌 직후 스위퍼가 행을 지운 경우 → 다시 등록
+        when(mediaRepository.saveAndFlush(any(Media.class)))
+                .thenThrow(new DataIntegrityViolationException("dup"))
+                .thenAnswer(inv -> inv.getArgument(0));
+        when(mediaRepository.touchUnreferenced(eq(SHA256), any())).thenReturn(0);
+        when(mediaRepository.existsBySha256(SHA256)).thenReturn(false);
+
+        store.reserve(SHA256, KEY, 10L, "image/png");
+
+        verify(mediaRepository, times(2)).saveAndFlush(any(Media.class));
+    }
+
+    @Test
+    void reserveGivesUpAfterRepeatedConflicts() {
+        when(mediaRepository.saveAndFlush(any(Media.class))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(mediaRepository.touchUnreferenced(eq(SHA256), any())).thenReturn(0);
+        when(mediaRepository.existsBySha256(SHA256)).thenReturn(false);
+
+        assertThatThrownBy(() -> store.reserve(SHA256, KEY, 10L, "image/png"))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    @Test
+    void stageReservesBeforeUpload() {
+        when(mediaRepository.saveAndFlush(any(Media.class))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(mediaRepository.touchUnreferenced(eq(SHA256), any())).thenReturn(1);
+        S3Uploader.Spooled file = new S3Uploader.Spooled(Path.of("unused"), 10L, SHA256);
+
+        store.stage(file, "image/png");
+
+        InOrder order = inOrder(mediaRepository, uploader);
+        order.verify(mediaRepository).touchUnreferenced(eq(SHA256), any());
+        order.verify(uploader).put(KEY, "image/png", file);
+    }
+
+    @Test
+    void stageSkipsUploadWhenReferenced() {
+        when(mediaRepository.existsBySha256AndRefCountGreaterThan(SHA256, 0)).thenReturn(true);
+
+        store.stage(new S3Uploader.Spooled(Path.of("unused"), 10L, SHA256), "image/png");
+
+        verify(uploader, never()).put(any(), any(), any());
+        verify(mediaRepository, never()).saveAndFlush(any(Media.class));
+    }
+
+    @Test
+    void acquireHitSkipsUpload() {
+        when(mediaRepository.acquire(SHA256)).thenReturn(1);
+
+        assertThat(store.acquire(spooled(), "image/png")).isEqualTo(KEY);
+
+        verify(uploader, never()).put(any(), any(), any());
+        verify(mediaRepository, never()).saveAndFlush(any(Media.class));
+    }
+
+    @Test
+    void acquireMissUploadsRegistersAndReferences() {
+        when(mediaRepository.acquire(SHA256)).thenReturn(0, 1);
+        when(mediaRepository.saveAndFlush(any(Media.class))).thenAnswer(inv -> inv.getArgument(0));
+        S3Uploader.Spooled file = spooled();
+
+        assertThat(store.acquire(file, "image/png")).isEqualTo(KEY);
+
+        InOrder order = inOrder(uploader, mediaRepository);
+        order.verify(uploader).put(KEY, "image/png", file);
+        order.verify(mediaRepository).saveAndFlush(any(Media.class));
+        order.verify(mediaRepository).acquire(SHA256);
+    }
+
+    @Test
+    void acquireStagedFailsWhenRowWasSwept() {
+        when(mediaRepository.acquire(SHA256)).thenReturn(0);
+
+        assertThatThrownBy(() -> store.acquireStaged(SHA256))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    @Test
+    void releaseIgnoresLegacyKeys() {
+        assertThat(store.release("highlights/legacy-uuid.jpg")).isFalse();
+        assertThat(store.release(KEY)).isTrue();
+
+        verify(mediaRepository).release(eq(KEY), eq(1), any());
+        verify(mediaRepository, times(1)).release(any(), anyInt(), any());
+    }
+
+    @Test
+    void releaseAllGroupsSameKey() {
+        String other = MediaStore.keyOf("c".repeat(64));
+
+        List<String> unmanaged = store.releaseAll(Arrays.asList(KEY, other, KEY, "profile/old.jpg", null, " "));
+
+        assertThat(unmanaged).containsExactly("profile/old.jpg");
+        verify(mediaRepository).release(eq(KEY), eq(2), any());
+        verify(mediaRepository).release(eq(other), eq(1), any());
+    }
+
+    @Test
+    void sha256OfRejectsForeignLayout() {
+        assertThat(MediaStore.sha256Of(KEY)).isEqualTo(SHA256);
+        assertThat(MediaStore.sha256Of("media/zz/" + SHA256)).isNull();
+        assertThat(MediaStore.sha256Of("highlights/" + SHA256)).isNull();
+    }
+
+    private static S3Uploader.Spooled spooled() {
+        return new S3Uploader.Spooled(Path.of("unused"), 10L, SHA256);
+    }
+}
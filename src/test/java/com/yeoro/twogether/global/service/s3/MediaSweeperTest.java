@@ -0,0 +1,103 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.entity.Media;
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.global.repository.MediaRepository;
+import com.yeoro.twogether.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MediaSweeperTest {
+
+    private static final String SHA256 = "d".repeat(64);
+    private static final String KEY = MediaStore.keyOf(SHA256);
+
+    private MediaRepository mediaRepository;
+    private PresignedUrlCache presignedUrlCache;
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryS3Client s3;
+
+    @BeforeEach
+    void setUp() {
+        mediaRepository = mock(MediaRepository.class);
+        presignedUrlCache = mock(PresignedUrlCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        s3 = new InMemoryS3Client();
+        s3.store(KEY, SHA256, 10L, "image/png", Instant.now());
+        when(mediaRepository.findUnreferencedIds(any(), any())).thenReturn(List.of(1L));
+    }
+
+    @Test
+    void deletesRowObjectAndCachedUrl() {
+        Media media = media();
+        when(mediaRepository.lockUnreferenced(eq(1L), any())).thenReturn(Optional.of(media));
+
+        sweeper(s3).sweep();
+
+        assertThat(s3.exists(KEY)).isFalse();
+        verify(mediaRepository).delete(media);
+        verify(presignedUrlCache).evict(KEY);
+        assertThat(meterRegistry.counter("media.sweep.deleted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsObjectWhenRowWasReferencedOrReArmed() {
+        // 목록 조회 뒤 다시 참조되거나 reserve로 유예 시간이 갱신된 행
+        when(mediaRepository.lockUnreferenced(eq(1L), any())).thenReturn(Optional.empty());
+
+        sweeper(s3).sweep();
+
+        assertThat(s3.exists(KEY)).isTrue();
+        verify(mediaRepository, never()).delete(any(Media.class));
+    }
+
+    @Test
+    void s3FailureLeavesRowForNextRun() {
+        when(mediaRepository.lockUnreferenced(eq(1L), any())).thenReturn(Optional.of(media()));
+        InMemoryS3Client failing = new InMemoryS3Client() {
+            @Override
+            public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+                throw S3Exception.builder().statusCode(503).message("slow down").build();
+            }
+        };
+
+        sweeper(failing).sweep();
+
+        // 트랜잭션 롤백 → 행은 남고 다음 주기에 재시도
+        assertThat(meterRegistry.counter("media.sweep.deleted").count()).isZero();
+        verify(presignedUrlCache, never()).evict(any());
+    }
+
+    private MediaSweeper sweeper(InMemoryS3Client client) {
+        AwsProperties aws = new AwsProperties(null, "ap-northeast-2",
+                new AwsProperties.S3("public", "private", "highlights/", null, null, null));
+        return new MediaSweeper(mediaRepository, client, aws,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                presignedUrlCache, meterRegistry, 600_000L, 100);
+    }
+
+    private static Media media() {
+        Media media = new Media(SHA256, KEY, 10L, "image/png");
+        ReflectionTestUtils.setField(media, "id", 1L);
+        return media;
+    }
+}
@@ -0,0 +1,84 @@
+package com.yeoro.twogether.global.service.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresignedUrlCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(3);
+
+    private SigV4Presigner presigner;
+    private PresignedUrlCache cache;
+    private int signed;
+
+    @BeforeEach
+    void setUp() {
+        presigner = mock(SigV4Presigner.class);
+        when(presigner.presignGetAll(anyCollection(), any())).thenAnswer(inv -> {
+            Collection<String> keys = inv.getArgument(0);
+            Duration ttl = inv.getArgument(1);
+            Map<String, String> urls = new LinkedHashMap<>();
+            for (String key : keys) urls.put(key, "https://s3/" + key + "?ttl=" + ttl.toSeconds() + "&n=" + (++signed));
+            return urls;
+        });
+        when(presigner.presignGet(any(), any())).thenAnswer(inv ->
+                presigner.presignGetAll(List.of((String) inv.getArgument(0)), inv.getArgument(1)).get(inv.getArgument(0)));
+        cache = new PresignedUrlCache(presigner, new SimpleMeterRegistry(), 1000L, 0.5);
+    }
+
+    @Test
+    void sameKeyReturnsSameUrlUntilEvicted() {
+        String first = cache.get("media/ab/x", TTL);
+
+        assertThat(cache.get("media/ab/x", TTL)).isEqualTo(first);
+
+        cache.evict("media/ab/x");
+        assertThat(cache.get("media/ab/x", TTL)).isNotEqualTo(first);
+    }
+
+    @Test
+    void differentTtlResignsAndReplaces() {
+        String threeHours = cache.get("media/ab/x", TTL);
+        String oneHour = cache.get("media/ab/x", Duration.ofHours(1));
+
+        assertThat(oneHour).isNotEqualTo(threeHours).contains("ttl=3600");
+        assertThat(cache.get("media/ab/x", Duration.ofHours(1))).isEqualTo(oneHour);
+    }
+
+    @Test
+    void getAllSignsOnlyMissesInOneBatch() {
+        String cached = cache.get("a", TTL);
+
+        Map<String, String> urls = cache.getAll(List.of("a", "b", "c"), TTL);
+
+        assertThat(urls).containsOnlyKeys("a", "b", "c");
+        assertThat(urls.get("a")).isEqualTo(cached);
+        verify(presigner).presignGetAll(argThat(keys -> keys.size() == 2 && keys.containsAll(List.of("b", "c"))), eq(TTL));
+    }
+
+    @Test
+    void evictForcesResign() {
+        cache.getAll(List.of("a"), TTL);
+        cache.evict("a");
+
+        cache.getAll(List.of("a"), TTL);
+        verify(presigner, times(2)).presignGetAll(eq(List.of("a")), eq(TTL));
+    }
+}
@@ -0,0 +1,232 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import com.yeoro.twogether.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3UploaderTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @TempDir
+    Path spoolDir;
+
+    private RecordingS3Client s3;
+    private SimpleMeterRegistry meterRegistry;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new RecordingS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+        AwsProperties aws = new AwsProperties(null, "ap-northeast-2",
+                new AwsProperties.S3("public", "private", "highlights/", null, null, null));
+        // 1MiB 이상은 멀티파트, 파트 크기는 S3 최소값(5MiB)으로 보정됨
+        uploader = new S3Uploader(s3, aws, meterRegistry, spoolDir.toString(), MIB, 1L);
+    }
+
+    @Test
+    void spoolHashesWhileCopying() throws Exception {
+        byte[] content = random(300_000);
+
+        try (S3Uploader.Spooled file = uploader.spool(multipart(content))) {
+            assertThat(file.size()).isEqualTo(content.length);
+            assertThat(file.sha256()).isEqualTo(sha256(content));
+            assertThat(Files.readAllBytes(file.path())).isEqualTo(content);
+            assertThat(file.path().getParent()).isEqualTo(spoolDir);
+        }
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    @Test
+    void failedSpoolLeavesNoTempFile() {
+        MockMultipartFile broken = new MockMultipartFile("file", "a.png", "image/png", new byte[0]) {
+            @Override
+            public InputStream getInputStream() {
+                return new InputStream() {
+                    private int left = 10_000;
+
+                    @Override
+                    public int read() throws IOException {
+                        if (left-- <= 0) throw new IOException("connection reset");
+                        return 0;
+                    }
+                };
+            }
+        };
+
+        assertThatThrownBy(() -> uploader.spool(broken)).isInstanceOf(IOException.class);
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    @Test
+    void smallFileIsSinglePut() throws Exception {
+        byte[] content = random(100_000);
+
+        try (S3Uploader.Spooled file = uploader.spool(multipart(content))) {
+            uploader.put("media/a", "image/png", file);
+        }
+
+        assertThat(s3.bodies.get("media/a")).isEqualTo(content);
+        assertThat(s3.metadata.get("media/a")).containsEntry("sha256", sha256(content));
+        assertThat(s3.partCounts).isEmpty();
+        assertThat(meterRegistry.timer("s3.upload", "mode", "single").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void largeFileIsUploadedInParts() throws Exception {
+        byte[] content = random(11 * MIB);
+
+        try (S3Uploader.Spooled file = uploader.spool(multipart(content))) {
+            uploader.put("media/b", "video/mp4", file);
+        }
+
+        // 5MiB + 5MiB + 1MiB
+        assertThat(s3.partCounts.get("media/b")).isEqualTo(3);
+        assertThat(s3.bodies.get("media/b")).isEqualTo(content);
+        assertThat(s3.metadata.get("media/b")).containsEntry("sha256", sha256(content));
+        assertThat(meterRegistry.timer("s3.upload", "mode", "multipart").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void failedPartAbortsUpload() throws Exception {
+        s3.failPart = 2;
+        byte[] content = random(11 * MIB);
+
+        try (S3Uploader.Spooled file = uploader.spool(multipart(content))) {
+            assertThatThrownBy(() -> uploader.put("media/c", "video/mp4", file))
+                    .isInstanceOf(S3Exception.class);
+        }
+
+        assertThat(s3.aborted).containsExactly("media/c");
+        assertThat(s3.bodies).doesNotContainKey("media/c");
+    }
+
+    private List<Path> spoolFiles() {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MockMultipartFile multipart(byte[] content) {
+        return new MockMultipartFile("file", "a.bin", "application/octet-stream", content);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    /** 본문까지 보관하고 멀티파트를 조립하는 S3 대역 */
+    private static class RecordingS3Client extends InMemoryS3Client {
+
+        final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+        final Map<String, Map<String, String>> metadata = new ConcurrentHashMap<>();
+        final Map<String, Integer> partCounts = new ConcurrentHashMap<>();
+        final List<String> aborted = new CopyOnWriteArrayList<>();
+        int failPart = -1;
+
+        private final Map<String, CreateMultipartUploadRequest> uploads = new ConcurrentHashMap<>();
+        private final Map<String, TreeMap<Integer, byte[]>> parts = new ConcurrentHashMap<>();
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            bodies.put(request.key(), read(body));
+            metadata.put(request.key(), request.metadata());
+            return super.putObject(request, body);
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + uploads.size();
+            uploads.put(uploadId, request);
+            parts.put(uploadId, new TreeMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            if (request.partNumber() == failPart) {
+                throw S3Exception.builder().statusCode(500).message("part failed").build();
+            }
+            byte[] bytes = read(body);
+            assertThat((long) bytes.length).isEqualTo(request.contentLength());
+            parts.get(request.uploadId()).put(request.partNumber(), bytes);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            TreeMap<Integer, byte[]> uploaded = parts.remove(request.uploadId());
+            List<Integer> completed = request.multipartUpload().parts().stream().map(CompletedPart::partNumber).toList();
+            assertThat(completed).containsExactlyElementsOf(uploaded.keySet());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            uploaded.values().forEach(out::writeBytes);
+            CreateMultipartUploadRequest create = uploads.remove(request.uploadId());
+            bodies.put(request.key(), out.toByteArray());
+            metadata.put(request.key(), create.metadata());
+            partCounts.put(request.key(), uploaded.size());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            parts.remove(request.uploadId());
+            uploads.remove(request.uploadId());
+            aborted.add(request.key());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        private static byte[] read(RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
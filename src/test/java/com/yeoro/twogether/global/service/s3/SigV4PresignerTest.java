@@ -0,0 +1,113 @@
+package com.yeoro.twogether.global.service.s3;
+
+import com.yeoro.twogether.global.properties.AwsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SigV4Presigner ↔ SDK S3Presigner 동등성
+ * - 고정 자격 증명, 서명 시각은 SDK URL의 X-Amz-Date로 고정해 문자열 전체 비교
+ */
+class SigV4PresignerTest {
+
+    private static final String ACCESS_KEY = "AKIDEXAMPLE";
+    private static final String SECRET_KEY = "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY";
+    private static final String BUCKET = "twogether-private";
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private S3Presigner sdk;
+    private SigV4Presigner presigner;
+
+    @BeforeEach
+    void setUp() {
+        sdk = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+                .build();
+        AwsProperties aws = new AwsProperties(
+                new AwsProperties.Credentials(ACCESS_KEY, SECRET_KEY),
+                "ap-northeast-2",
+                new AwsProperties.S3("public", BUCKET, "highlights/", null, null, null));
+        presigner = new SigV4Presigner(sdk, aws, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sdk.close();
+    }
+
+    @Test
+    void selfCheckEnablesDirectSigning() {
+        assertThat(presigner.isEnabled()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "media/ab/abcdef0123456789.jpg",                // ASCII
+            "highlights/2025/서울 데이트-사진.jpg",            // 한글 + 공백
+            "profile/😀 emoji.png",                          // 서로게이트 쌍
+            "media/00/a+b=c&d?e#f%g(1)~!*'@$,;:[].jpeg",     // 예약 문자
+            "highlights/nested/path/with_underscore.v2.webp"
+    })
+    void matchesSdkPresignerByteForByte(String key) {
+        Duration ttl = Duration.ofHours(3);
+        String expected = sdkPresign(key, ttl);
+        Instant signedAt = signedAt(expected);
+
+        String actual = presigner.presignGetAll(List.of(key), ttl, signedAt).get(key);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void batchSharesOneTimestampAndDeduplicates() {
+        Instant now = Instant.parse("2025-06-01T12:34:56Z");
+        Map<String, String> urls = presigner.presignGetAll(List.of("a.jpg", "b.jpg", "a.jpg"), Duration.ofHours(1), now);
+
+        assertThat(urls).containsOnlyKeys("a.jpg", "b.jpg");
+        assertThat(urls.values()).allSatisfy(url -> assertThat(url).contains("X-Amz-Date=20250601T123456Z"));
+    }
+
+    @Test
+    void signingKeyRollsOverAtUtcMidnight() {
+        String key = "media/ab/day.jpg";
+        Duration ttl = Duration.ofHours(1);
+
+        String before = presigner.presignGetAll(List.of(key), ttl, Instant.parse("2025-06-01T23:59:59Z")).get(key);
+        String after = presigner.presignGetAll(List.of(key), ttl, Instant.parse("2025-06-02T00:00:00Z")).get(key);
+
+        assertThat(before).contains("20250601%2Fap-northeast-2%2Fs3%2Faws4_request");
+        assertThat(after).contains("20250602%2Fap-northeast-2%2Fs3%2Faws4_request");
+    }
+
+    private String sdkPresign(String key, Duration ttl) {
+        return sdk.presignGetObject(b -> b
+                        .signatureDuration(ttl)
+                        .getObjectRequest(g -> g.bucket(BUCKET).key(key)))
+                .url()
+                .toString();
+    }
+
+    private static Instant signedAt(String url) {
+        int start = url.indexOf("X-Amz-Date=") + "X-Amz-Date=".length();
+        return Instant.from(AMZ_DATE.parse(url.substring(start, start + 16)));
+    }
+}
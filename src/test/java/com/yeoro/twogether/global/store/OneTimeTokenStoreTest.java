@@ -0,0 +1,135 @@
+package com.yeoro.twogether.global.store;
+
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OneTimeTokenStoreTest extends EmbeddedRedisSupport {
+
+    private static final int THREADS = 32;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private OneTimeTokenStore store;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        store = new OneTimeTokenStore(redis);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentConsumeSucceedsOnce() throws Exception {
+        store.issue("otc:abc", "payload", TTL);
+
+        List<Optional<String>> results = race(() -> store.consume("otc:abc"));
+
+        assertThat(results).filteredOn(Optional::isPresent).hasSize(1);
+        assertThat(redis.hasKey("otc:abc")).isFalse();
+    }
+
+    @Test
+    void issueDoesNotOverwrite() {
+        assertThat(store.issue("state:s", "first", TTL)).isTrue();
+        assertThat(store.issue("state:s", "second", TTL)).isFalse();
+        assertThat(store.consume("state:s")).contains("first");
+        assertThat(store.consume("state:s")).isEmpty();
+    }
+
+    @Test
+    void concurrentLinkedConsumeSucceedsOnceAndClearsOwner() throws Exception {
+        store.issueLinked("code:ABC", "7", "owner:7", "ABC", TTL);
+
+        List<Optional<String>> results = race(() -> store.consumeLinked("code:ABC", "owner:", "ABC"));
+
+        assertThat(results).filteredOn(Optional::isPresent).hasSize(1)
+                .allSatisfy(r -> assertThat(r).contains("7"));
+        assertThat(redis.hasKey("code:ABC")).isFalse();
+        assertThat(redis.hasKey("owner:7")).isFalse();
+    }
+
+    @Test
+    void concurrentLinkedIssueBindsOneCodePerOwner() throws Exception {
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) candidates.add("C" + i);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (String code : candidates) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return store.issueLinked("code:" + code, "7", "owner:7", code, TTL);
+            }));
+        }
+        start.countDown();
+
+        List<String> owned = new ArrayList<>();
+        for (Future<String> f : futures) owned.add(f.get());
+
+        String winner = redis.opsForValue().get("owner:7");
+        assertThat(owned).containsOnly(winner);
+        assertThat(redis.keys("code:*")).containsExactly("code:" + winner);
+    }
+
+    @Test
+    void linkedIssueRejectsTakenCode() {
+        assertThat(store.issueLinked("code:ABC", "7", "owner:7", "ABC", TTL)).isEqualTo("ABC");
+        assertThat(store.issueLinked("code:ABC", "8", "owner:8", "ABC", TTL)).isNull();
+        assertThat(redis.hasKey("owner:8")).isFalse();
+    }
+
+    @Test
+    void invalidateRemovesBothKeys() {
+        store.issueLinked("code:ABC", "7", "owner:7", "ABC", TTL);
+
+        assertThat(store.invalidateLinked("owner:7", "code:")).contains("ABC");
+        assertThat(redis.hasKey("code:ABC")).isFalse();
+        assertThat(redis.hasKey("owner:7")).isFalse();
+        assertThat(store.consumeLinked("code:ABC", "owner:", "ABC")).isEmpty();
+    }
+
+    @Test
+    void consumeKeepsOwnerBoundToAnotherCode() {
+        store.issueLinked("code:ABC", "7", "owner:7", "ABC", TTL);
+        // 소유자가 이미 다른 코드로 바뀐 경우
+        redis.opsForValue().set("owner:7", "XYZ");
+
+        assertThat(store.consumeLinked("code:ABC", "owner:", "ABC")).contains("7");
+        assertThat(redis.opsForValue().get("owner:7")).isEqualTo("XYZ");
+    }
+
+    /** 같은 작업을 THREADS개 스레드에서 동시에 시작 */
+    private <T> List<T> race(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> f : futures) results.add(f.get());
+        return results;
+    }
+}
@@ -0,0 +1,66 @@
+package com.yeoro.twogether.global.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OtcStoreTest extends EmbeddedRedisSupport {
+
+    private OtcStore otcStore;
+    private StateStore stateStore;
+
+    @BeforeEach
+    void setUp() {
+        OneTimeTokenStore store = new OneTimeTokenStore(redis);
+        otcStore = new OtcStore(store, new ObjectMapper());
+        stateStore = new StateStore(store);
+    }
+
+    @Test
+    void otcIsConsumedOnce() {
+        String otc = otcStore.issue(7L);
+
+        assertThat(otcStore.consume(otc)).contains(7L);
+        assertThat(otcStore.consume(otc)).isEmpty();
+    }
+
+    @Test
+    void otcCollisionRetriesThenFails() {
+        OneTimeTokenStore colliding = mock(OneTimeTokenStore.class);
+        when(colliding.issue(anyString(), anyString(), any(Duration.class))).thenReturn(false, false, true);
+        assertThat(new OtcStore(colliding, new ObjectMapper()).issue(7L)).isNotBlank();
+        verify(colliding, times(3)).issue(anyString(), anyString(), any(Duration.class));
+
+        OneTimeTokenStore full = mock(OneTimeTokenStore.class);
+        when(full.issue(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        assertThatThrownBy(() -> new OtcStore(full, new ObjectMapper()).issue(7L))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_ISSUE_FAILED);
+    }
+
+    @Test
+    void duplicateStateIsRejectedWithoutOverwrite() {
+        stateStore.save("s1", "nonce-1");
+
+        assertThatThrownBy(() -> stateStore.save("s1", "nonce-2"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_ISSUE_FAILED);
+        assertThat(stateStore.consume("s1")).contains("nonce-1");
+    }
+}
@@ -0,0 +1,125 @@
+package com.yeoro.twogether.global.store;
+
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartnerCodePoolTest extends EmbeddedRedisSupport {
+
+    private static final String POOL_KEY = PartnerCodeStore.HASH_TAG + "pool";
+    private static final int TARGET = 200;
+    private static final int BATCH = 80;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PartnerCodePool pool;
+    private PartnerCodeStore codeStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new PartnerCodePool(redis, meterRegistry, TARGET, BATCH);
+        codeStore = new PartnerCodeStore(redis, new OneTimeTokenStore(redis));
+    }
+
+    @Test
+    void refillTopsUpToTargetInBatches() {
+        pool.refill();
+        assertThat(poolSize()).isEqualTo(BATCH);
+
+        pool.refill();
+        pool.refill();
+        assertThat(poolSize()).isEqualTo(TARGET);
+
+        // 목표 도달 후에는 추가 없음
+        pool.refill();
+        assertThat(poolSize()).isEqualTo(TARGET);
+        assertThat(meterRegistry.get("partner.code.pool.size").gauge().value()).isEqualTo(TARGET);
+        assertThat(meterRegistry.get("partner.code.pool.refilled").counter().count()).isEqualTo(TARGET);
+    }
+
+    @Test
+    void concurrentIssueNeverHandsOutDuplicates() throws Exception {
+        fill();
+        int members = 150;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (long id = 1; id <= members; id++) {
+                Long memberId = id;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return pool.issue(memberId);
+                }));
+            }
+            start.countDown();
+
+            Set<String> codes = new HashSet<>();
+            for (Future<String> f : results) {
+                String code = f.get(10, TimeUnit.SECONDS);
+                assertThat(code).isNotNull();
+                codes.add(code);
+            }
+            assertThat(codes).hasSize(members);
+            assertThat(poolSize()).isEqualTo(TARGET - members);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void issuedCodeIsBoundBothWays() {
+        fill();
+
+        String code = pool.issue(7L);
+
+        assertThat(redis.opsForValue().get(PartnerCodeStore.CODE_PREFIX + code)).isEqualTo("7");
+        assertThat(codeStore.findCodeByMember(7L)).isEqualTo(code);
+        assertThat(redis.getExpire(PartnerCodeStore.CODE_PREFIX + code)).isPositive();
+        assertThat(redis.getExpire(PartnerCodeStore.OWNER_PREFIX + 7L)).isPositive();
+        assertThat(redis.opsForSet().isMember(POOL_KEY, code)).isFalse();
+
+        // 재요청은 같은 코드, 풀은 더 줄지 않음
+        assertThat(pool.issue(7L)).isEqualTo(code);
+        assertThat(poolSize()).isEqualTo(TARGET - 1);
+
+        // 기존 소비 경로와 같은 키 — 소비 시 양방향 삭제
+        assertThat(codeStore.consume(code)).isEqualTo(7L);
+        assertThat(codeStore.findCodeByMember(7L)).isNull();
+    }
+
+    @Test
+    void emptyPoolFallsBackToRandomIssue() {
+        assertThat(pool.issue(7L)).isNull();
+        assertThat(meterRegistry.get("partner.code.issued").tag("source", "fallback").counter().count())
+                .isEqualTo(1.0);
+
+        // 폴백(기존 랜덤 발급) 코드도 같은 키라 이후 풀 발급은 소유 코드를 그대로 반환
+        String fallback = codeStore.issue("FALLBACK1", 7L);
+        fill();
+        assertThat(pool.issue(7L)).isEqualTo(fallback);
+        assertThat(poolSize()).isEqualTo(TARGET);
+    }
+
+    private void fill() {
+        while (poolSize() < TARGET) pool.refill();
+    }
+
+    private long poolSize() {
+        Long size = redis.opsForSet().size(POOL_KEY);
+        return size == null ? 0 : size;
+    }
+}
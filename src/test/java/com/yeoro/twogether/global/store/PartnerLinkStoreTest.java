@@ -0,0 +1,71 @@
+package com.yeoro.twogether.global.store;
+
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartnerLinkStoreTest extends EmbeddedRedisSupport {
+
+    private PartnerLinkStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PartnerLinkStore(redis, listenerContainer(), 0L, 1000L);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bumpWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.bumpAfterCommit(1L, 2L, null);
+        assertThat(store.current(1L)).isZero();
+        assertThat(store.current(2L)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(store.current(1L)).isPositive();
+        assertThat(store.current(2L)).isPositive();
+    }
+
+    @Test
+    void rollbackDoesNotBump() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.bumpAfterCommit(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(store.current(1L)).isZero();
+    }
+
+    @Test
+    void bumpOutsideTransactionIsImmediateAndPermanent() {
+        store.bumpAfterCommit(1L);
+
+        assertThat(store.current(1L)).isPositive();
+        assertThat(redis.getExpire("partner:link:1")).isEqualTo(-1L);
+    }
+
+    @Test
+    void versionDoesNotRepeatAfterKeyLoss() throws InterruptedException {
+        long before = store.bump(1L);
+
+        redis.delete("partner:link:1");
+        store.evictLocal(1L);
+        Thread.sleep(2);
+
+        // 카운터였다면 다시 1 — 예전 plv를 가진 토큰이 다시 신뢰됨
+        assertThat(store.bump(1L)).isGreaterThan(before);
+    }
+}
@@ -0,0 +1,108 @@
+package com.yeoro.twogether.global.store;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.properties.RateLimitProperties;
+import com.yeoro.twogether.global.properties.RateLimitProperties.KeyType;
+import com.yeoro.twogether.global.properties.RateLimitProperties.Policy;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class RateLimiterTest extends EmbeddedRedisSupport {
+
+    private static final String BURST = "burst";
+    private static final String FAST = "fast";
+    private static final String EMAIL = "email";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new RateLimiter(redis, meterRegistry, properties());
+    }
+
+    @Test
+    void burstUpToCapacityThenRejects() {
+        assertThat(limiter.tryAcquire(BURST, "1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire(BURST, "1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire(BURST, "1.2.3.4")).isPositive().isLessThanOrEqualTo(1000L);
+
+        // 다른 키는 별도 버킷
+        assertThat(limiter.tryAcquire(BURST, "5.6.7.8")).isZero();
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        assertThat(limiter.tryAcquire(FAST, "k")).isZero();
+        long wait = limiter.tryAcquire(FAST, "k");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(50L);
+
+        Thread.sleep(wait + 20);
+
+        assertThat(limiter.tryAcquire(FAST, "k")).isZero();
+    }
+
+    @Test
+    void blockedKeyIsRejectedLocallyWithoutRedis() {
+        limiter.tryAcquire(BURST, "k");
+        limiter.tryAcquire(BURST, "k");
+        assertThat(limiter.tryAcquire(BURST, "k")).isPositive();
+
+        // Redis 버킷이 사라져도 차단 시각까지는 로컬에서 거절
+        redis.delete("rl:" + BURST + ":k");
+
+        assertThat(limiter.tryAcquire(BURST, "k")).isPositive();
+        assertThat(meterRegistry.counter("rate.limit.rejected", "policy", BURST, "source", "redis").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("rate.limit.rejected", "policy", BURST, "source", "local").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void redisFailureAllowsRequest() {
+        StringRedisTemplate down = mock(StringRedisTemplate.class, inv -> {
+            throw new RedisConnectionFailureException("down");
+        });
+        RateLimiter failOpen = new RateLimiter(down, meterRegistry, properties());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(failOpen.tryAcquire(BURST, "k")).isZero();
+        }
+    }
+
+    @Test
+    void emailVariantsShareOneBucket() {
+        limiter.check(EMAIL, "User@Example.com");
+        limiter.check(EMAIL, "  user@example.COM ");
+
+        assertThatThrownBy(() -> limiter.check(EMAIL, "user@example.com"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(redis.hasKey("rl:" + EMAIL + ":user@example.com")).isTrue();
+    }
+
+    @Test
+    void unknownOrInactivePolicyAllows() {
+        assertThat(limiter.tryAcquire("missing", "k")).isZero();
+        assertThat(limiter.tryAcquire(BURST, null)).isZero();
+    }
+
+    private static RateLimitProperties properties() {
+        return new RateLimitProperties(true, false, Map.of(
+                BURST, new Policy("/burst", KeyType.IP, 2, 1.0),
+                FAST, new Policy("/fast", KeyType.IP, 1, 50.0),
+                EMAIL, new Policy("/email", KeyType.EMAIL, 2, 0.01)
+        ));
+    }
+}
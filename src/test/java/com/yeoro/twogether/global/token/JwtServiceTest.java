@@ -0,0 +1,116 @@
+package com.yeoro.twogether.global.token;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 기동 시 1회 만든 서명 키/파서로 발급·검증 */
+class JwtServiceTest extends EmbeddedRedisSupport {
+
+    private static final String SECRET = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+    private static final String OTHER_SECRET = "ffeeddccbbaa99887766554433221100ffeeddccbbaa99887766554433221100";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newService(SECRET);
+    }
+
+    @Test
+    void issuedTokenParsesWithSubjectAndJti() {
+        String token = jwtService.createAccessToken(7L);
+
+        var claims = jwtService.parseAndValidateToken(token);
+
+        assertThat(claims.getSubject()).isEqualTo("7");
+        assertThat(claims.getId()).isNotBlank();
+        assertThat(jwtService.extractMemberId(claims)).isEqualTo(7L);
+        assertThat(jwtService.getRemainingTime(token)).isPositive();
+    }
+
+    @Test
+    void tokenFromAnotherKeyIsInvalid() {
+        String foreign = newService(OTHER_SECRET).createAccessToken(7L);
+
+        assertError(foreign, ErrorCode.TOKEN_INVALID);
+    }
+
+    @Test
+    void tamperedTokenIsInvalid() {
+        String token = jwtService.createAccessToken(7L);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+        assertError(tampered, ErrorCode.TOKEN_INVALID);
+    }
+
+    @Test
+    void expiredTokenIsReportedAsExpired() {
+        String expired = jwtService.createToken(new HashMap<>(), -1_000L, 7L);
+
+        assertError(expired, ErrorCode.TOKEN_EXPIRED);
+        assertThat(jwtService.getRemainingTime(expired)).isZero();
+    }
+
+    @Test
+    void blacklistedAccessTokenIsRejected() {
+        String token = jwtService.createAccessToken(7L);
+        String other = jwtService.createAccessToken(7L);
+
+        jwtService.blacklistAccessToken(token);
+
+        assertError(token, ErrorCode.ACCESS_TOKEN_BLACKLISTED);
+        assertThat(jwtService.parseAndValidateToken(other).getSubject()).isEqualTo("7");
+    }
+
+    @Test
+    void sharedParserIsSafeAcrossThreads() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (long id = 1; id <= 64; id++) tokens.add(jwtService.createAccessToken(id));
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> subjects = new ArrayList<>();
+            for (String token : tokens) {
+                subjects.add(pool.submit(() -> jwtService.parseAndValidateToken(token).getSubject()));
+            }
+            for (int i = 0; i < tokens.size(); i++) {
+                assertThat(subjects.get(i).get()).isEqualTo(String.valueOf(i + 1));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void assertError(String token, ErrorCode code) {
+        assertThatThrownBy(() -> jwtService.parseAndValidateToken(token))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode").isEqualTo(code);
+    }
+
+    private static JwtService newService(String secret) {
+        RedisMessageListenerContainer container = listenerContainer();
+        TokenEpochStore epochStore = new TokenEpochStore(redis, container, 0L, 1000L);
+        JwtService service = new JwtService(redis, new AccessTokenRevocationCache(redis, container, 1000L), epochStore);
+        ReflectionTestUtils.setField(service, "secretKeyHex", secret);
+        ReflectionTestUtils.setField(service, "accessTokenExpiration", 60_000L);
+        ReflectionTestUtils.setField(service, "refreshTokenExpiration", 120_000L);
+        service.initSigningKey();
+        return service;
+    }
+}
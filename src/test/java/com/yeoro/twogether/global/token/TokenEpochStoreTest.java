@@ -0,0 +1,91 @@
+package com.yeoro.twogether.global.token;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenEpochStoreTest extends EmbeddedRedisSupport {
+
+    private static final String SECRET = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+    private static final Long MEMBER_ID = 1L;
+
+    private TokenEpochStore epochStore;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        RedisMessageListenerContainer container = listenerContainer();
+        // 로컬 캐시 없이 매번 Redis 값으로 판단
+        epochStore = new TokenEpochStore(redis, container, 0L, 1000L);
+        jwtService = new JwtService(redis, new AccessTokenRevocationCache(redis, container, 1000L), epochStore);
+        ReflectionTestUtils.setField(jwtService, "secretKeyHex", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 120_000L);
+        jwtService.initSigningKey();
+    }
+
+    @Test
+    void revokeRejectsTokensIssuedBefore() {
+        String before = issue();
+        jwtService.revokeAllTokens(MEMBER_ID);
+        String after = issue();
+
+        assertRevoked(before);
+        assertThat(jwtService.parseAndValidateToken(after).getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    void epochKeyNeverExpires() {
+        jwtService.revokeAllTokens(MEMBER_ID);
+
+        assertThat(redis.getExpire(TokenEpochStore.KEY_PREFIX + MEMBER_ID)).isEqualTo(-1L);
+    }
+
+    @Test
+    void revokedTokenStaysRejectedAfterEpochKeyIsLost() throws InterruptedException {
+        jwtService.revokeAllTokens(MEMBER_ID);
+        String old = issue();
+        jwtService.revokeAllTokens(MEMBER_ID);
+        assertRevoked(old);
+
+        // 키 유실(만료/플러시) 후 다시 폐기 — 카운터였다면 1로 돌아가 old의 ep와 겹침
+        redis.delete(TokenEpochStore.KEY_PREFIX + MEMBER_ID);
+        epochStore.evictLocal(MEMBER_ID);
+        Thread.sleep(2);
+        jwtService.revokeAllTokens(MEMBER_ID);
+
+        assertRevoked(old);
+    }
+
+    @Test
+    void bumpNeverGoesBelowLegacyCounter() {
+        long farFuture = System.currentTimeMillis() + 3_600_000L;
+        redis.opsForValue().set(TokenEpochStore.KEY_PREFIX + MEMBER_ID, String.valueOf(farFuture));
+
+        assertThat(epochStore.bump(MEMBER_ID)).isEqualTo(farFuture + 1);
+        assertThat(epochStore.bump(MEMBER_ID)).isEqualTo(farFuture + 2);
+    }
+
+    private String issue() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", MEMBER_ID);
+        return jwtService.createToken(claims, 60_000L, MEMBER_ID);
+    }
+
+    private void assertRevoked(String token) {
+        assertThatThrownBy(() -> jwtService.parseAndValidateToken(token))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCESS_TOKEN_BLACKLISTED);
+    }
+}
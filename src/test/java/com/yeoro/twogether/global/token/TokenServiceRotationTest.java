@@ -0,0 +1,157 @@
+package com.yeoro.twogether.global.token;
+
+import com.yeoro.twogether.global.exception.ErrorCode;
+import com.yeoro.twogether.global.exception.ServiceException;
+import com.yeoro.twogether.global.store.PartnerLinkStore;
+import com.yeoro.twogether.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenServiceRotationTest extends EmbeddedRedisSupport {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final long REFRESH_TTL = 60_000L;
+
+    private TokenService tokenService;
+    private TokenEpochStore epochStore;
+
+    @BeforeEach
+    void setUp() {
+        RedisMessageListenerContainer container = listenerContainer();
+        epochStore = new TokenEpochStore(redis, container, 0L, 1000L);
+        PartnerLinkStore partnerLinkStore = new PartnerLinkStore(redis, container, 0L, 1000L);
+        // 회전 스크립트만 검증 — JwtService는 사용하지 않음
+        tokenService = new TokenService(null, redis, partnerLinkStore, epochStore);
+        ReflectionTestUtils.setField(tokenService, "refreshExpiration", REFRESH_TTL);
+        ReflectionTestUtils.setField(tokenService, "reuseGraceMs", 10_000L);
+    }
+
+    @Test
+    void rotationReplacesStoredToken() {
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+
+        TokenPair result = tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r2"));
+
+        assertThat(result.getRefreshToken()).isEqualTo("r2");
+        assertThat(tokenService.getRefreshTokenFromRedis(MEMBER_ID)).contains("r2");
+    }
+
+    @Test
+    void usedJtiKeysExpireWithTheirToken() {
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+        tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r2"));
+        tokenService.rotateRefreshToken(credential("r2", "j2"), pair("r3"));
+        tokenService.rotateRefreshToken(credential("r3", "j3"), pair("r4"));
+
+        Set<String> used = redis.keys("refresh:used:" + MEMBER_ID + ":*");
+        assertThat(used).hasSize(3);
+        for (String key : used) {
+            Long ttl = redis.getExpire(key);
+            assertThat(ttl).isNotNull().isPositive().isLessThanOrEqualTo(REFRESH_TTL / 1000);
+        }
+    }
+
+    @Test
+    void reuseWithinGraceIssuesNoCredential() {
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+        tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r2"));
+
+        // 유예 내라도 현재 토큰(r2)을 돌려주지 않음
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r3")))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_IN_PROGRESS);
+        assertThat(tokenService.getRefreshTokenFromRedis(MEMBER_ID)).contains("r2");
+        assertThat(epochStore.current(MEMBER_ID)).isZero();
+    }
+
+    @Test
+    void concurrentRefreshStormRotatesExactlyOnce() throws Exception {
+        int threads = 32;
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                String next = "r2-" + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        return tokenService.rotateRefreshToken(credential("r1", "j1"), pair(next));
+                    } catch (ServiceException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<TokenPair> rotated = new ArrayList<>();
+            Map<ErrorCode, Integer> rejected = new EnumMap<>(ErrorCode.class);
+            for (Future<Object> f : results) {
+                Object r = f.get(10, TimeUnit.SECONDS);
+                if (r instanceof TokenPair pair) rotated.add(pair);
+                else rejected.merge((ErrorCode) r, 1, Integer::sum);
+            }
+
+            assertThat(rotated).hasSize(1);
+            assertThat(rejected).containsOnlyKeys(ErrorCode.REFRESH_IN_PROGRESS);
+            assertThat(rejected.get(ErrorCode.REFRESH_IN_PROGRESS)).isEqualTo(threads - 1);
+            assertThat(tokenService.getRefreshTokenFromRedis(MEMBER_ID)).contains(rotated.get(0).getRefreshToken());
+            assertThat(epochStore.current(MEMBER_ID)).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reuseAfterGraceRevokesAllSessions() throws InterruptedException {
+        ReflectionTestUtils.setField(tokenService, "reuseGraceMs", 0L);
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+        tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r2"));
+        Thread.sleep(5);
+
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(credential("r1", "j1"), pair("r3")))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+        assertThat(tokenService.getRefreshTokenFromRedis(MEMBER_ID)).isEmpty();
+        assertThat(epochStore.current(MEMBER_ID)).isPositive();
+        assertThat(redis.getExpire(TokenEpochStore.KEY_PREFIX + MEMBER_ID)).isEqualTo(-1L);
+    }
+
+    @Test
+    void unknownTokenIsInvalid() {
+        tokenService.storeRefreshTokenInRedis(MEMBER_ID, "r1");
+
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(credential("other", "jx"), pair("r2")))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_INVALID);
+        assertThat(tokenService.getRefreshTokenFromRedis(MEMBER_ID)).contains("r1");
+    }
+
+    private static TokenService.RefreshCredential credential(String token, String jti) {
+        return new TokenService.RefreshCredential(MEMBER_ID, token, jti, System.currentTimeMillis() + REFRESH_TTL);
+    }
+
+    private static TokenPair pair(String refresh) {
+        return new TokenPair("access-" + refresh, refresh);
+    }
+}
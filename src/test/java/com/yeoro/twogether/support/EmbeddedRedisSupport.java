@@ -0,0 +1,63 @@
+package com.yeoro.twogether.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 임베디드 Redis 기반 테스트 공통 (클래스당 서버 1개, 테스트마다 FLUSHALL)
+ * - Lua 스크립트/pub-sub을 실제 Redis로 검증할 때 사용
+ */
+public abstract class EmbeddedRedisSupport {
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+
+    protected static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (server != null) server.stop();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    /** pub/sub 리스너 컨테이너 (스토어 생성자에 전달, 시작까지 완료) */
+    protected static RedisMessageListenerContainer listenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+}
@@ -0,0 +1,80 @@
+package com.yeoro.twogether.support;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 S3 대역 (버킷 구분 없이 키 → 메타데이터만 보관)
+ * - head/put/delete만 지원, 나머지 연산은 SDK 기본 구현대로 UnsupportedOperationException
+ */
+public class InMemoryS3Client implements S3Client {
+
+    public record StoredObject(String sha256, long size, String contentType, Instant lastModified) {}
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    /** 클라이언트가 presigned PUT으로 올린 것처럼 객체 저장 */
+    public void store(String key, String sha256, long size, String contentType, Instant lastModified) {
+        objects.put(key, new StoredObject(sha256, size, contentType, lastModified));
+    }
+
+    public boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    public Set<String> keys() {
+        return objects.keySet();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        StoredObject o = objects.get(request.key());
+        if (o == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("missing " + request.key()).build();
+        }
+        return HeadObjectResponse.builder()
+                .contentLength(o.size())
+                .contentType(o.contentType())
+                .lastModified(o.lastModified())
+                .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(o.sha256())))
+                .build();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        String sha256 = request.metadata() == null ? null : request.metadata().get("sha256");
+        objects.put(request.key(), new StoredObject(sha256,
+                request.contentLength() != null ? request.contentLength() : body.optionalContentLength().orElse(0L),
+                request.contentType(), Instant.now()));
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}